@@ -1,5 +1,7 @@
 plugins {
     id("java")
+    application
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "br.com.dio"
@@ -12,13 +14,65 @@ repositories {
 dependencies {
     implementation("org.liquibase:liquibase-core:4.29.1")
     implementation("mysql:mysql-connector-java:8.0.33")
+    implementation("com.zaxxer:HikariCP:4.0.3")
     implementation("org.projectlombok:lombok:1.18.34")
     implementation("org.slf4j:slf4j-api:1.7.36")
     annotationProcessor("org.projectlombok:lombok:1.18.34")
     implementation("ch.qos.logback:logback-classic:1.2.11")
     annotationProcessor("org.projectlombok:lombok:1.18.34")
+    jmh("com.h2database:h2:2.2.224")
+    testImplementation(platform("org.junit:junit-bom:5.10.3"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+}
+
+application {
+    mainClass.set("br.com.dio.Main")
+}
+
+tasks.named<JavaExec>("run") {
+    standardInput = System.`in`
 }
 
 tasks.test {
     useJUnitPlatform()
-}
\ No newline at end of file
+}
+
+tasks.register<JavaExec>("verifyQueryPlans") {
+    group = "verification"
+    description = "Roda EXPLAIN em todos os statements dos DAOs e falha se algum depender de varredura completa."
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("br.com.dio.persistence.migration.QueryPlanVerifier")
+}
+
+tasks.register<JavaExec>("boardSnapshotFootprint") {
+    group = "verification"
+    description = "Compara a memória alocada e retida pelo BoardSnapshot e pelo grafo de entidades de um board de 100.000 cards."
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("br.com.dio.benchmark.BoardSnapshotFootprint")
+}
+
+tasks.register<JavaExec>("migrationStartupTime") {
+    group = "verification"
+    description = "Compara, em JVMs novas, o tempo de inicialização com o Liquibase completo e com a verificação pelo fingerprint."
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("br.com.dio.benchmark.MigrationStartupTime")
+}
+
+jmh {
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    resultFormat.set("JSON")
+    // ex.: ./gradlew jmh -PjmhIncludes=CardDAOBenchmark
+    if (project.hasProperty("jmhIncludes")) {
+        includes.set(listOf(project.property("jmhIncludes").toString()))
+    } else {
+        // precisa de um MySQL local; roda só quando incluído explicitamente
+        excludes.set(listOf("StatementCacheBenchmark"))
+    }
+    // ex.: ./gradlew jmh -PjmhIncludes=BoardSnapshotBenchmark -PjmhProfilers=gc
+    if (project.hasProperty("jmhProfilers")) {
+        profilers.set(project.property("jmhProfilers").toString().split(","))
+    }
+}
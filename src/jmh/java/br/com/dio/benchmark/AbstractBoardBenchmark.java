@@ -0,0 +1,51 @@
+package br.com.dio.benchmark;
+
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.util.SplittableRandom;
+
+/**
+ * Base dos benchmarks: sobe um banco embutido por trial, semeia um board com
+ * {@link #cardsPerBoard} cards e mantém uma conexão aberta por thread do benchmark.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public abstract class AbstractBoardBenchmark {
+
+    @Param({"10", "1000", "10000", "100000"})
+    public int cardsPerBoard;
+
+    protected EmbeddedBoardDatabase database;
+    protected SeededBoard board;
+    protected Connection connection;
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    @Setup(Level.Trial)
+    public void setUpDatabase() throws Exception {
+        database = EmbeddedBoardDatabase.create();
+        board = database.seedBoard(cardsPerBoard);
+        connection = database.getConnection();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownDatabase() throws Exception {
+        connection.close();
+        database.close();
+    }
+
+    protected long randomCardId() {
+        return board.firstCardId() + random.nextLong(board.cardsAmount());
+    }
+
+}
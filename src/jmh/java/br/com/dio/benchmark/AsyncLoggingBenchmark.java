@@ -0,0 +1,163 @@
+package br.com.dio.benchmark;
+
+import br.com.dio.logging.DebugDiscardingAsyncAppender;
+import br.com.dio.logging.KeyValueLayout;
+import br.com.dio.persistence.entity.BoardColumnEntity;
+import br.com.dio.persistence.entity.CardEntity;
+import br.com.dio.service.CardService;
+import br.com.dio.service.ServiceExecutor;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import ch.qos.logback.core.encoder.LayoutWrappingEncoder;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.slf4j.Logger.ROOT_LOGGER_NAME;
+
+/**
+ * Throughput de {@link CardService#create} com o log INFO de cada mutação escrito direto pelo
+ * appender ({@code sync}) ou pela fila do {@link DebugDiscardingAsyncAppender} ({@code async}).
+ * O appender de destino grava em um arquivo temporário com flush a cada evento, como o console,
+ * para não misturar as linhas do log com a saída do JMH. Com {@code async} o throughput deve
+ * ficar próximo de {@code off}, em que o log está desligado.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(SECONDS)
+public class AsyncLoggingBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncLoggingBenchmark.class);
+    private static final int BOARDS = 16;
+    private static final int OPERATIONS = 512;
+    private static final int POOL_SIZE = 8;
+    private static final int MAX_CONCURRENCY_PER_BOARD = 4;
+
+    @Param({"sync", "async", "off"})
+    public String appender;
+
+    private EmbeddedBoardDatabase database;
+    private HikariDataSource dataSource;
+    private ServiceExecutor executor;
+    private SeededBoard[] boards;
+    private Path logFile;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        logFile = Files.createTempFile("async-logging-benchmark", ".log");
+        configureLogging();
+        database = EmbeddedBoardDatabase.create();
+        boards = new SeededBoard[BOARDS];
+        for (int i = 0; i < BOARDS; i++) {
+            boards[i] = database.seedBoard(100);
+        }
+        var config = new HikariConfig();
+        config.setJdbcUrl(database.getUrl());
+        config.setAutoCommit(false);
+        config.setMaximumPoolSize(POOL_SIZE);
+        config.setMinimumIdle(POOL_SIZE);
+        dataSource = new HikariDataSource(config);
+        executor = new ServiceExecutor(dataSource::getConnection, POOL_SIZE, MAX_CONCURRENCY_PER_BOARD);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        executor.close();
+        dataSource.close();
+        database.close();
+        ((LoggerContext) LoggerFactory.getILoggerFactory()).reset();
+        Files.deleteIfExists(logFile);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void createCards() {
+        var futures = new CompletableFuture<?>[OPERATIONS];
+        for (int i = 0; i < OPERATIONS; i++) {
+            var board = boards[i % BOARDS];
+            futures[i] = executor.submit(board.boardId(), connection -> {
+                var card = new CardEntity();
+                card.setTitle("log");
+                card.setDescription("card criado pelo benchmark de log assíncrono");
+                var column = new BoardColumnEntity();
+                column.setId(board.initialColumnId());
+                card.setBoardColumn(column);
+                new CardService(connection).create(card);
+                return card;
+            });
+        }
+        CompletableFuture.allOf(futures).join();
+    }
+
+    /**
+     * Custo isolado de uma linha INFO na thread que chama o logger.
+     */
+    @Benchmark
+    public void logMutation() {
+        logger.info("Cartão ID {} movido para a próxima coluna a partir da coluna de ID {}", ++sequence, 1);
+    }
+
+    private void configureLogging() {
+        var context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.reset();
+        var root = context.getLogger(ROOT_LOGGER_NAME);
+        if (appender.equals("off")) {
+            root.setLevel(ch.qos.logback.classic.Level.OFF);
+            return;
+        }
+        var layout = new KeyValueLayout();
+        layout.setContext(context);
+        layout.start();
+        var encoder = new LayoutWrappingEncoder<ILoggingEvent>();
+        encoder.setContext(context);
+        encoder.setLayout(layout);
+        encoder.start();
+        var file = new FileAppender<ILoggingEvent>();
+        file.setContext(context);
+        file.setName("FILE");
+        file.setFile(logFile.toString());
+        file.setEncoder(encoder);
+        file.setImmediateFlush(true);
+        file.start();
+        Appender<ILoggingEvent> target = file;
+        if (appender.equals("async")) {
+            var async = new DebugDiscardingAsyncAppender();
+            async.setContext(context);
+            async.setName("ASYNC");
+            async.setQueueSize(8192);
+            async.setDiscardingThreshold(1024);
+            async.addAppender(file);
+            async.start();
+            target = async;
+        }
+        root.setLevel(ch.qos.logback.classic.Level.INFO);
+        root.addAppender(target);
+    }
+
+}
@@ -0,0 +1,37 @@
+package br.com.dio.benchmark;
+
+import br.com.dio.dto.BoardColumnDTO;
+import br.com.dio.persistence.dao.BoardColumnDAO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+@OutputTimeUnit(MICROSECONDS)
+public class BoardColumnDAOBenchmark extends AbstractBoardBenchmark {
+
+    @Benchmark
+    public List<BoardColumnDTO> findByBoardIdWithDetails() throws SQLException {
+        return new BoardColumnDAO(connection).findByBoardIdWithDetails(board.boardId());
+    }
+
+    /**
+     * Percorre todos os cards da coluna inicial pelo cursor paginado; rode com {@code -prof gc}
+     * para acompanhar a alocação conforme o tamanho da coluna cresce.
+     */
+    @Benchmark
+    public void scanInitialColumnCards(final Blackhole blackhole) throws SQLException {
+        var cursor = new BoardColumnDAO(connection).openCardCursor(board.initialColumnId(), 500);
+        while (cursor.hasNext()) {
+            blackhole.consume(cursor.next());
+        }
+    }
+
+}
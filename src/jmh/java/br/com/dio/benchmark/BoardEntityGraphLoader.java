@@ -0,0 +1,77 @@
+package br.com.dio.benchmark;
+
+import br.com.dio.persistence.entity.BoardColumnEntity;
+import br.com.dio.persistence.entity.BoardEntity;
+import br.com.dio.persistence.entity.CardEntity;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+
+import static br.com.dio.persistence.entity.BoardColumnKindEnum.findByName;
+
+/**
+ * Referência para as comparações com o {@code BoardSnapshot}: carrega o mesmo board, com as
+ * mesmas consultas, no grafo {@link BoardEntity} → {@link BoardColumnEntity} → {@link CardEntity}.
+ */
+final class BoardEntityGraphLoader {
+
+    private BoardEntityGraphLoader() {
+    }
+
+    static BoardEntity load(final Connection connection, final long boardId) throws SQLException {
+        var board = new BoardEntity();
+        board.setId(boardId);
+        var columns = new HashMap<Long, BoardColumnEntity>();
+        var columnsSql = "SELECT id, name, `order`, kind FROM BOARDS_COLUMNS WHERE board_id = ? ORDER BY `order`;";
+        try (var statement = connection.prepareStatement(columnsSql)) {
+            statement.setLong(1, boardId);
+            try (var resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    var column = new BoardColumnEntity();
+                    column.setId(resultSet.getLong("id"));
+                    column.setName(resultSet.getString("name"));
+                    column.setOrder(resultSet.getInt("order"));
+                    column.setKind(findByName(resultSet.getString("kind")));
+                    column.setBoard(board);
+                    board.getBoardColumns().add(column);
+                    columns.put(column.getId(), column);
+                }
+            }
+        }
+        var cardsSql =
+                """
+                SELECT c.board_column_id,
+                       c.id,
+                       c.title,
+                       c.description,
+                       EXISTS(SELECT 1
+                                FROM BLOCKS b
+                               WHERE b.card_id = c.id
+                                 AND b.unblocked_at IS NULL) blocked
+                  FROM CARDS c
+                 INNER JOIN BOARDS_COLUMNS bc
+                    ON bc.id = c.board_column_id
+                 WHERE bc.board_id = ?
+                 ORDER BY c.board_column_id, c.id;
+                """;
+        try (var statement = connection.prepareStatement(cardsSql)) {
+            statement.setFetchSize(1_000);
+            statement.setLong(1, boardId);
+            try (var resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    var column = columns.get(resultSet.getLong("board_column_id"));
+                    var card = new CardEntity();
+                    card.setId(resultSet.getLong("id"));
+                    card.setTitle(resultSet.getString("title"));
+                    card.setDescription(resultSet.getString("description"));
+                    card.setBlocked(resultSet.getBoolean("blocked"));
+                    card.setBoardColumn(column);
+                    column.getCards().add(card);
+                }
+            }
+        }
+        return board;
+    }
+
+}
@@ -0,0 +1,31 @@
+package br.com.dio.benchmark;
+
+import br.com.dio.persistence.cache.BoardStructureCache;
+import br.com.dio.persistence.entity.BoardEntity;
+import br.com.dio.service.BoardQueryService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import java.sql.SQLException;
+import java.util.Optional;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+@OutputTimeUnit(MICROSECONDS)
+public class BoardQueryServiceBenchmark extends AbstractBoardBenchmark {
+
+    @Benchmark
+    public Optional<BoardEntity> findById() throws SQLException {
+        return new BoardQueryService(connection).findById(board.boardId());
+    }
+
+    @Benchmark
+    public Optional<BoardEntity> findByIdCacheMiss() throws SQLException {
+        BoardStructureCache.shared().invalidate(board.boardId());
+        return new BoardQueryService(connection).findById(board.boardId());
+    }
+
+}
@@ -0,0 +1,106 @@
+package br.com.dio.benchmark;
+
+import br.com.dio.persistence.entity.BoardColumnEntity;
+import br.com.dio.persistence.entity.BoardColumnKindEnum;
+import br.com.dio.persistence.entity.BoardEntity;
+import br.com.dio.service.BoardService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static br.com.dio.persistence.entity.BoardColumnKindEnum.CANCEL;
+import static br.com.dio.persistence.entity.BoardColumnKindEnum.FINAL;
+import static br.com.dio.persistence.entity.BoardColumnKindEnum.INITIAL;
+import static br.com.dio.persistence.entity.BoardColumnKindEnum.PENDING;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Compara a criação de {@link #boards} quadros a partir de um template, um a um com
+ * {@link BoardService#insert} e em lote com {@link BoardService#insertAll}.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+public class BoardServiceBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int boards;
+
+    @Param({"4", "10"})
+    public int columnsPerBoard;
+
+    private EmbeddedBoardDatabase database;
+    private Connection connection;
+
+    @Setup(Level.Trial)
+    public void setUpDatabase() throws Exception {
+        database = EmbeddedBoardDatabase.create();
+        connection = database.getConnection();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownDatabase() throws Exception {
+        connection.close();
+        database.close();
+    }
+
+    @Benchmark
+    public List<BoardEntity> insertOneByOne() throws SQLException {
+        var service = new BoardService(connection);
+        var entities = templates();
+        for (var entity : entities) {
+            service.insert(entity);
+        }
+        return entities;
+    }
+
+    @Benchmark
+    public List<BoardEntity> insertAll() throws SQLException {
+        return new BoardService(connection).insertAll(templates());
+    }
+
+    private List<BoardEntity> templates() {
+        List<BoardEntity> entities = new ArrayList<>(boards);
+        for (int b = 0; b < boards; b++) {
+            var entity = new BoardEntity();
+            entity.setName("template " + b);
+            List<BoardColumnEntity> columns = new ArrayList<>(columnsPerBoard);
+            columns.add(column("inicial", INITIAL, 0));
+            for (int i = 1; i < columnsPerBoard - 2; i++) {
+                columns.add(column("pendente " + i, PENDING, i));
+            }
+            columns.add(column("final", FINAL, columnsPerBoard - 2));
+            columns.add(column("cancelado", CANCEL, columnsPerBoard - 1));
+            entity.setBoardColumns(columns);
+            entities.add(entity);
+        }
+        return entities;
+    }
+
+    private BoardColumnEntity column(final String name, final BoardColumnKindEnum kind, final int order) {
+        var column = new BoardColumnEntity();
+        column.setName(name);
+        column.setKind(kind);
+        column.setOrder(order);
+        return column;
+    }
+
+}
@@ -0,0 +1,76 @@
+package br.com.dio.benchmark;
+
+import br.com.dio.persistence.dao.BoardSnapshotDAO;
+import br.com.dio.persistence.entity.BoardEntity;
+import br.com.dio.snapshot.BoardSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.sql.SQLException;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/**
+ * Carga e leitura do board inteiro no grafo de entidades contra o {@link BoardSnapshot}.
+ * Rode com {@code -PjmhProfilers=gc} para ver a alocação por operação
+ * ({@code gc.alloc.rate.norm}); o espaço ocupado pelo board carregado é medido pelo
+ * {@link BoardSnapshotFootprint}.
+ * <p>
+ * Meta: com 100.000 cards, a carga da foto deve alocar no máximo metade do grafo de
+ * entidades, e as leituras da foto não devem alocar nada.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+public class BoardSnapshotBenchmark extends AbstractBoardBenchmark {
+
+    private BoardEntity entityGraph;
+    private BoardSnapshot snapshot;
+
+    @Setup(Level.Trial)
+    public void loadBoards() throws SQLException {
+        entityGraph = BoardEntityGraphLoader.load(connection, board.boardId());
+        snapshot = new BoardSnapshotDAO(connection).findByBoardId(board.boardId()).orElseThrow();
+        connection.commit();
+    }
+
+    @Benchmark
+    public BoardEntity loadEntityGraph() throws SQLException {
+        return BoardEntityGraphLoader.load(connection, board.boardId());
+    }
+
+    @Benchmark
+    public BoardSnapshot loadSnapshot() throws SQLException {
+        return new BoardSnapshotDAO(connection).findByBoardId(board.boardId()).orElseThrow();
+    }
+
+    /**
+     * Conta os cards bloqueados da coluna inicial, como uma visão do board faria.
+     */
+    @Benchmark
+    public int scanEntityGraph() {
+        var blocked = 0;
+        for (var card : entityGraph.getInitialColumn().getCards()) {
+            if (card.isBlocked()) {
+                blocked++;
+            }
+        }
+        return blocked;
+    }
+
+    @Benchmark
+    public int scanSnapshot() {
+        var blocked = 0;
+        var column = snapshot.initialColumn();
+        for (int i = snapshot.columnStart(column); i < snapshot.columnEnd(column); i++) {
+            if (snapshot.isCardBlocked(i)) {
+                blocked++;
+            }
+        }
+        return blocked;
+    }
+
+}
@@ -0,0 +1,72 @@
+package br.com.dio.benchmark;
+
+import br.com.dio.persistence.dao.BoardSnapshotDAO;
+import com.sun.management.ThreadMXBean;
+
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.sql.SQLException;
+
+/**
+ * Relatório de memória do {@code BoardSnapshot} contra o grafo de entidades para um board de
+ * 100.000 cards (ou o total passado como argumento): bytes alocados na carga, medidos pelo
+ * contador de alocação da thread, e heap retido pelo board carregado, medido pela diferença
+ * de heap usado depois de coletas completas.
+ * <p>
+ * {@code ./gradlew boardSnapshotFootprint}
+ */
+public final class BoardSnapshotFootprint {
+
+    private static final int WARMUP_LOADS = 5;
+
+    private BoardSnapshotFootprint() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        var cards = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        try (var database = EmbeddedBoardDatabase.create()) {
+            var board = database.seedBoard(cards);
+            try (var connection = database.getConnection()) {
+                Loader entityGraph = () -> BoardEntityGraphLoader.load(connection, board.boardId());
+                Loader snapshot = () -> new BoardSnapshotDAO(connection).findByBoardId(board.boardId()).orElseThrow();
+                for (int i = 0; i < WARMUP_LOADS; i++) {
+                    entityGraph.load();
+                    snapshot.load();
+                }
+                System.out.printf("Board com %,d cards%n", cards);
+                System.out.printf("%-16s %18s %18s%n", "estrutura", "alocado (bytes)", "retido (bytes)");
+                report("grafo de entidades", entityGraph);
+                report("snapshot", snapshot);
+                connection.rollback();
+            }
+        }
+    }
+
+    private static void report(final String name, final Loader loader) throws SQLException {
+        var threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        var before = usedHeap();
+        var allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        var loaded = loader.load();
+        var allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        var retained = usedHeap() - before;
+        System.out.printf("%-16s %,18d %,18d%n", name, allocated, retained);
+        // mantém o board vivo até a medição do heap retido
+        Reference.reachabilityFence(loaded);
+    }
+
+    private static long usedHeap() {
+        var memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    @FunctionalInterface
+    private interface Loader {
+
+        Object load() throws SQLException;
+
+    }
+
+}
@@ -0,0 +1,112 @@
+package br.com.dio.benchmark;
+
+import br.com.dio.dto.BulkTransitionResultDTO;
+import br.com.dio.service.CardBulkService;
+import br.com.dio.service.CardService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Transição de todos os cards de um board: o laço card a card do {@link CardService} (leitura,
+ * UPDATE e commit por card) contra as operações em lote do {@link CardBulkService}. Antes de
+ * cada invocação os cards voltam para a coluna inicial, desbloqueados.
+ * <p>
+ * Meta: com 1.000 cards, cada operação em lote deve levar no máximo um décimo do tempo do laço
+ * card a card e sustentar ao menos 20.000 cards/s (50 ms por invocação).
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+public class BulkTransitionBenchmark {
+
+    @Param({"100", "1000"})
+    public int cards;
+
+    private EmbeddedBoardDatabase database;
+    private SeededBoard board;
+    private Connection connection;
+    private List<Long> cardIds;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        database = EmbeddedBoardDatabase.create();
+        board = database.seedBoard(cards);
+        connection = database.getConnection();
+        cardIds = LongStream.rangeClosed(board.firstCardId(), board.lastCardId()).boxed().toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        connection.close();
+        database.close();
+    }
+
+    @Setup(Level.Invocation)
+    public void resetCards() throws SQLException {
+        try (var statement = connection.prepareStatement("DELETE FROM BLOCKS WHERE card_id BETWEEN ? AND ?;")) {
+            statement.setLong(1, board.firstCardId());
+            statement.setLong(2, board.lastCardId());
+            statement.executeUpdate();
+        }
+        try (var statement = connection.prepareStatement("UPDATE CARDS SET board_column_id = ? WHERE id BETWEEN ? AND ?;")) {
+            statement.setLong(1, board.initialColumnId());
+            statement.setLong(2, board.firstCardId());
+            statement.setLong(3, board.lastCardId());
+            statement.executeUpdate();
+        }
+        try (var statement = connection.prepareStatement(
+                "UPDATE BOARDS_COLUMNS SET cards_amount = CASE WHEN id = ? THEN ? ELSE 0 END WHERE board_id = ?;")) {
+            statement.setLong(1, board.initialColumnId());
+            statement.setInt(2, cards);
+            statement.setLong(3, board.boardId());
+            statement.executeUpdate();
+        }
+        connection.commit();
+    }
+
+    @Benchmark
+    public void moveEachCard() throws SQLException {
+        var service = new CardService(connection);
+        var columnsInfo = board.columnsInfo();
+        for (var cardId : cardIds) {
+            service.moveToNextColumn(cardId, columnsInfo);
+        }
+    }
+
+    @Benchmark
+    public BulkTransitionResultDTO moveColumnToNext() throws SQLException {
+        return new CardBulkService(connection).moveColumnToNext(board.initialColumnId());
+    }
+
+    @Benchmark
+    public BulkTransitionResultDTO cancelAll() throws SQLException {
+        return new CardBulkService(connection).cancelAll(board.boardId(), board.cancelColumnId(), cardIds);
+    }
+
+    @Benchmark
+    public BulkTransitionResultDTO blockAll() throws SQLException {
+        return new CardBulkService(connection).blockAll(board.boardId(), board.initialColumnId(), null, "benchmark");
+    }
+
+}
@@ -0,0 +1,45 @@
+package br.com.dio.benchmark;
+
+import br.com.dio.dto.CardDetailsDTO;
+import br.com.dio.persistence.dao.CardDAO;
+import br.com.dio.persistence.entity.BoardColumnEntity;
+import br.com.dio.persistence.entity.CardEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import java.sql.SQLException;
+import java.util.Optional;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+@OutputTimeUnit(MICROSECONDS)
+public class CardDAOBenchmark extends AbstractBoardBenchmark {
+
+    @Benchmark
+    public Optional<CardEntity> findEntityById() throws SQLException {
+        return new CardDAO(connection).findEntityById(randomCardId());
+    }
+
+    @Benchmark
+    public Optional<CardDetailsDTO> findDetailsById() throws SQLException {
+        return new CardDAO(connection).findById(randomCardId());
+    }
+
+    @Benchmark
+    public CardEntity insert() throws SQLException {
+        var card = new CardEntity();
+        card.setTitle("benchmark");
+        card.setDescription("card inserido pelo benchmark");
+        var column = new BoardColumnEntity();
+        column.setId(board.initialColumnId());
+        card.setBoardColumn(column);
+        new CardDAO(connection).insert(card);
+        // desfaz a inserção para o tamanho do board ficar estável entre as iterações
+        connection.rollback();
+        return card;
+    }
+
+}
@@ -0,0 +1,84 @@
+package br.com.dio.benchmark;
+
+import br.com.dio.dto.CardTextDTO;
+import br.com.dio.search.CardSearchIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/**
+ * Latência de busca no {@link CardSearchIndex} com um board de um milhão de cards, sem banco:
+ * os textos são sorteados de um vocabulário em que poucos termos são muito frequentes e a
+ * maioria é rara, como em títulos reais. Cada consulta deve ficar abaixo de um milissegundo.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+public class CardSearchBenchmark {
+
+    private static final long BOARD_ID = 1;
+    private static final long COLUMN_ID = 1;
+    private static final int CARDS = 1_000_000;
+    private static final int VOCABULARY = 20_000;
+    private static final int TERMS_PER_CARD = 8;
+    private static final int LIMIT = 50;
+
+    @Param({"frequente", "rara", "frequente rara", "pre*", "frequente pre*"})
+    public String query;
+
+    private final CardSearchIndex index = new CardSearchIndex();
+    private String resolvedQuery;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var random = new SplittableRandom(42);
+        var vocabulary = new String[VOCABULARY];
+        for (int i = 0; i < VOCABULARY; i++) {
+            vocabulary[i] = "t" + Integer.toString(i, 36);
+        }
+        index.registerColumn(COLUMN_ID, BOARD_ID);
+        var title = new StringBuilder();
+        for (long cardId = 1; cardId <= CARDS; cardId++) {
+            title.setLength(0);
+            for (int i = 0; i < TERMS_PER_CARD; i++) {
+                // distribuição aproximadamente de Zipf: o termo k aparece com frequência ~1/k
+                var term = (int) Math.min(VOCABULARY - 1, Math.exp(random.nextDouble() * Math.log(VOCABULARY)) - 1);
+                title.append(vocabulary[term]).append(' ');
+            }
+            index.index(new CardTextDTO(cardId, COLUMN_ID, title.toString(), "card do benchmark de busca"));
+        }
+        index.trimToSize();
+        // "frequente" é o termo mais comum, "rara" um da cauda e "pre*" o prefixo de uma faixa de termos
+        resolvedQuery = query.replace("frequente", vocabulary[0])
+                .replace("rara", vocabulary[VOCABULARY / 2])
+                .replace("pre*", "t1*");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        index.clear();
+    }
+
+    @Benchmark
+    public long[] search() {
+        return index.search(BOARD_ID, resolvedQuery, LIMIT);
+    }
+
+}
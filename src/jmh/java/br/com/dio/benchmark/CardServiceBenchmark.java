@@ -0,0 +1,44 @@
+package br.com.dio.benchmark;
+
+import br.com.dio.persistence.dao.BoardColumnDAO;
+import br.com.dio.persistence.dao.CardDAO;
+import br.com.dio.service.CardService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.sql.SQLException;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+@OutputTimeUnit(MICROSECONDS)
+public class CardServiceBenchmark extends AbstractBoardBenchmark {
+
+    private long cardId;
+
+    /**
+     * Devolve o card sorteado para a coluna inicial antes de cada invocação, assim todo
+     * movimento medido parte do mesmo estado.
+     */
+    @Setup(Level.Invocation)
+    public void resetCard() throws SQLException {
+        cardId = randomCardId();
+        var card = new CardDAO(connection).findEntityById(cardId).orElseThrow();
+        var currentColumnId = card.getBoardColumn().getId();
+        if (currentColumnId != board.initialColumnId()) {
+            new CardDAO(connection).moveToColumn(cardId, board.initialColumnId(), currentColumnId, card.getVersion());
+            new BoardColumnDAO(connection).transferCardsAmount(currentColumnId, board.initialColumnId());
+        }
+        connection.commit();
+    }
+
+    @Benchmark
+    public void moveToNextColumn() throws SQLException {
+        new CardService(connection).moveToNextColumn(cardId, board.columnsInfo());
+    }
+
+}
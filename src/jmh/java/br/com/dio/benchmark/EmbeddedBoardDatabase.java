@@ -0,0 +1,127 @@
+package br.com.dio.benchmark;
+
+import liquibase.Liquibase;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.exception.LiquibaseException;
+import liquibase.resource.ClassLoaderResourceAccessor;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+/**
+ * Banco H2 em memória (modo MySQL) com o schema aplicado pelo mesmo changelog do Liquibase
+ * usado em produção. Cada instância usa um banco isolado, descartado no {@link #close()}.
+ */
+public final class EmbeddedBoardDatabase implements AutoCloseable {
+
+    private static final int SEED_BATCH_SIZE = 1_000;
+
+    private final String url;
+    private final Connection keepAlive;
+
+    private EmbeddedBoardDatabase(final String url) throws SQLException {
+        this.url = url;
+        this.keepAlive = DriverManager.getConnection(url);
+    }
+
+    public static EmbeddedBoardDatabase create() throws SQLException, LiquibaseException {
+        var url = "jdbc:h2:mem:board_%s;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"
+                .formatted(UUID.randomUUID().toString().replace("-", ""));
+        var database = new EmbeddedBoardDatabase(url);
+        database.migrate();
+        return database;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public Connection getConnection() throws SQLException {
+        var connection = DriverManager.getConnection(url);
+        connection.setAutoCommit(false);
+        return connection;
+    }
+
+    /**
+     * Cria um board com as colunas INITIAL, PENDING, FINAL e CANCEL e insere {@code cards}
+     * cards na coluna inicial.
+     */
+    public SeededBoard seedBoard(final int cards) throws SQLException {
+        try (var connection = getConnection()) {
+            var boardId = insertAndGetId(connection, "INSERT INTO BOARDS (name) VALUES ('benchmark');");
+            var columnIds = new long[4];
+            var kinds = new String[]{"INITIAL", "PENDING", "FINAL", "CANCEL"};
+            for (int i = 0; i < kinds.length; i++) {
+                columnIds[i] = insertAndGetId(connection,
+                        "INSERT INTO BOARDS_COLUMNS (name, `order`, kind, board_id) VALUES ('%s', %d, '%s', %d);"
+                                .formatted(kinds[i].toLowerCase(), i, kinds[i], boardId));
+            }
+            var sql = "INSERT INTO CARDS (title, description, board_column_id) VALUES (?, ?, ?);";
+            try (var statement = connection.prepareStatement(sql)) {
+                for (int i = 0; i < cards; i++) {
+                    statement.setString(1, "card " + i);
+                    statement.setString(2, "descrição do card " + i);
+                    statement.setLong(3, columnIds[0]);
+                    statement.addBatch();
+                    if ((i + 1) % SEED_BATCH_SIZE == 0) {
+                        statement.executeBatch();
+                    }
+                }
+                statement.executeBatch();
+            }
+            try (var statement = connection.prepareStatement("UPDATE BOARDS_COLUMNS SET cards_amount = ? WHERE id = ?;")) {
+                statement.setInt(1, cards);
+                statement.setLong(2, columnIds[0]);
+                statement.executeUpdate();
+            }
+            long firstCardId = 0;
+            long lastCardId = 0;
+            var idsSql = "SELECT MIN(c.id), MAX(c.id) FROM CARDS c JOIN BOARDS_COLUMNS bc ON bc.id = c.board_column_id WHERE bc.board_id = ?;";
+            try (var statement = connection.prepareStatement(idsSql)) {
+                statement.setLong(1, boardId);
+                try (var resultSet = statement.executeQuery()) {
+                    if (resultSet.next()) {
+                        firstCardId = resultSet.getLong(1);
+                        lastCardId = resultSet.getLong(2);
+                    }
+                }
+            }
+            connection.commit();
+            return new SeededBoard(boardId, columnIds[0], columnIds[1], columnIds[2], columnIds[3], firstCardId, lastCardId);
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try (var statement = keepAlive.createStatement()) {
+            statement.execute("SHUTDOWN");
+        } finally {
+            keepAlive.close();
+        }
+    }
+
+    private void migrate() throws SQLException, LiquibaseException {
+        try (var connection = DriverManager.getConnection(url);
+             var jdbcConnection = new JdbcConnection(connection)) {
+            var liquibase = new Liquibase(
+                    "/db/changelog/db.changelog-master.yml",
+                    new ClassLoaderResourceAccessor(),
+                    jdbcConnection);
+            liquibase.update();
+        }
+    }
+
+    private static long insertAndGetId(final Connection connection, final String sql) throws SQLException {
+        try (var statement = connection.createStatement()) {
+            statement.executeUpdate(sql, Statement.RETURN_GENERATED_KEYS);
+            try (var generatedKeys = statement.getGeneratedKeys()) {
+                generatedKeys.next();
+                return generatedKeys.getLong(1);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,62 @@
+package br.com.dio.benchmark;
+
+import br.com.dio.persistence.entity.BoardColumnKindEnum;
+import br.com.dio.persistence.entity.CardEventTypeEnum;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.stream.Stream;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Conversão do texto gravado no banco para o enum: a busca antiga, com um {@link Stream} por
+ * chamada, contra o {@code findByName} atual, que consulta um mapa montado uma vez. Com
+ * {@code -PjmhProfilers=gc}, o {@code findByName} atual não deve alocar.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+public class EnumDecodingBenchmark {
+
+    private final String[] kinds = {"INITIAL", "PENDING", "FINAL", "CANCEL"};
+    private final String[] eventTypes = {"BACKFILLED", "CREATED", "MOVED", "BLOCKED", "UNBLOCKED", "CANCELLED", "DELETED"};
+    private int next;
+
+    @Benchmark
+    public BoardColumnKindEnum kindByStream() {
+        var name = kinds[next++ & 3];
+        return Stream.of(BoardColumnKindEnum.values())
+                .filter(b -> b.name().equals(name))
+                .findFirst().orElseThrow();
+    }
+
+    @Benchmark
+    public BoardColumnKindEnum kindByName() {
+        return BoardColumnKindEnum.findByName(kinds[next++ & 3]);
+    }
+
+    @Benchmark
+    public CardEventTypeEnum eventTypeByStream() {
+        var name = eventTypes[(next++ & Integer.MAX_VALUE) % eventTypes.length];
+        return Stream.of(CardEventTypeEnum.values())
+                .filter(e -> e.name().equals(name))
+                .findFirst().orElseThrow();
+    }
+
+    @Benchmark
+    public CardEventTypeEnum eventTypeByName() {
+        return CardEventTypeEnum.findByName(eventTypes[(next++ & Integer.MAX_VALUE) % eventTypes.length]);
+    }
+
+}
@@ -0,0 +1,89 @@
+package br.com.dio.benchmark;
+
+import br.com.dio.dto.CardDetailsDTO;
+import br.com.dio.metrics.OperationMetrics;
+import br.com.dio.metrics.OperationTimer;
+import br.com.dio.persistence.dao.CardDAO;
+import br.com.dio.persistence.entity.CardEntity;
+import br.com.dio.service.CardQueryService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Custo da instrumentação dos DAOs e services: as mesmas chamadas com as medições ligadas e
+ * desligadas, mais o custo isolado de um {@link OperationTimer} em torno de uma operação vazia.
+ * A diferença entre {@code instrumented=true} e {@code false} deve ficar em poucos por cento
+ * do tempo das chamadas ao banco.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+public class InstrumentationOverheadBenchmark {
+
+    private static final OperationTimer EMPTY_TIMER = OperationMetrics.timer("InstrumentationOverheadBenchmark.empty");
+
+    @Param({"true", "false"})
+    public boolean instrumented;
+
+    private EmbeddedBoardDatabase database;
+    private SeededBoard board;
+    private Connection connection;
+    private final SplittableRandom random = new SplittableRandom(42);
+    private long value;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        OperationMetrics.setEnabled(instrumented);
+        database = EmbeddedBoardDatabase.create();
+        board = database.seedBoard(10_000);
+        connection = database.getConnection();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        connection.close();
+        database.close();
+        OperationMetrics.setEnabled(true);
+    }
+
+    @Benchmark
+    public long emptyOperation() {
+        return EMPTY_TIMER.record(() -> value++);
+    }
+
+    @Benchmark
+    public Optional<CardEntity> daoFindEntityById() throws SQLException {
+        return new CardDAO(connection).findEntityById(randomCardId());
+    }
+
+    @Benchmark
+    public Optional<CardDetailsDTO> serviceFindById() throws SQLException {
+        return new CardQueryService(connection).findById(randomCardId());
+    }
+
+    private long randomCardId() {
+        return board.firstCardId() + random.nextLong(board.cardsAmount());
+    }
+
+}
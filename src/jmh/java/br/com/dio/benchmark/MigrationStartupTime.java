@@ -0,0 +1,113 @@
+package br.com.dio.benchmark;
+
+import br.com.dio.persistence.migration.MigrationStrategy;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.DriverManager;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Tempo de inicialização com o schema já atualizado, em JVMs novas, comparando a execução
+ * completa do Liquibase ({@code executeMigration}, o comportamento anterior) com a verificação
+ * pelo fingerprint ({@code executeMigrationIfPending}). Cada rodada sobe um processo por modo,
+ * alternando a ordem, e mede o tempo de parede do processo e o tempo dentro do {@code main} até
+ * a migração terminar, que é o trecho da inicialização que antecede o menu.
+ * <p>
+ * {@code ./gradlew migrationStartupTime} (10 rodadas; a quantidade pode ser passada como argumento)
+ */
+public final class MigrationStartupTime {
+
+    private static final List<String> MODES = List.of("liquibase", "fingerprint");
+    private static final String ELAPSED_PREFIX = "elapsedMillis=";
+
+    private MigrationStartupTime() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        if (args.length == 2) {
+            migrate(args[0], args[1]);
+            return;
+        }
+        var rounds = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        var directory = Files.createTempDirectory("migration-startup");
+        try {
+            var url = "jdbc:h2:file:%s;MODE=MySQL;DATABASE_TO_LOWER=TRUE".formatted(directory.resolve("board"));
+            run(url, "liquibase");
+            List<long[]> wall = List.of(new long[rounds], new long[rounds]);
+            List<long[]> inProcess = List.of(new long[rounds], new long[rounds]);
+            for (int round = 0; round < rounds; round++) {
+                for (int i = 0; i < MODES.size(); i++) {
+                    var mode = (round + i) % MODES.size();
+                    var startedAt = System.nanoTime();
+                    inProcess.get(mode)[round] = run(url, MODES.get(mode));
+                    wall.get(mode)[round] = NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+                }
+            }
+            System.out.printf("%d rodadas, schema atualizado%n", rounds);
+            System.out.printf("%-12s %16s %16s %16s%n", "modo", "processo p50 ms", "processo máx ms", "main p50 ms");
+            for (int mode = 0; mode < MODES.size(); mode++) {
+                System.out.printf("%-12s %16d %16d %16d%n", MODES.get(mode),
+                        median(wall.get(mode)), Arrays.stream(wall.get(mode)).max().orElse(0), median(inProcess.get(mode)));
+            }
+        } finally {
+            try (Stream<Path> files = Files.walk(directory)) {
+                for (var file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sobe uma JVM com o mesmo classpath que migra o banco no modo informado e devolve o tempo
+     * medido por ela dentro do {@code main}.
+     */
+    private static long run(final String url, final String mode) throws Exception {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(MigrationStartupTime.class.getName());
+        command.add(url);
+        command.add(mode);
+        var process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+        var output = new String(process.getInputStream().readAllBytes()).strip();
+        if (process.waitFor() != 0) {
+            throw new IllegalStateException("A migração no modo %s falhou: %s".formatted(mode, output));
+        }
+        // o log da aplicação também vai para a saída padrão
+        return output.lines()
+                .filter(line -> line.startsWith(ELAPSED_PREFIX))
+                .mapToLong(line -> Long.parseLong(line.substring(ELAPSED_PREFIX.length())))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Tempo não informado pelo modo " + mode));
+    }
+
+    private static void migrate(final String url, final String mode) throws Exception {
+        var startedAt = System.nanoTime();
+        try (var connection = DriverManager.getConnection(url)) {
+            connection.setAutoCommit(false);
+            var strategy = new MigrationStrategy(connection);
+            if (mode.equals("liquibase")) {
+                strategy.executeMigration();
+            } else {
+                strategy.executeMigrationIfPending();
+            }
+        }
+        System.out.println(ELAPSED_PREFIX + NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    private static long median(final long[] values) {
+        var sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+}
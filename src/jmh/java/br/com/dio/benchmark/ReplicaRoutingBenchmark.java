@@ -0,0 +1,115 @@
+package br.com.dio.benchmark;
+
+import br.com.dio.dto.BoardDetailsDTO;
+import br.com.dio.persistence.config.ReplicaRouter;
+import br.com.dio.service.BoardQueryService;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/**
+ * Leituras de detalhes do board pelo {@link ReplicaRouter} com dois bancos locais: um primário e
+ * uma réplica, semeados com o mesmo board. Com {@code replicaAvailable=false} a réplica aponta
+ * para um banco inexistente, e as leituras exercitam a troca para o primário.
+ * <p>
+ * Meta: o roteamento custa menos de 5% sobre a leitura direta no primário, e com a réplica fora
+ * do ar a latência volta à do primário depois da primeira falha (a réplica só é tentada de novo
+ * depois de {@code retryMillis}).
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+public class ReplicaRoutingBenchmark {
+
+    @Param({"ROUND_ROBIN", "LEAST_BUSY"})
+    public String balancing;
+
+    @Param({"true", "false"})
+    public boolean replicaAvailable;
+
+    private EmbeddedBoardDatabase primaryDatabase;
+    private EmbeddedBoardDatabase replicaDatabase;
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+    private ReplicaRouter router;
+    private long boardId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        primaryDatabase = EmbeddedBoardDatabase.create();
+        boardId = primaryDatabase.seedBoard(1_000).boardId();
+        primary = pool("primary", primaryDatabase.getUrl());
+        String replicaUrl;
+        if (replicaAvailable) {
+            replicaDatabase = EmbeddedBoardDatabase.create();
+            replicaDatabase.seedBoard(1_000);
+            replicaUrl = replicaDatabase.getUrl();
+        } else {
+            replicaUrl = "jdbc:h2:mem:missing_%s;IFEXISTS=TRUE".formatted(UUID.randomUUID().toString().replace("-", ""));
+        }
+        replica = pool("replica", replicaUrl);
+        Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+        replicas.put(replica.getPoolName(), replica);
+        router = new ReplicaRouter(primary, replicas, ReplicaRouter.Balancing.parse(balancing), 2_000, 5_000);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        replica.close();
+        primary.close();
+        if (replicaDatabase != null) {
+            replicaDatabase.close();
+        }
+        primaryDatabase.close();
+    }
+
+    @Benchmark
+    public BoardDetailsDTO readFromPrimary() throws SQLException {
+        try (var connection = primary.getConnection()) {
+            return new BoardQueryService(connection).showBoardDetails(boardId).orElseThrow();
+        }
+    }
+
+    @Benchmark
+    public BoardDetailsDTO readThroughRouter() throws SQLException {
+        try (var connection = router.getReadConnection()) {
+            return new BoardQueryService(connection).showBoardDetails(boardId).orElseThrow();
+        }
+    }
+
+    private static HikariDataSource pool(final String name, final String url) {
+        var config = new HikariConfig();
+        config.setPoolName(name);
+        config.setJdbcUrl(url);
+        config.setAutoCommit(false);
+        config.setMaximumPoolSize(4);
+        config.setConnectionTimeout(250);
+        config.setInitializationFailTimeout(-1);
+        return new HikariDataSource(config);
+    }
+
+}
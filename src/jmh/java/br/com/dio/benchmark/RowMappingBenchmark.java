@@ -0,0 +1,78 @@
+package br.com.dio.benchmark;
+
+import br.com.dio.dto.CardTextDTO;
+import br.com.dio.persistence.mapping.ColumnLayout;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/**
+ * Leitura de todos os cards do board com o mapeamento antigo, pelo rótulo das colunas, contra o
+ * {@link ColumnLayout}, que lê por índice, e contra o consumo direto do {@code Row}
+ * reaproveitado, sem um objeto por linha. Rode com {@code -PjmhProfilers=gc} e divida o
+ * {@code gc.alloc.rate.norm} por {@code cardsPerBoard} para obter a alocação por linha.
+ * <p>
+ * Meta: o mapeamento por índice aloca menos por linha que o mapeamento por rótulo, e o consumo
+ * direto do {@code Row} aloca só os textos que o driver cria.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+public class RowMappingBenchmark extends AbstractBoardBenchmark {
+
+    private static final String SQL = "SELECT id, board_column_id, title, description FROM CARDS WHERE board_column_id = ? ORDER BY id;";
+    private static final ColumnLayout TEXT_LAYOUT = ColumnLayout.of("id", "board_column_id", "title", "description");
+
+    @Benchmark
+    public void mapByLabel(final Blackhole blackhole) throws SQLException {
+        try (var statement = connection.prepareStatement(SQL)) {
+            statement.setLong(1, board.initialColumnId());
+            try (var resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    blackhole.consume(new CardTextDTO(
+                            resultSet.getLong("id"),
+                            resultSet.getLong("board_column_id"),
+                            resultSet.getString("title"),
+                            resultSet.getString("description")
+                    ));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void mapByLayout(final Blackhole blackhole) throws SQLException {
+        try (var statement = connection.prepareStatement(SQL)) {
+            statement.setLong(1, board.initialColumnId());
+            try (var resultSet = statement.executeQuery()) {
+                TEXT_LAYOUT.forEach(resultSet, row -> new CardTextDTO(
+                        row.getLong(0),
+                        row.getLong(1),
+                        row.getString(2),
+                        row.getString(3)
+                ), blackhole::consume);
+            }
+        }
+    }
+
+    @Benchmark
+    public long consumeRows() throws SQLException {
+        try (var statement = connection.prepareStatement(SQL)) {
+            statement.setLong(1, board.initialColumnId());
+            try (var resultSet = statement.executeQuery()) {
+                var row = TEXT_LAYOUT.rows(resultSet);
+                var checksum = 0L;
+                while (row.next()) {
+                    checksum += row.getLong(0) + row.getString(2).length();
+                }
+                return checksum;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,30 @@
+package br.com.dio.benchmark;
+
+import br.com.dio.dto.BoardColumnInfoDTO;
+
+import java.util.List;
+
+import static br.com.dio.persistence.entity.BoardColumnKindEnum.CANCEL;
+import static br.com.dio.persistence.entity.BoardColumnKindEnum.FINAL;
+import static br.com.dio.persistence.entity.BoardColumnKindEnum.INITIAL;
+import static br.com.dio.persistence.entity.BoardColumnKindEnum.PENDING;
+
+public record SeededBoard(long boardId,
+                          long initialColumnId,
+                          long pendingColumnId,
+                          long finalColumnId,
+                          long cancelColumnId,
+                          long firstCardId,
+                          long lastCardId) {
+
+    public long cardsAmount() {
+        return lastCardId == 0 ? 0 : lastCardId - firstCardId + 1;
+    }
+
+    public List<BoardColumnInfoDTO> columnsInfo() {
+        return List.of(new BoardColumnInfoDTO(initialColumnId, 0, INITIAL),
+                new BoardColumnInfoDTO(pendingColumnId, 1, PENDING),
+                new BoardColumnInfoDTO(finalColumnId, 2, FINAL),
+                new BoardColumnInfoDTO(cancelColumnId, 3, CANCEL));
+    }
+}
@@ -0,0 +1,111 @@
+package br.com.dio.benchmark;
+
+import br.com.dio.persistence.entity.BoardColumnEntity;
+import br.com.dio.persistence.entity.CardEntity;
+import br.com.dio.service.CardService;
+import br.com.dio.service.ServiceExecutor;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Throughput de {@link CardService#create} disparado pelo {@link ServiceExecutor} com pools de
+ * tamanhos diferentes. Em {@link #createCards()} as criações são distribuídas entre
+ * {@link #BOARDS} boards, e o esperado é escalar quase linearmente até o tamanho do pool. Em
+ * {@link #createCardsOnOneBoard()} todas vão para o mesmo board: com
+ * {@code maxConcurrencyPerBoard=2} o throughput deve parar de crescer a partir de
+ * {@code poolSize=2}, mostrando o limite por board em ação.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(SECONDS)
+public class ServiceExecutorBenchmark {
+
+    private static final int BOARDS = 16;
+    private static final int OPERATIONS = 512;
+
+    @Param({"1", "2", "4", "8", "16"})
+    public int poolSize;
+
+    @Param({"2", "512"})
+    public int maxConcurrencyPerBoard;
+
+    private EmbeddedBoardDatabase database;
+    private HikariDataSource dataSource;
+    private ServiceExecutor executor;
+    private SeededBoard[] boards;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        database = EmbeddedBoardDatabase.create();
+        boards = new SeededBoard[BOARDS];
+        for (int i = 0; i < BOARDS; i++) {
+            boards[i] = database.seedBoard(100);
+        }
+        var config = new HikariConfig();
+        config.setJdbcUrl(database.getUrl());
+        config.setAutoCommit(false);
+        config.setMaximumPoolSize(poolSize);
+        config.setMinimumIdle(poolSize);
+        dataSource = new HikariDataSource(config);
+        executor = new ServiceExecutor(dataSource::getConnection, poolSize, maxConcurrencyPerBoard);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        executor.close();
+        dataSource.close();
+        database.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void createCards() {
+        createCards(BOARDS);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void createCardsOnOneBoard() {
+        createCards(1);
+    }
+
+    private void createCards(final int boardsAmount) {
+        var futures = new CompletableFuture<?>[OPERATIONS];
+        for (int i = 0; i < OPERATIONS; i++) {
+            var board = boards[i % boardsAmount];
+            futures[i] = executor.submit(board.boardId(), connection -> {
+                var card = new CardEntity();
+                card.setTitle("concorrente");
+                card.setDescription("card criado pelo benchmark de concorrência");
+                var column = new BoardColumnEntity();
+                column.setId(board.initialColumnId());
+                card.setBoardColumn(column);
+                new CardService(connection).create(card);
+                return card;
+            });
+        }
+        CompletableFuture.allOf(futures).join();
+    }
+
+}
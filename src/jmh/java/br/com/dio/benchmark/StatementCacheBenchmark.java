@@ -0,0 +1,147 @@
+package br.com.dio.benchmark;
+
+import br.com.dio.dto.CardDetailsDTO;
+import br.com.dio.persistence.config.ConnectionConfig;
+import br.com.dio.persistence.dao.CardDAO;
+import br.com.dio.persistence.entity.CardEntity;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+import static br.com.dio.config.EnvironmentConfig.getEnv;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/**
+ * Efeito do cache de prepared statements do driver do MySQL ({@code useServerPrepStmts},
+ * {@code cachePrepStmts} e {@code prepStmtCacheSize}, configurados pelo {@link ConnectionConfig})
+ * nas consultas dos DAOs, que preparam o statement a cada chamada. Como na aplicação, cada
+ * chamada empresta uma conexão de um pool Hikari de uma conexão física: com {@code driverCache=on}
+ * o pool usa as mesmas propriedades do driver que a aplicação; com {@code off} o cache e o
+ * prepare no servidor ficam desligados.
+ * <p>
+ * Precisa de um MySQL com as migrações aplicadas, no mesmo {@code DB_URL}/{@code DB_USER}/
+ * {@code DB_PASSWORD} da aplicação. O benchmark cria um board próprio e o exclui no final:
+ * {@code ./gradlew jmh -PjmhIncludes=StatementCacheBenchmark}
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+public class StatementCacheBenchmark {
+
+    private static final int CARDS = 1_000;
+
+    @Param({"off", "on"})
+    public String driverCache;
+
+    private HikariDataSource dataSource;
+    private long boardId;
+    private long firstCardId;
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        var config = new HikariConfig();
+        config.setPoolName("statement-cache-benchmark");
+        config.setJdbcUrl(getEnv("DB_URL", "jdbc:mysql://localhost/board"));
+        config.setUsername(getEnv("DB_USER", "root"));
+        config.setPassword(getEnv("DB_PASSWORD", "818283"));
+        config.setMaximumPoolSize(1);
+        ConnectionConfig.addDriverProperties(config);
+        if (driverCache.equals("off")) {
+            config.addDataSourceProperty("useServerPrepStmts", "false");
+            config.addDataSourceProperty("cachePrepStmts", "false");
+        }
+        dataSource = new HikariDataSource(config);
+        try (var connection = dataSource.getConnection()) {
+            seed(connection);
+            connection.commit();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (var connection = dataSource.getConnection();
+             var statement = connection.prepareStatement("DELETE FROM BOARDS WHERE id = ?;")) {
+            statement.setLong(1, boardId);
+            statement.executeUpdate();
+            connection.commit();
+        } finally {
+            dataSource.close();
+        }
+    }
+
+    @Benchmark
+    public Optional<CardEntity> findEntityById() throws SQLException {
+        try (var connection = dataSource.getConnection()) {
+            var card = new CardDAO(connection).findEntityById(randomCardId());
+            connection.rollback();
+            return card;
+        }
+    }
+
+    @Benchmark
+    public Optional<CardDetailsDTO> findDetailsById() throws SQLException {
+        try (var connection = dataSource.getConnection()) {
+            var card = new CardDAO(connection).findById(randomCardId());
+            connection.rollback();
+            return card;
+        }
+    }
+
+    private void seed(final Connection connection) throws SQLException {
+        boardId = insertAndGetId(connection, "INSERT INTO BOARDS (name) VALUES ('statement cache benchmark');");
+        var columnId = insertAndGetId(connection,
+                "INSERT INTO BOARDS_COLUMNS (name, `order`, kind, board_id, cards_amount) VALUES ('initial', 0, 'INITIAL', %d, %d);"
+                        .formatted(boardId, CARDS));
+        var sql = "INSERT INTO CARDS (title, description, board_column_id) VALUES (?, ?, ?);";
+        try (var statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < CARDS; i++) {
+                statement.setString(1, "card " + i);
+                statement.setString(2, "descrição do card " + i);
+                statement.setLong(3, columnId);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+            try (var generatedKeys = statement.getGeneratedKeys()) {
+                generatedKeys.next();
+                firstCardId = generatedKeys.getLong(1);
+            }
+        }
+    }
+
+    private static long insertAndGetId(final Connection connection, final String sql) throws SQLException {
+        try (var statement = connection.createStatement()) {
+            statement.executeUpdate(sql, Statement.RETURN_GENERATED_KEYS);
+            try (var generatedKeys = statement.getGeneratedKeys()) {
+                generatedKeys.next();
+                return generatedKeys.getLong(1);
+            }
+        }
+    }
+
+    private long randomCardId() {
+        return firstCardId + random.nextLong(CARDS);
+    }
+
+}
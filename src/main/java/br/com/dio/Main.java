@@ -1,19 +1,63 @@
 package br.com.dio;
 
+import br.com.dio.http.BoardHttpServer;
 import br.com.dio.persistence.migration.MigrationStrategy;
+import br.com.dio.service.BoardArchiveService;
+import br.com.dio.service.CardSearchService;
+import br.com.dio.service.CardsAmountReconciliationJob;
 import br.com.dio.ui.MainMenu;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.sql.SQLException;
 
+import static br.com.dio.config.EnvironmentConfig.getEnv;
 import static br.com.dio.persistence.config.ConnectionConfig.getConnection;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 
 public class Main {
 
-    public static void main(String[] args) throws SQLException {
+    private static final Logger logger = LoggerFactory.getLogger(Main.class);
+
+    public static void main(String[] args) throws SQLException, IOException {
+        var startedAt = System.nanoTime();
+        var command = args.length > 0 ? args[0] : "";
+        if (command.equals("migrate")){
+            try(var connection = getConnection()){
+                new MigrationStrategy(connection).executeMigration();
+            }
+            logger.info("Migração concluída em {} ms", NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            return;
+        }
+        try(var connection = getConnection()){
+            new MigrationStrategy(connection).executeMigrationIfPending();
+        }
+        if (command.equals("export") || command.equals("import")){
+            try(var connection = getConnection()){
+                var service = new BoardArchiveService(connection);
+                var result = command.equals("export") ?
+                        service.exportBoard(Long.parseLong(args[1]), Path.of(args[2])) :
+                        service.importBoard(Path.of(args[1]));
+                System.out.printf("Board %s: %s linhas em %s ms (%.0f linhas/s)%n",
+                        result.boardId(), result.rows(), result.elapsedMillis(), result.rowsPerSecond());
+            }
+            return;
+        }
         try(var connection = getConnection()){
-            new MigrationStrategy(connection).executeMigration();
+            new CardSearchService(connection).rebuildIndex();
+        }
+        var reconciliationInterval = getEnv("CARDS_AMOUNT_RECONCILE_MINUTES", "60");
+        new CardsAmountReconciliationJob(Long.parseLong(reconciliationInterval)).start();
+        if (command.equals("server")){
+            var port = getEnv("HTTP_PORT", "8080");
+            new BoardHttpServer(Integer.parseInt(port)).start();
+            logger.info("Servidor pronto em {} ms", NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            return;
         }
+        logger.info("Menu disponível em {} ms", NANOSECONDS.toMillis(System.nanoTime() - startedAt));
         new MainMenu().execute();
     }
 
@@ -0,0 +1,21 @@
+package br.com.dio.config;
+
+import lombok.NoArgsConstructor;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Leitura das variáveis de ambiente usadas na configuração da aplicação.
+ */
+@NoArgsConstructor(access = PRIVATE)
+public final class EnvironmentConfig {
+
+    /**
+     * Valor da variável de ambiente {@code name}, ou {@code defaultValue} se ela não estiver definida.
+     */
+    public static String getEnv(final String name, final String defaultValue) {
+        var value = System.getenv(name);
+        return value != null ? value : defaultValue;
+    }
+
+}
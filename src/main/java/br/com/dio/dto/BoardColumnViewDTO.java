@@ -0,0 +1,12 @@
+package br.com.dio.dto;
+
+import br.com.dio.persistence.entity.BoardColumnKindEnum;
+
+import java.util.List;
+
+public record BoardColumnViewDTO(Long id,
+                                 String name,
+                                 BoardColumnKindEnum kind,
+                                 int cardsAmount,
+                                 List<CardSummaryDTO> cards) {
+}
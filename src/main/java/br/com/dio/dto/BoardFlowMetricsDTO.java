@@ -0,0 +1,12 @@
+package br.com.dio.dto;
+
+import java.util.List;
+
+public record BoardFlowMetricsDTO(long boardId,
+                                  List<ColumnWipDTO> wip,
+                                  List<DailyThroughputDTO> throughput,
+                                  DurationPercentilesDTO cycleTime,
+                                  DurationPercentilesDTO leadTime,
+                                  int blockedCards,
+                                  long blockedSeconds) {
+}
@@ -0,0 +1,17 @@
+package br.com.dio.dto;
+
+public record BoardTransferResultDTO(long boardId,
+                                     long columns,
+                                     long cards,
+                                     long blocks,
+                                     long elapsedMillis) {
+
+    public long rows() {
+        return 1 + columns + cards + blocks;
+    }
+
+    public double rowsPerSecond() {
+        return elapsedMillis == 0 ? rows() * 1_000d : rows() * 1_000d / elapsedMillis;
+    }
+
+}
@@ -0,0 +1,8 @@
+package br.com.dio.dto;
+
+import java.util.List;
+
+public record BoardViewDTO(Long id,
+                           String name,
+                           List<BoardColumnViewDTO> columns) {
+}
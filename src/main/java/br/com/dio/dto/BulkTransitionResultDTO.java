@@ -0,0 +1,21 @@
+package br.com.dio.dto;
+
+import java.util.List;
+
+public record BulkTransitionResultDTO(String operation,
+                                      List<CardTransitionOutcomeDTO> outcomes,
+                                      long elapsedMillis) {
+
+    public int requested() {
+        return outcomes.size();
+    }
+
+    public long applied() {
+        return outcomes.stream().filter(CardTransitionOutcomeDTO::applied).count();
+    }
+
+    public double cardsPerSecond() {
+        return elapsedMillis == 0 ? applied() * 1_000d : applied() * 1_000d / elapsedMillis;
+    }
+
+}
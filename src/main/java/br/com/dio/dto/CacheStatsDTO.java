@@ -0,0 +1,10 @@
+package br.com.dio.dto;
+
+public record CacheStatsDTO(long hits,
+                            long misses,
+                            double hitRatio,
+                            long evictions,
+                            long invalidations,
+                            int size,
+                            int maxSize) {
+}
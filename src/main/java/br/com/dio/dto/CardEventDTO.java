@@ -0,0 +1,15 @@
+package br.com.dio.dto;
+
+import br.com.dio.persistence.entity.CardEventTypeEnum;
+
+import java.time.OffsetDateTime;
+
+public record CardEventDTO(long id,
+                           long cardId,
+                           long boardId,
+                           CardEventTypeEnum type,
+                           Long previousColumnId,
+                           long columnId,
+                           String reason,
+                           OffsetDateTime occurredAt) {
+}
@@ -0,0 +1,6 @@
+package br.com.dio.dto;
+
+import java.time.OffsetDateTime;
+
+public record CardEventStampDTO(long id, OffsetDateTime occurredAt) {
+}
@@ -0,0 +1,7 @@
+package br.com.dio.dto;
+
+public record CardImportFailureDTO(int chunk,
+                                   int firstIndex,
+                                   int size,
+                                   String message) {
+}
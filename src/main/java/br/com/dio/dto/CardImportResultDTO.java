@@ -0,0 +1,12 @@
+package br.com.dio.dto;
+
+import java.util.List;
+
+public record CardImportResultDTO(int requested,
+                                  List<Long> createdIds,
+                                  List<CardImportFailureDTO> failures) {
+
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+}
@@ -0,0 +1,11 @@
+package br.com.dio.dto;
+
+import java.time.OffsetDateTime;
+
+public record CardStateDTO(long cardId,
+                           long columnId,
+                           boolean blocked,
+                           boolean cancelled,
+                           boolean deleted,
+                           OffsetDateTime updatedAt) {
+}
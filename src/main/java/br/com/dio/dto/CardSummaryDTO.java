@@ -0,0 +1,7 @@
+package br.com.dio.dto;
+
+public record CardSummaryDTO(long id,
+                             String title,
+                             String description,
+                             boolean blocked) {
+}
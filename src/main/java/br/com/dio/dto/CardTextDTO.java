@@ -0,0 +1,4 @@
+package br.com.dio.dto;
+
+public record CardTextDTO(long id, long columnId, String title, String description) {
+}
@@ -0,0 +1,10 @@
+package br.com.dio.dto;
+
+import br.com.dio.persistence.entity.BoardColumnKindEnum;
+
+public record CardTransitionCandidateDTO(long id,
+                                         long columnId,
+                                         long boardId,
+                                         BoardColumnKindEnum kind,
+                                         boolean blocked) {
+}
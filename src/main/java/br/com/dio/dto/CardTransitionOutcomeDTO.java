@@ -0,0 +1,19 @@
+package br.com.dio.dto;
+
+public record CardTransitionOutcomeDTO(long cardId,
+                                       Status status,
+                                       String message) {
+
+    public boolean applied() {
+        return status == Status.APPLIED;
+    }
+
+    public enum Status {
+        APPLIED,
+        NOT_FOUND,
+        OTHER_BOARD,
+        BLOCKED,
+        ALREADY_BLOCKED,
+        FINISHED
+    }
+}
@@ -0,0 +1,9 @@
+package br.com.dio.dto;
+
+import br.com.dio.persistence.entity.BoardColumnKindEnum;
+
+public record ColumnWipDTO(Long columnId,
+                           String name,
+                           BoardColumnKindEnum kind,
+                           int cardsAmount) {
+}
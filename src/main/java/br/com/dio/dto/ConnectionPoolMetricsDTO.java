@@ -0,0 +1,12 @@
+package br.com.dio.dto;
+
+public record ConnectionPoolMetricsDTO(int activeConnections,
+                                       int idleConnections,
+                                       int totalConnections,
+                                       int pendingThreads,
+                                       long acquiredCount,
+                                       double averageWaitMillis,
+                                       long maxWaitMillis,
+                                       double averageUsageMillis,
+                                       long timeouts) {
+}
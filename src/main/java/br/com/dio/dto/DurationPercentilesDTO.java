@@ -0,0 +1,8 @@
+package br.com.dio.dto;
+
+public record DurationPercentilesDTO(long count,
+                                     long p50Seconds,
+                                     long p85Seconds,
+                                     long p95Seconds,
+                                     long maxSeconds) {
+}
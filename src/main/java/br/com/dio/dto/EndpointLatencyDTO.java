@@ -0,0 +1,8 @@
+package br.com.dio.dto;
+
+public record EndpointLatencyDTO(String endpoint,
+                                 long count,
+                                 long errors,
+                                 double averageMillis,
+                                 double maxMillis) {
+}
@@ -0,0 +1,11 @@
+package br.com.dio.dto;
+
+public record OperationStatsDTO(String operation,
+                                long count,
+                                long errors,
+                                double averageMillis,
+                                double p50Millis,
+                                double p90Millis,
+                                double p99Millis,
+                                double maxMillis) {
+}
@@ -0,0 +1,10 @@
+package br.com.dio.dto;
+
+import java.util.List;
+
+public record ReplicaRoutingMetricsDTO(String balancing,
+                                       long primaryReads,
+                                       long stickyReads,
+                                       long failovers,
+                                       List<ReplicaStatsDTO> replicas) {
+}
@@ -0,0 +1,8 @@
+package br.com.dio.dto;
+
+public record ReplicaStatsDTO(String name,
+                              boolean available,
+                              int activeConnections,
+                              long reads,
+                              long failures) {
+}
@@ -0,0 +1,9 @@
+package br.com.dio.dto;
+
+public record RoundTripStatsDTO(String operation,
+                                long executions,
+                                long roundTrips,
+                                double averageRoundTrips,
+                                long maxRoundTrips,
+                                long nPlusOneSuspects) {
+}
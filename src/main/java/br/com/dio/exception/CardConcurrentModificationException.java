@@ -0,0 +1,8 @@
+package br.com.dio.exception;
+
+public class CardConcurrentModificationException extends RuntimeException{
+
+    public CardConcurrentModificationException(final String message) {
+        super(message);
+    }
+}
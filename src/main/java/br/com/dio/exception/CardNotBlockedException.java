@@ -0,0 +1,8 @@
+package br.com.dio.exception;
+
+public class CardNotBlockedException extends RuntimeException{
+
+    public CardNotBlockedException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,367 @@
+package br.com.dio.http;
+
+import br.com.dio.dto.BoardColumnInfoDTO;
+import br.com.dio.exception.CardBlockedException;
+import br.com.dio.exception.CardConcurrentModificationException;
+import br.com.dio.exception.CardFinishedException;
+import br.com.dio.exception.CardNotBlockedException;
+import br.com.dio.exception.EntityNotFoundException;
+import br.com.dio.metrics.OperationMetrics;
+import br.com.dio.persistence.cache.BoardStructureCache;
+import br.com.dio.persistence.config.ConnectionConfig;
+import br.com.dio.persistence.config.ReadYourWrites;
+import br.com.dio.persistence.entity.BoardEntity;
+import br.com.dio.persistence.entity.CardEntity;
+import br.com.dio.persistence.trace.JdbcTracer;
+import br.com.dio.service.BoardQueryService;
+import br.com.dio.service.CardBulkService;
+import br.com.dio.service.CardQueryService;
+import br.com.dio.service.CardSearchService;
+import br.com.dio.service.CardService;
+import br.com.dio.service.FlowMetricsService;
+import br.com.dio.service.ServiceExecutor;
+import br.com.dio.snapshot.BoardSnapshot;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static br.com.dio.persistence.config.ConnectionConfig.getConnection;
+import static br.com.dio.persistence.config.ConnectionConfig.getReadConnection;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Modo servidor: expõe as operações de board e card como uma API HTTP/JSON sobre o
+ * {@link HttpServer} do JDK, atendendo cada requisição em sua própria thread.
+ */
+public class BoardHttpServer {
+
+    private static final Logger logger = LoggerFactory.getLogger(BoardHttpServer.class);
+
+    private final int port;
+    private final EndpointMetrics metrics = new EndpointMetrics();
+    private final List<Route> routes = List.of(
+            new Route("GET", "/boards/(\\d+)", "GET /boards/{id}", this::showBoard),
+            new Route("GET", "/boards/(\\d+)/flow", "GET /boards/{id}/flow", this::showBoardFlow),
+            new Route("POST", "/boards/(\\d+)/cards", "POST /boards/{id}/cards", this::createCard),
+            new Route("GET", "/boards/(\\d+)/cards", "GET /boards/{id}/cards", this::showBoardCards),
+            new Route("GET", "/boards/(\\d+)/cards/search", "GET /boards/{id}/cards/search", this::searchCards),
+            new Route("POST", "/boards/(\\d+)/cards/cancel", "POST /boards/{id}/cards/cancel", this::cancelCards),
+            new Route("POST", "/boards/(\\d+)/cards/block", "POST /boards/{id}/cards/block", this::blockCards),
+            new Route("POST", "/boards/(\\d+)/columns/(\\d+)/move", "POST /boards/{id}/columns/{id}/move", this::moveColumnCards),
+            new Route("POST", "/boards/(\\d+)/cards/(\\d+)/cancel", "POST /boards/{id}/cards/{id}/cancel", this::cancelCard),
+            new Route("POST", "/boards/(\\d+)/cards/(\\d+)/move", "POST /boards/{id}/cards/{id}/move", this::moveCard),
+            new Route("POST", "/boards/(\\d+)/cards/(\\d+)/block", "POST /boards/{id}/cards/{id}/block", this::blockCard),
+            new Route("GET", "/cards/(\\d+)", "GET /cards/{id}", this::showCard),
+            new Route("POST", "/cards/(\\d+)/unblock", "POST /cards/{id}/unblock", this::unblockCard),
+            new Route("GET", "/metrics", "GET /metrics", this::showMetrics),
+            new Route("GET", "/metrics/prometheus", "GET /metrics/prometheus", this::showPrometheusMetrics)
+    );
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public BoardHttpServer(final int port) {
+        this.port = port;
+    }
+
+    public void start() throws IOException {
+        executor = ServiceExecutor.newThreadPerTaskExecutor("http-server");
+        server = HttpServer.create(new InetSocketAddress(port), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+        logger.info("Servidor HTTP ouvindo na porta {}", port);
+    }
+
+    public void stop() {
+        server.stop(1);
+        executor.shutdown();
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        var path = exchange.getRequestURI().getPath();
+        var method = exchange.getRequestMethod();
+        for (var route : routes) {
+            var matcher = route.pattern().matcher(path);
+            if (route.method().equals(method) && matcher.matches()) {
+                dispatch(exchange, route, matcher);
+                return;
+            }
+        }
+        try (exchange) {
+            send(exchange, new Response(404, Map.of("error", "Rota não encontrada: %s %s".formatted(method, path))));
+        }
+    }
+
+    private void dispatch(final HttpExchange exchange, final Route route, final Matcher path) throws IOException {
+        var start = System.nanoTime();
+        var failed = true;
+        try (exchange; var session = ReadYourWrites.bind(sessionOf(exchange))) {
+            Response response;
+            try {
+                var body = new HashMap<>(JsonReader.readObject(new String(exchange.getRequestBody().readAllBytes(), UTF_8)));
+                body.putAll(queryParameters(exchange.getRequestURI().getRawQuery()));
+                response = route.handler().handle(path, body);
+                failed = false;
+            } catch (EntityNotFoundException e) {
+                response = error(404, e);
+            } catch (IllegalArgumentException e) {
+                response = error(400, e);
+            } catch (CardBlockedException | CardNotBlockedException | CardFinishedException | CardConcurrentModificationException e) {
+                response = error(409, e);
+            } catch (Exception e) {
+                logger.error("Erro ao atender {}: {}", route.endpoint(), e.getMessage(), e);
+                response = error(500, e);
+            }
+            send(exchange, response);
+        } finally {
+            metrics.record(route.endpoint(), System.nanoTime() - start, failed);
+        }
+    }
+
+    private Response showBoard(final Matcher path, final Map<String, String> body) throws SQLException {
+        var id = Long.parseLong(path.group(1));
+        try (var connection = getReadConnection()) {
+            return new BoardQueryService(connection).showBoardDetails(id)
+                    .map(Response::ok)
+                    .orElseThrow(() -> new EntityNotFoundException("O board de ID %s não foi encontrado".formatted(id)));
+        }
+    }
+
+    private Response showBoardCards(final Matcher path, final Map<String, String> body) throws SQLException {
+        var id = Long.parseLong(path.group(1));
+        BoardSnapshot snapshot;
+        try (var connection = getReadConnection()) {
+            snapshot = new BoardQueryService(connection).loadSnapshot(id)
+                    .orElseThrow(() -> new EntityNotFoundException("O board de ID %s não foi encontrado".formatted(id)));
+        }
+        if (!body.containsKey("columnId")) {
+            return Response.ok(snapshot.toView());
+        }
+        var columnId = Long.parseLong(body.get("columnId"));
+        return snapshot.toColumnView(columnId)
+                .map(Response::ok)
+                .orElseThrow(() -> new EntityNotFoundException("A coluna %s não pertence ao board %s".formatted(columnId, id)));
+    }
+
+    private Response showBoardFlow(final Matcher path, final Map<String, String> body) throws SQLException {
+        var id = Long.parseLong(path.group(1));
+        try (var connection = getConnection()) {
+            return Response.ok(new FlowMetricsService(connection).getBoardMetrics(id));
+        }
+    }
+
+    private Response createCard(final Matcher path, final Map<String, String> body) throws SQLException {
+        var boardId = Long.parseLong(path.group(1));
+        try (var connection = getConnection()) {
+            var board = findBoard(connection, boardId);
+            var card = new CardEntity();
+            card.setTitle(body.get("title"));
+            card.setDescription(body.getOrDefault("description", ""));
+            card.setBoardColumn(board.getInitialColumn());
+            new CardService(connection).create(card);
+            return new Response(201, Map.of("id", card.getId()));
+        }
+    }
+
+    private Response searchCards(final Matcher path, final Map<String, String> body) throws SQLException {
+        var boardId = Long.parseLong(path.group(1));
+        var limit = Integer.parseInt(body.getOrDefault("limit", "50"));
+        try (var connection = getConnection()) {
+            return Response.ok(new CardSearchService(connection).search(boardId, body.get("q"), limit));
+        }
+    }
+
+    private Response cancelCard(final Matcher path, final Map<String, String> body) throws SQLException {
+        var boardId = Long.parseLong(path.group(1));
+        var cardId = Long.parseLong(path.group(2));
+        try (var connection = getConnection()) {
+            var board = findBoard(connection, boardId);
+            new CardService(connection).cancel(cardId, board.getCancelColumn().getId(), columnsInfo(board));
+            return cardDetails(connection, cardId);
+        }
+    }
+
+    private Response cancelCards(final Matcher path, final Map<String, String> body) throws SQLException {
+        var boardId = Long.parseLong(path.group(1));
+        var ids = Arrays.stream(body.getOrDefault("ids", "").split(","))
+                .map(String::trim)
+                .filter(id -> !id.isEmpty())
+                .map(Long::parseLong)
+                .toList();
+        try (var connection = getConnection()) {
+            var board = findBoard(connection, boardId);
+            return Response.ok(new CardBulkService(connection).cancelAll(boardId, board.getCancelColumn().getId(), ids));
+        }
+    }
+
+    private Response blockCards(final Matcher path, final Map<String, String> body) throws SQLException {
+        var boardId = Long.parseLong(path.group(1));
+        var columnId = body.get("columnId") != null ? Long.parseLong(body.get("columnId")) : null;
+        try (var connection = getConnection()) {
+            findBoard(connection, boardId);
+            return Response.ok(new CardBulkService(connection).blockAll(boardId, columnId, body.get("q"), body.get("reason")));
+        }
+    }
+
+    private Response moveColumnCards(final Matcher path, final Map<String, String> body) throws SQLException {
+        var boardId = Long.parseLong(path.group(1));
+        var columnId = Long.parseLong(path.group(2));
+        try (var connection = getConnection()) {
+            var board = findBoard(connection, boardId);
+            if (board.getBoardColumns().stream().noneMatch(c -> c.getId() == columnId)) {
+                throw new EntityNotFoundException("A coluna de ID %s não pertence ao board %s".formatted(columnId, boardId));
+            }
+            return Response.ok(new CardBulkService(connection).moveColumnToNext(columnId));
+        }
+    }
+
+    private Response showCard(final Matcher path, final Map<String, String> body) throws SQLException {
+        var id = Long.parseLong(path.group(1));
+        try (var connection = getReadConnection()) {
+            return cardDetails(connection, id);
+        }
+    }
+
+    private Response moveCard(final Matcher path, final Map<String, String> body) throws SQLException {
+        var boardId = Long.parseLong(path.group(1));
+        var cardId = Long.parseLong(path.group(2));
+        try (var connection = getConnection()) {
+            var board = findBoard(connection, boardId);
+            new CardService(connection).moveToNextColumn(cardId, columnsInfo(board));
+            return cardDetails(connection, cardId);
+        }
+    }
+
+    private Response blockCard(final Matcher path, final Map<String, String> body) throws SQLException {
+        var boardId = Long.parseLong(path.group(1));
+        var cardId = Long.parseLong(path.group(2));
+        try (var connection = getConnection()) {
+            var board = findBoard(connection, boardId);
+            new CardService(connection).block(cardId, body.get("reason"), columnsInfo(board));
+            return cardDetails(connection, cardId);
+        }
+    }
+
+    private Response unblockCard(final Matcher path, final Map<String, String> body) throws SQLException {
+        var id = Long.parseLong(path.group(1));
+        try (var connection = getConnection()) {
+            new CardService(connection).unblock(id, body.get("reason"));
+            return cardDetails(connection, id);
+        }
+    }
+
+    private Response showMetrics(final Matcher path, final Map<String, String> body) {
+        return Response.ok(Map.of(
+                "endpoints", metrics.snapshot(),
+                "operations", OperationMetrics.snapshot(),
+                "roundTrips", JdbcTracer.snapshot(),
+                "boardCache", BoardStructureCache.shared().getStats(),
+                "connectionPool", ConnectionConfig.getPoolMetrics(),
+                "replicas", ConnectionConfig.getReplicaMetrics()
+        ));
+    }
+
+    private Response showPrometheusMetrics(final Matcher path, final Map<String, String> body) {
+        return Response.ok(new PlainText(OperationMetrics.toPrometheus()));
+    }
+
+    private BoardEntity findBoard(final Connection connection, final Long boardId) throws SQLException {
+        return new BoardQueryService(connection).findById(boardId)
+                .orElseThrow(() -> new EntityNotFoundException("O board de ID %s não foi encontrado".formatted(boardId)));
+    }
+
+    private static List<BoardColumnInfoDTO> columnsInfo(final BoardEntity board) {
+        return board.getBoardColumns().stream()
+                .map(bc -> new BoardColumnInfoDTO(bc.getId(), bc.getOrder(), bc.getKind()))
+                .toList();
+    }
+
+    private Response cardDetails(final Connection connection, final Long cardId) throws SQLException {
+        return new CardQueryService(connection).findById(cardId)
+                .map(Response::ok)
+                .orElseThrow(() -> new EntityNotFoundException("O cartão de ID %s não foi encontrado".formatted(cardId)));
+    }
+
+    /**
+     * Sessão da leitura das próprias escritas: o cabeçalho {@code X-Session-Id}, se o cliente
+     * informar, ou o endereço de origem da requisição.
+     */
+    private static String sessionOf(final HttpExchange exchange) {
+        var session = exchange.getRequestHeaders().getFirst("X-Session-Id");
+        return session != null && !session.isBlank() ? session : exchange.getRemoteAddress().getAddress().getHostAddress();
+    }
+
+    /**
+     * Parâmetros da query string, que completam os valores do corpo da requisição.
+     */
+    private static Map<String, String> queryParameters(final String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return parameters;
+        }
+        for (var pair : rawQuery.split("&")) {
+            var separator = pair.indexOf('=');
+            var name = separator < 0 ? pair : pair.substring(0, separator);
+            var value = separator < 0 ? "" : pair.substring(separator + 1);
+            parameters.put(URLDecoder.decode(name, UTF_8), URLDecoder.decode(value, UTF_8));
+        }
+        return parameters;
+    }
+
+    private static Response error(final int status, final Exception e) {
+        return new Response(status, Map.of("error", String.valueOf(e.getMessage())));
+    }
+
+    private static void send(final HttpExchange exchange, final Response response) throws IOException {
+        if (response.body() instanceof PlainText text) {
+            var bytes = text.content().getBytes(UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+            exchange.sendResponseHeaders(response.status(), bytes.length);
+            exchange.getResponseBody().write(bytes);
+            return;
+        }
+        var bytes = JsonWriter.write(response.body()).getBytes(UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(response.status(), bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+
+        Response handle(Matcher path, Map<String, String> body) throws SQLException;
+
+    }
+
+    private record Route(String method, Pattern pattern, String endpoint, Handler handler) {
+
+        Route(final String method, final String pattern, final String endpoint, final Handler handler) {
+            this(method, Pattern.compile(pattern), endpoint, handler);
+        }
+    }
+
+    private record PlainText(String content) {
+    }
+
+    private record Response(int status, Object body) {
+
+        static Response ok(final Object body) {
+            return new Response(200, body);
+        }
+    }
+
+}
@@ -0,0 +1,49 @@
+package br.com.dio.http;
+
+import br.com.dio.dto.EndpointLatencyDTO;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contagem, erros e latência (média e máxima) por endpoint da API.
+ */
+public class EndpointMetrics {
+
+    private final ConcurrentHashMap<String, Stats> stats = new ConcurrentHashMap<>();
+
+    public void record(final String endpoint, final long elapsedNanos, final boolean failed) {
+        var endpointStats = stats.computeIfAbsent(endpoint, e -> new Stats());
+        endpointStats.count.increment();
+        endpointStats.totalNanos.add(elapsedNanos);
+        endpointStats.maxNanos.accumulate(elapsedNanos);
+        if (failed) {
+            endpointStats.errors.increment();
+        }
+    }
+
+    public List<EndpointLatencyDTO> snapshot() {
+        return stats.entrySet().stream()
+                .map(e -> {
+                    var count = e.getValue().count.sum();
+                    var average = count == 0 ? 0 : e.getValue().totalNanos.sum() / (double) count / 1_000_000;
+                    return new EndpointLatencyDTO(e.getKey(), count, e.getValue().errors.sum(),
+                            average, e.getValue().maxNanos.get() / 1_000_000.0);
+                })
+                .sorted(Comparator.comparing(EndpointLatencyDTO::endpoint))
+                .toList();
+    }
+
+    private static class Stats {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+
+    }
+
+}
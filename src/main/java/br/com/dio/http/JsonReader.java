@@ -0,0 +1,141 @@
+package br.com.dio.http;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Leitor JSON mínimo para os corpos das requisições: um objeto plano cujos valores são textos,
+ * números, booleanos ou null. Os valores são devolvidos como texto ({@code null} para null).
+ */
+public class JsonReader {
+
+    private final String json;
+    private int position;
+
+    private JsonReader(final String json) {
+        this.json = json;
+    }
+
+    public static Map<String, String> readObject(final String json) {
+        if (json == null || json.isBlank()) {
+            return Map.of();
+        }
+        var reader = new JsonReader(json);
+        var values = reader.object();
+        reader.skipWhitespace();
+        if (reader.position < json.length()) {
+            throw new IllegalArgumentException("JSON inválido: conteúdo após o objeto na posição " + reader.position);
+        }
+        return values;
+    }
+
+    private Map<String, String> object() {
+        Map<String, String> values = new HashMap<>();
+        expect('{');
+        skipWhitespace();
+        if (peek() == '}') {
+            position++;
+            return values;
+        }
+        do {
+            skipWhitespace();
+            var key = string();
+            expect(':');
+            skipWhitespace();
+            values.put(key, value());
+            skipWhitespace();
+        } while (consumeIf(','));
+        expect('}');
+        return values;
+    }
+
+    private String value() {
+        var c = peek();
+        if (c == '"') {
+            return string();
+        }
+        var start = position;
+        while (position < json.length() && ",} \t\r\n".indexOf(json.charAt(position)) < 0) {
+            position++;
+        }
+        var literal = json.substring(start, position);
+        if (literal.isEmpty() || literal.startsWith("{") || literal.startsWith("[")) {
+            throw new IllegalArgumentException("Valor JSON não suportado na posição " + start);
+        }
+        return literal.equals("null") ? null : literal;
+    }
+
+    private String string() {
+        expect('"');
+        var value = new StringBuilder();
+        while (true) {
+            if (position >= json.length()) {
+                throw new IllegalArgumentException("Texto JSON não terminado");
+            }
+            var c = json.charAt(position++);
+            if (c == '"') {
+                return value.toString();
+            }
+            if (c != '\\') {
+                value.append(c);
+                continue;
+            }
+            if (position >= json.length()) {
+                throw new IllegalArgumentException("Texto JSON não terminado");
+            }
+            var escaped = json.charAt(position++);
+            switch (escaped) {
+                case '"', '\\', '/' -> value.append(escaped);
+                case 'n' -> value.append('\n');
+                case 'r' -> value.append('\r');
+                case 't' -> value.append('\t');
+                case 'b' -> value.append('\b');
+                case 'f' -> value.append('\f');
+                case 'u' -> {
+                    if (position + 4 > json.length()) {
+                        throw new IllegalArgumentException("Texto JSON não terminado");
+                    }
+                    var code = 0;
+                    for (var end = position + 4; position < end; position++) {
+                        var digit = Character.digit(json.charAt(position), 16);
+                        if (digit < 0) {
+                            throw new IllegalArgumentException("JSON inválido: escape unicode na posição " + position);
+                        }
+                        code = code * 16 + digit;
+                    }
+                    value.append((char) code);
+                }
+                default -> throw new IllegalArgumentException(
+                        "JSON inválido: escape '\\%s' na posição %d".formatted(escaped, position - 1));
+            }
+        }
+    }
+
+    private void expect(final char expected) {
+        skipWhitespace();
+        if (peek() != expected) {
+            throw new IllegalArgumentException("JSON inválido: esperado '%s' na posição %d".formatted(expected, position));
+        }
+        position++;
+    }
+
+    private boolean consumeIf(final char expected) {
+        skipWhitespace();
+        if (peek() == expected) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private char peek() {
+        return position < json.length() ? json.charAt(position) : '\0';
+    }
+
+    private void skipWhitespace() {
+        while (position < json.length() && Character.isWhitespace(json.charAt(position))) {
+            position++;
+        }
+    }
+
+}
@@ -0,0 +1,117 @@
+package br.com.dio.http;
+
+import lombok.NoArgsConstructor;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.RecordComponent;
+import java.time.temporal.TemporalAccessor;
+import java.util.Collection;
+import java.util.Map;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Serializador JSON mínimo para as respostas da API: records (como os DTOs), coleções, mapas,
+ * textos, números, booleanos, enums e datas.
+ */
+@NoArgsConstructor(access = PRIVATE)
+public final class JsonWriter {
+
+    private static final ClassValue<RecordComponent[]> recordComponents = new ClassValue<>() {
+        @Override
+        protected RecordComponent[] computeValue(final Class<?> type) {
+            return type.getRecordComponents();
+        }
+    };
+
+    public static String write(final Object value) {
+        var json = new StringBuilder();
+        append(json, value);
+        return json.toString();
+    }
+
+    private static void append(final StringBuilder json, final Object value) {
+        if (value == null) {
+            json.append("null");
+        } else if (value instanceof String text) {
+            appendString(json, text);
+        } else if (value instanceof Double number && !Double.isFinite(number)) {
+            json.append("null");
+        } else if (value instanceof Number || value instanceof Boolean) {
+            json.append(value);
+        } else if (value instanceof Enum<?> constant) {
+            appendString(json, constant.name());
+        } else if (value instanceof TemporalAccessor temporal) {
+            appendString(json, temporal.toString());
+        } else if (value instanceof Map<?, ?> map) {
+            json.append('{');
+            var first = true;
+            for (var entry : map.entrySet()) {
+                if (!first) {
+                    json.append(',');
+                }
+                first = false;
+                appendString(json, String.valueOf(entry.getKey()));
+                json.append(':');
+                append(json, entry.getValue());
+            }
+            json.append('}');
+        } else if (value instanceof Collection<?> collection) {
+            json.append('[');
+            var first = true;
+            for (var item : collection) {
+                if (!first) {
+                    json.append(',');
+                }
+                first = false;
+                append(json, item);
+            }
+            json.append(']');
+        } else if (value.getClass().isRecord()) {
+            appendRecord(json, value);
+        } else {
+            appendString(json, value.toString());
+        }
+    }
+
+    private static void appendRecord(final StringBuilder json, final Object value) {
+        json.append('{');
+        var components = recordComponents.get(value.getClass());
+        for (int i = 0; i < components.length; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            appendString(json, components[i].getName());
+            json.append(':');
+            try {
+                append(json, components[i].getAccessor().invoke(value));
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalStateException("Não foi possível serializar " + value.getClass().getSimpleName(), e);
+            }
+        }
+        json.append('}');
+    }
+
+    private static void appendString(final StringBuilder json, final String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            var c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append("\\u%04x".formatted((int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        json.append('"');
+    }
+
+}
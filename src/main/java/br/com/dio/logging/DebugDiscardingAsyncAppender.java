@@ -0,0 +1,46 @@
+package br.com.dio.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link AsyncAppender} que tira a escrita do log da thread que chama o logger: os eventos vão
+ * para uma fila circular limitada ({@code queueSize}) e uma única thread os entrega aos appenders
+ * configurados. Quando a fila passa do limite de descarte ({@code discardingThreshold} posições
+ * livres), só eventos DEBUG e TRACE são descartados; INFO, WARN e ERROR esperam por espaço
+ * para não se perderem.
+ */
+public class DebugDiscardingAsyncAppender extends AsyncAppender {
+
+    private final LongAdder discarded = new LongAdder();
+
+    public long getDiscardedCount() {
+        return discarded.sum();
+    }
+
+    @Override
+    protected boolean isDiscardable(final ILoggingEvent event) {
+        return event.getLevel().toInt() <= Level.DEBUG_INT;
+    }
+
+    @Override
+    protected void append(final ILoggingEvent event) {
+        if (getRemainingCapacity() < getDiscardingThreshold() && isDiscardable(event)) {
+            discarded.increment();
+            return;
+        }
+        super.append(event);
+    }
+
+    @Override
+    public void stop() {
+        super.stop();
+        if (getDiscardedCount() > 0) {
+            addWarn("%s eventos DEBUG/TRACE descartados com a fila cheia em [%s]".formatted(getDiscardedCount(), getName()));
+        }
+    }
+
+}
@@ -0,0 +1,72 @@
+package br.com.dio.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.CoreConstants;
+import ch.qos.logback.core.LayoutBase;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Formata cada evento em uma linha de pares {@code chave=valor}
+ * ({@code ts}, {@code level}, {@code thread}, {@code logger}, {@code msg} e as entradas do MDC),
+ * fácil de filtrar com grep e de ingerir em ferramentas de log. Valores com espaço, aspas ou
+ * {@code =} vão entre aspas; a pilha de uma exceção segue nas linhas seguintes.
+ */
+public class KeyValueLayout extends LayoutBase<ILoggingEvent> {
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ISO_OFFSET_DATE_TIME.withZone(ZoneId.systemDefault());
+
+    @Override
+    public String doLayout(final ILoggingEvent event) {
+        var line = new StringBuilder(128);
+        line.append("ts=").append(TIMESTAMP.format(Instant.ofEpochMilli(event.getTimeStamp())));
+        line.append(" level=").append(event.getLevel());
+        append(line, "thread", event.getThreadName());
+        append(line, "logger", event.getLoggerName());
+        append(line, "msg", event.getFormattedMessage());
+        event.getMDCPropertyMap().forEach((key, value) -> append(line, key, value));
+        line.append(CoreConstants.LINE_SEPARATOR);
+        if (event.getThrowableProxy() != null) {
+            line.append(ThrowableProxyUtil.asString(event.getThrowableProxy())).append(CoreConstants.LINE_SEPARATOR);
+        }
+        return line.toString();
+    }
+
+    private static void append(final StringBuilder line, final String key, final String value) {
+        line.append(' ').append(key).append('=');
+        if (value == null || value.isEmpty()) {
+            line.append("\"\"");
+            return;
+        }
+        if (!needsQuotes(value)) {
+            line.append(value);
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            var c = value.charAt(i);
+            switch (c) {
+                case '"' -> line.append("\\\"");
+                case '\\' -> line.append("\\\\");
+                case '\n' -> line.append("\\n");
+                case '\r' -> line.append("\\r");
+                default -> line.append(c);
+            }
+        }
+        line.append('"');
+    }
+
+    private static boolean needsQuotes(final String value) {
+        for (int i = 0; i < value.length(); i++) {
+            var c = value.charAt(i);
+            if (c <= ' ' || c == '"' || c == '=' || c == '\\') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,193 @@
+package br.com.dio.metrics;
+
+import br.com.dio.dto.BoardFlowMetricsDTO;
+import br.com.dio.dto.CardEventDTO;
+import br.com.dio.dto.ColumnWipDTO;
+import br.com.dio.dto.DailyThroughputDTO;
+import br.com.dio.dto.DurationPercentilesDTO;
+import br.com.dio.persistence.entity.BoardColumnEntity;
+import br.com.dio.persistence.entity.BoardColumnKindEnum;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static br.com.dio.persistence.entity.BoardColumnKindEnum.CANCEL;
+import static br.com.dio.persistence.entity.BoardColumnKindEnum.FINAL;
+import static br.com.dio.persistence.entity.BoardColumnKindEnum.INITIAL;
+import static br.com.dio.persistence.entity.CardEventTypeEnum.CREATED;
+import static java.util.concurrent.TimeUnit.DAYS;
+
+/**
+ * Métricas de fluxo de um board mantidas incrementalmente a partir dos eventos dos cards:
+ * WIP por coluna, entregas por dia na coluna final, cycle time (da saída da coluna inicial até
+ * a final), lead time (da criação até a coluna final) e tempo bloqueado.
+ * <p>
+ * Cards vindos de {@code BACKFILLED} entram no WIP e no tempo bloqueado, mas sem instante de
+ * criação conhecido: só têm cycle time se saírem da coluna inicial depois do backfill.
+ * <p>
+ * Cada evento é aplicado em tempo constante e só os cards em andamento ficam em memória. Não é
+ * thread-safe: quem aplica os eventos deve sincronizar no próprio objeto.
+ */
+public class BoardFlow {
+
+    public static final int THROUGHPUT_DAYS = 30;
+    private static final long SECONDS_PER_DAY = DAYS.toSeconds(1);
+    private static final long UNTIMED = -1;
+
+    private final long boardId;
+    private final Map<Long, Integer> columnIndexes = new HashMap<>();
+    private final List<BoardColumnEntity> columns;
+    private final int[] wip;
+    private final long[] throughputDays = new long[THROUGHPUT_DAYS];
+    private final int[] throughputCounts = new int[THROUGHPUT_DAYS];
+    private final Histogram cycleTime = new Histogram();
+    private final Histogram leadTime = new Histogram();
+    private final InFlightCards inFlight = new InFlightCards();
+    private long lastEventId;
+    private int blockedCards;
+    private long blockedSinceSum;
+    private long closedBlockedSeconds;
+
+    public BoardFlow(final long boardId, final List<BoardColumnEntity> columns) {
+        this.boardId = boardId;
+        this.columns = List.copyOf(columns);
+        this.wip = new int[columns.size()];
+        for (int i = 0; i < this.columns.size(); i++) {
+            columnIndexes.put(this.columns.get(i).getId(), i);
+        }
+    }
+
+    public long getLastEventId() {
+        return lastEventId;
+    }
+
+    public void apply(final CardEventDTO event) {
+        lastEventId = event.id();
+        var at = event.occurredAt().toEpochSecond();
+        var kind = kindOf(event.columnId());
+        var slot = inFlight.indexOf(event.cardId());
+        switch (event.type()) {
+            case CREATED, BACKFILLED -> {
+                addWip(event.columnId(), 1);
+                if (kind != FINAL && kind != CANCEL) {
+                    var createdAt = event.type() == CREATED ? at : UNTIMED;
+                    slot = inFlight.insert(event.cardId());
+                    inFlight.setCreatedAt(slot, createdAt);
+                    inFlight.setStartedAt(slot, kind == INITIAL ? 0 : createdAt);
+                }
+            }
+            case MOVED, CANCELLED -> {
+                addWip(event.previousColumnId(), -1);
+                addWip(event.columnId(), 1);
+                if (slot >= 0 && inFlight.getStartedAt(slot) == 0 && kindOf(event.previousColumnId()) == INITIAL) {
+                    inFlight.setStartedAt(slot, at);
+                }
+                if (kind == FINAL) {
+                    finish(slot, at);
+                } else if (kind == CANCEL) {
+                    leave(slot, at);
+                }
+            }
+            case BLOCKED -> {
+                if (slot >= 0 && inFlight.getBlockedSince(slot) == 0) {
+                    inFlight.setBlockedSince(slot, at);
+                    blockedCards++;
+                    blockedSinceSum += at;
+                }
+            }
+            case UNBLOCKED -> {
+                if (slot >= 0) {
+                    closeBlock(slot, at);
+                }
+            }
+            case DELETED -> {
+                addWip(event.columnId(), -1);
+                leave(slot, at);
+            }
+        }
+    }
+
+    public BoardFlowMetricsDTO snapshot(final OffsetDateTime now) {
+        var nowSeconds = now.toEpochSecond();
+        List<ColumnWipDTO> columnsWip = new ArrayList<>(columns.size());
+        for (int i = 0; i < columns.size(); i++) {
+            var column = columns.get(i);
+            columnsWip.add(new ColumnWipDTO(column.getId(), column.getName(), column.getKind(), wip[i]));
+        }
+        List<DailyThroughputDTO> throughput = new ArrayList<>(THROUGHPUT_DAYS);
+        var today = Math.floorDiv(nowSeconds, SECONDS_PER_DAY);
+        for (var day = today - THROUGHPUT_DAYS + 1; day <= today; day++) {
+            var slot = (int) Math.floorMod(day, (long) THROUGHPUT_DAYS);
+            var finished = throughputDays[slot] == day ? throughputCounts[slot] : 0;
+            throughput.add(new DailyThroughputDTO(LocalDate.ofEpochDay(day), finished));
+        }
+        var openBlockedSeconds = blockedCards * nowSeconds - blockedSinceSum;
+        return new BoardFlowMetricsDTO(boardId, columnsWip, throughput, percentiles(cycleTime), percentiles(leadTime),
+                blockedCards, closedBlockedSeconds + openBlockedSeconds);
+    }
+
+    private void finish(final int slot, final long at) {
+        var day = Math.floorDiv(at, SECONDS_PER_DAY);
+        var daySlot = (int) Math.floorMod(day, (long) THROUGHPUT_DAYS);
+        if (throughputDays[daySlot] != day) {
+            throughputDays[daySlot] = day;
+            throughputCounts[daySlot] = 0;
+        }
+        throughputCounts[daySlot]++;
+        if (slot >= 0) {
+            var createdAt = inFlight.getCreatedAt(slot);
+            var startedAt = inFlight.getStartedAt(slot) == 0 ? createdAt : inFlight.getStartedAt(slot);
+            if (createdAt != UNTIMED) {
+                leadTime.record(at - createdAt);
+            }
+            if (startedAt != UNTIMED) {
+                cycleTime.record(at - startedAt);
+            }
+        }
+        leave(slot, at);
+    }
+
+    private void leave(final int slot, final long at) {
+        if (slot < 0) {
+            return;
+        }
+        closeBlock(slot, at);
+        inFlight.remove(slot);
+    }
+
+    private void closeBlock(final int slot, final long at) {
+        var since = inFlight.getBlockedSince(slot);
+        if (since == 0) {
+            return;
+        }
+        closedBlockedSeconds += at - since;
+        blockedSinceSum -= since;
+        blockedCards--;
+        inFlight.setBlockedSince(slot, 0);
+    }
+
+    private void addWip(final Long columnId, final int delta) {
+        var index = columnId == null ? null : columnIndexes.get(columnId);
+        if (index != null) {
+            wip[index] += delta;
+        }
+    }
+
+    private BoardColumnKindEnum kindOf(final Long columnId) {
+        var index = columnId == null ? null : columnIndexes.get(columnId);
+        return index == null ? null : columns.get(index).getKind();
+    }
+
+    private static DurationPercentilesDTO percentiles(final Histogram histogram) {
+        return new DurationPercentilesDTO(histogram.getCount(),
+                histogram.getValueAtQuantile(0.50),
+                histogram.getValueAtQuantile(0.85),
+                histogram.getValueAtQuantile(0.95),
+                histogram.getMax());
+    }
+
+}
@@ -0,0 +1,45 @@
+package br.com.dio.metrics;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+
+/**
+ * Maior id de {@code CARD_EVENTS} até o qual nenhum evento pode mais aparecer. Os ids são
+ * reservados na inserção e não no commit, então um buraco na sequência pode ser uma transação
+ * ainda aberta: a marca só passa por ele quando o evento seguinte tem mais de
+ * {@code gapTimeout}, e aí o buraco é tratado como uma transação desfeita.
+ * <p>
+ * Não é thread-safe: quem avança a marca deve sincronizar no próprio objeto.
+ */
+public class EventWatermark {
+
+    private final Duration gapTimeout;
+    private long settledId;
+
+    public EventWatermark(final Duration gapTimeout) {
+        this.gapTimeout = gapTimeout;
+    }
+
+    public long getSettledId() {
+        return settledId;
+    }
+
+    /**
+     * Avança a marca até o evento {@code id}, visível no banco e gravado em {@code occurredAt}.
+     * Os eventos devem ser informados em ordem crescente de id.
+     *
+     * @return {@code false} se falta algum id antes deste que ainda pode ser confirmado; a marca
+     * fica onde está e os eventos seguintes devem ser informados de novo na próxima consulta
+     */
+    public boolean advance(final long id, final OffsetDateTime occurredAt, final OffsetDateTime now) {
+        if (id <= settledId) {
+            return true;
+        }
+        if (id > settledId + 1 && occurredAt.plus(gapTimeout).isAfter(now)) {
+            return false;
+        }
+        settledId = id;
+        return true;
+    }
+
+}
@@ -0,0 +1,49 @@
+package br.com.dio.metrics;
+
+import br.com.dio.persistence.entity.BoardColumnEntity;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static br.com.dio.config.EnvironmentConfig.getEnv;
+
+/**
+ * Registro, compartilhado pela aplicação, das métricas de fluxo de cada board já consultado e
+ * da marca até a qual o log de eventos já pode ser aplicado.
+ */
+public class FlowMetrics {
+
+    private static final FlowMetrics shared = new FlowMetrics();
+
+    /**
+     * Tempo máximo esperado de uma transação que grava eventos. Um buraco nos ids mais antigo
+     * que isso é considerado uma transação desfeita.
+     */
+    private static final Duration GAP_TIMEOUT = Duration.ofSeconds(Long.parseLong(getEnv("FLOW_METRICS_GAP_TIMEOUT_SECONDS", "300")));
+
+    private final ConcurrentHashMap<Long, BoardFlow> boards = new ConcurrentHashMap<>();
+    private final EventWatermark watermark = new EventWatermark(GAP_TIMEOUT);
+
+    public static FlowMetrics shared() {
+        return shared;
+    }
+
+    public EventWatermark getWatermark() {
+        return watermark;
+    }
+
+    public Optional<BoardFlow> get(final long boardId) {
+        return Optional.ofNullable(boards.get(boardId));
+    }
+
+    public BoardFlow register(final long boardId, final List<BoardColumnEntity> columns) {
+        return boards.computeIfAbsent(boardId, id -> new BoardFlow(id, columns));
+    }
+
+    public void remove(final long boardId) {
+        boards.remove(boardId);
+    }
+
+}
@@ -0,0 +1,101 @@
+package br.com.dio.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de valores não negativos com buckets log-lineares, no estilo do HdrHistogram:
+ * cada potência de dois é dividida em {@value #SUB_BUCKETS} buckets lineares, o que limita o
+ * erro relativo dos percentis a cerca de 3% com um único {@code long[]} de tamanho fixo.
+ * Registrar um valor não aloca memória e pode ser feito por várias threads ao mesmo tempo.
+ */
+public class Histogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Long::max, 0);
+
+    public void record(final long value) {
+        var normalized = Math.max(value, 0);
+        counts.incrementAndGet(bucketOf(normalized));
+        count.increment();
+        sum.add(normalized);
+        max.accumulate(normalized);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getSum() {
+        return sum.sum();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    public double getMean() {
+        var total = count.sum();
+        return total == 0 ? 0 : sum.sum() / (double) total;
+    }
+
+    /**
+     * Menor valor tal que pelo menos {@code quantile} (entre 0 e 1) dos valores registrados
+     * são menores ou iguais a ele, arredondado para o limite superior do bucket.
+     */
+    public long getValueAtQuantile(final double quantile) {
+        var total = count.sum();
+        if (total == 0) {
+            return 0;
+        }
+        var rank = Math.max(1, (long) Math.ceil(quantile * total));
+        var accumulated = 0L;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            accumulated += counts.get(bucket);
+            if (accumulated >= rank) {
+                return Math.min(upperBoundOf(bucket), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * Quantidade de valores registrados menores ou iguais a {@code value}, na resolução dos
+     * buckets.
+     */
+    public long getCountAtOrBelow(final long value) {
+        var last = bucketOf(Math.max(value, 0));
+        var accumulated = 0L;
+        for (int bucket = 0; bucket <= last; bucket++) {
+            accumulated += counts.get(bucket);
+        }
+        return accumulated;
+    }
+
+    static int bucketOf(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        var exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        var shift = exponent - SUB_BUCKET_BITS;
+        var subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long upperBoundOf(final int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        var shift = bucket / SUB_BUCKETS - 1;
+        var lowerBound = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+
+}
@@ -0,0 +1,145 @@
+package br.com.dio.metrics;
+
+/**
+ * Tabela hash de endereçamento aberto (sondagem linear) com os instantes, em segundos, de
+ * cada card ainda não finalizado: criação, início do trabalho e início do bloqueio em aberto.
+ * Guarda tudo em arrays primitivos paralelos, sem objetos por card.
+ */
+final class InFlightCards {
+
+    private static final long EMPTY = 0;
+    private static final int INITIAL_CAPACITY = 1 << 10;
+
+    private long[] keys;
+    private long[] createdAt;
+    private long[] startedAt;
+    private long[] blockedSince;
+    private int mask;
+    private int size;
+
+    InFlightCards() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * @return a posição do card na tabela, ou {@code -1} se ele não estiver em andamento
+     */
+    int indexOf(final long cardId) {
+        for (int slot = slotOf(cardId); ; slot = (slot + 1) & mask) {
+            if (keys[slot] == cardId) {
+                return slot;
+            }
+            if (keys[slot] == EMPTY) {
+                return -1;
+            }
+        }
+    }
+
+    int insert(final long cardId) {
+        var existing = indexOf(cardId);
+        if (existing >= 0) {
+            return existing;
+        }
+        if ((size + 1) * 2 > keys.length) {
+            resize();
+        }
+        var slot = slotOf(cardId);
+        while (keys[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = cardId;
+        createdAt[slot] = 0;
+        startedAt[slot] = 0;
+        blockedSince[slot] = 0;
+        size++;
+        return slot;
+    }
+
+    /**
+     * Remove a posição deslocando para trás os elementos seguintes da mesma sequência de
+     * sondagem, sem deixar marcadores de remoção na tabela.
+     */
+    void remove(final int slot) {
+        var hole = slot;
+        for (int next = (hole + 1) & mask; keys[next] != EMPTY; next = (next + 1) & mask) {
+            var home = slotOf(keys[next]);
+            var stays = hole <= next ? hole < home && home <= next : hole < home || home <= next;
+            if (!stays) {
+                move(next, hole);
+                hole = next;
+            }
+        }
+        keys[hole] = EMPTY;
+        size--;
+    }
+
+    long getCreatedAt(final int slot) {
+        return createdAt[slot];
+    }
+
+    void setCreatedAt(final int slot, final long seconds) {
+        createdAt[slot] = seconds;
+    }
+
+    long getStartedAt(final int slot) {
+        return startedAt[slot];
+    }
+
+    void setStartedAt(final int slot, final long seconds) {
+        startedAt[slot] = seconds;
+    }
+
+    long getBlockedSince(final int slot) {
+        return blockedSince[slot];
+    }
+
+    void setBlockedSince(final int slot, final long seconds) {
+        blockedSince[slot] = seconds;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void move(final int from, final int to) {
+        keys[to] = keys[from];
+        createdAt[to] = createdAt[from];
+        startedAt[to] = startedAt[from];
+        blockedSince[to] = blockedSince[from];
+    }
+
+    private void resize() {
+        var oldKeys = keys;
+        var oldCreatedAt = createdAt;
+        var oldStartedAt = startedAt;
+        var oldBlockedSince = blockedSince;
+        allocate(oldKeys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == EMPTY) {
+                continue;
+            }
+            var slot = slotOf(oldKeys[i]);
+            while (keys[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = oldKeys[i];
+            createdAt[slot] = oldCreatedAt[i];
+            startedAt[slot] = oldStartedAt[i];
+            blockedSince[slot] = oldBlockedSince[i];
+        }
+    }
+
+    private void allocate(final int capacity) {
+        keys = new long[capacity];
+        createdAt = new long[capacity];
+        startedAt = new long[capacity];
+        blockedSince = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    private int slotOf(final long cardId) {
+        var hash = cardId * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+}
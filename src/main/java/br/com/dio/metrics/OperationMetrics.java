@@ -0,0 +1,84 @@
+package br.com.dio.metrics;
+
+import br.com.dio.dto.OperationStatsDTO;
+import lombok.NoArgsConstructor;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static br.com.dio.config.EnvironmentConfig.getEnv;
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Registro dos {@link OperationTimer} de todos os métodos instrumentados dos DAOs e services.
+ * As medições podem ser desligadas com {@code OPERATION_METRICS_ENABLED=false}.
+ */
+@NoArgsConstructor(access = PRIVATE)
+public final class OperationMetrics {
+
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99};
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+    private static final ConcurrentHashMap<String, OperationTimer> timers = new ConcurrentHashMap<>();
+    private static volatile boolean enabled = Boolean.parseBoolean(getEnv("OPERATION_METRICS_ENABLED", "true"));
+
+    public static OperationTimer timer(final String operation) {
+        return timers.computeIfAbsent(operation, OperationTimer::new);
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(final boolean enabled) {
+        OperationMetrics.enabled = enabled;
+    }
+
+    public static List<OperationStatsDTO> snapshot() {
+        return timers.values().stream()
+                .filter(t -> t.getCount() > 0)
+                .sorted(Comparator.comparing(OperationTimer::getOperation))
+                .map(OperationTimer::snapshot)
+                .toList();
+    }
+
+    /**
+     * Exporta as medições no formato texto do Prometheus: a latência como {@code summary} em
+     * segundos e os erros como {@code counter}, com a operação no label {@code operation}.
+     */
+    public static String toPrometheus() {
+        var sorted = timers.values().stream()
+                .filter(t -> t.getCount() > 0)
+                .sorted(Comparator.comparing(OperationTimer::getOperation))
+                .toList();
+        var text = new StringBuilder();
+        text.append("# HELP board_operation_duration_seconds Latência das operações dos DAOs e services.\n");
+        text.append("# TYPE board_operation_duration_seconds summary\n");
+        for (var timer : sorted) {
+            var latency = timer.getLatency();
+            var label = "operation=\"" + timer.getOperation() + "\"";
+            for (var quantile : QUANTILES) {
+                text.append("board_operation_duration_seconds{").append(label)
+                        .append(",quantile=\"").append(quantile).append("\"} ")
+                        .append(seconds(latency.getValueAtQuantile(quantile))).append('\n');
+            }
+            text.append("board_operation_duration_seconds_sum{").append(label).append("} ")
+                    .append(seconds(latency.getSum())).append('\n');
+            text.append("board_operation_duration_seconds_count{").append(label).append("} ")
+                    .append(latency.getCount()).append('\n');
+        }
+        text.append("# HELP board_operation_errors_total Operações dos DAOs e services que terminaram com exceção.\n");
+        text.append("# TYPE board_operation_errors_total counter\n");
+        for (var timer : sorted) {
+            text.append("board_operation_errors_total{operation=\"").append(timer.getOperation()).append("\"} ")
+                    .append(timer.getErrors()).append('\n');
+        }
+        return text.toString();
+    }
+
+    private static String seconds(final long nanos) {
+        return String.format(Locale.ROOT, "%.9f", nanos / NANOS_PER_SECOND);
+    }
+
+}
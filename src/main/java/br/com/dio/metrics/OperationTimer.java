@@ -0,0 +1,116 @@
+package br.com.dio.metrics;
+
+import br.com.dio.dto.OperationStatsDTO;
+import br.com.dio.persistence.trace.JdbcTracer;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contagem, erros e histograma de latência (em nanossegundos) de uma operação de DAO ou
+ * service. Obtido por {@link OperationMetrics#timer(String)} e guardado em uma constante por
+ * método, para que medir uma chamada não faça busca no registro. O histograma não aloca, mas a
+ * lambda passada a {@link #record} e {@link #run} captura os argumentos do método e é criada a
+ * cada chamada. A operação também delimita, no {@link JdbcTracer}, as idas ao banco feitas
+ * durante a chamada.
+ */
+public class OperationTimer {
+
+    private static final double NANOS_PER_MILLI = 1_000_000d;
+
+    private final String operation;
+    private final LongAdder errors = new LongAdder();
+    private final Histogram latency = new Histogram();
+
+    OperationTimer(final String operation) {
+        this.operation = operation;
+    }
+
+    public <T, X extends Exception> T record(final Call<T, X> call) throws X {
+        JdbcTracer.enter(operation);
+        try {
+            if (!OperationMetrics.isEnabled()) {
+                return call.call();
+            }
+            var start = System.nanoTime();
+            var failed = true;
+            try {
+                var result = call.call();
+                failed = false;
+                return result;
+            } finally {
+                record(System.nanoTime() - start, failed);
+            }
+        } finally {
+            JdbcTracer.exit();
+        }
+    }
+
+    public <X extends Exception> void run(final Run<X> run) throws X {
+        JdbcTracer.enter(operation);
+        try {
+            if (!OperationMetrics.isEnabled()) {
+                run.run();
+                return;
+            }
+            var start = System.nanoTime();
+            var failed = true;
+            try {
+                run.run();
+                failed = false;
+            } finally {
+                record(System.nanoTime() - start, failed);
+            }
+        } finally {
+            JdbcTracer.exit();
+        }
+    }
+
+    public void record(final long elapsedNanos, final boolean failed) {
+        latency.record(elapsedNanos);
+        if (failed) {
+            errors.increment();
+        }
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public long getCount() {
+        return latency.getCount();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    Histogram getLatency() {
+        return latency;
+    }
+
+    public OperationStatsDTO snapshot() {
+        return new OperationStatsDTO(operation,
+                latency.getCount(),
+                errors.sum(),
+                latency.getMean() / NANOS_PER_MILLI,
+                latency.getValueAtQuantile(0.50) / NANOS_PER_MILLI,
+                latency.getValueAtQuantile(0.90) / NANOS_PER_MILLI,
+                latency.getValueAtQuantile(0.99) / NANOS_PER_MILLI,
+                latency.getMax() / NANOS_PER_MILLI);
+    }
+
+    @FunctionalInterface
+    public interface Call<T, X extends Exception> {
+
+        T call() throws X;
+
+    }
+
+    @FunctionalInterface
+    public interface Run<X extends Exception> {
+
+        void run() throws X;
+
+    }
+
+}
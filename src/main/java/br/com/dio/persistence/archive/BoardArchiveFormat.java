@@ -0,0 +1,32 @@
+package br.com.dio.persistence.archive;
+
+import lombok.NoArgsConstructor;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Layout do arquivo de export de board: cabeçalho com {@link #MAGIC} e {@link #VERSION},
+ * seguido de registros {@code [tipo: byte][tamanho: int][conteúdo]} na ordem board, colunas,
+ * cards e, logo após cada card, os seus bloqueios, terminando com {@link #END}.
+ * <p>
+ * Strings são gravadas como {@code [tamanho: int][bytes UTF-8]} ({@code -1} para nulo) e datas
+ * como milissegundos desde a época em UTC ({@link Long#MIN_VALUE} para nulo).
+ */
+@NoArgsConstructor(access = PRIVATE)
+final class BoardArchiveFormat {
+
+    static final int MAGIC = 0x4B425244; // "KBRD"
+    static final short VERSION = 1;
+
+    static final byte END = 0;
+    static final byte BOARD = 1;
+    static final byte COLUMN = 2;
+    static final byte CARD = 3;
+    static final byte BLOCK = 4;
+
+    static final int RECORD_HEADER_SIZE = Byte.BYTES + Integer.BYTES;
+    static final int BUFFER_SIZE = 64 * 1024;
+    static final int NULL_LENGTH = -1;
+    static final long NULL_TIMESTAMP = Long.MIN_VALUE;
+
+}
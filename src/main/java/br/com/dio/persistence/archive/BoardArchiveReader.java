@@ -0,0 +1,121 @@
+package br.com.dio.persistence.archive;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+
+import static br.com.dio.persistence.archive.BoardArchiveFormat.BLOCK;
+import static br.com.dio.persistence.archive.BoardArchiveFormat.BOARD;
+import static br.com.dio.persistence.archive.BoardArchiveFormat.BUFFER_SIZE;
+import static br.com.dio.persistence.archive.BoardArchiveFormat.CARD;
+import static br.com.dio.persistence.archive.BoardArchiveFormat.COLUMN;
+import static br.com.dio.persistence.archive.BoardArchiveFormat.END;
+import static br.com.dio.persistence.archive.BoardArchiveFormat.MAGIC;
+import static br.com.dio.persistence.archive.BoardArchiveFormat.NULL_LENGTH;
+import static br.com.dio.persistence.archive.BoardArchiveFormat.NULL_TIMESTAMP;
+import static br.com.dio.persistence.archive.BoardArchiveFormat.RECORD_HEADER_SIZE;
+import static br.com.dio.persistence.archive.BoardArchiveFormat.VERSION;
+import static br.com.dio.persistence.entity.BoardColumnKindEnum.findByName;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.time.ZoneOffset.UTC;
+
+/**
+ * Lê sequencialmente um export gravado pelo {@link BoardArchiveWriter}, um registro por vez,
+ * com um buffer de tamanho fixo.
+ */
+public class BoardArchiveReader implements Closeable {
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).flip();
+    private boolean finished;
+
+    private BoardArchiveReader(final FileChannel channel) throws IOException {
+        this.channel = channel;
+        require(Integer.BYTES + Short.BYTES);
+        var magic = buffer.getInt();
+        var version = buffer.getShort();
+        if (magic != MAGIC) {
+            throw new IOException("O arquivo informado não é um export de board");
+        }
+        if (version != VERSION) {
+            throw new IOException("Versão %d do export de board não suportada".formatted(version));
+        }
+    }
+
+    public static BoardArchiveReader open(final Path path) throws IOException {
+        var channel = FileChannel.open(path, READ);
+        try {
+            return new BoardArchiveReader(channel);
+        } catch (IOException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * @return o próximo registro, ou {@code null} ao chegar no fim do export
+     */
+    public BoardArchiveRecord next() throws IOException {
+        if (finished) {
+            return null;
+        }
+        require(RECORD_HEADER_SIZE);
+        var type = buffer.get();
+        var size = buffer.getInt();
+        require(size);
+        return switch (type) {
+            case END -> {
+                finished = true;
+                yield null;
+            }
+            case BOARD -> new BoardArchiveRecord.Board(getString());
+            case COLUMN -> new BoardArchiveRecord.Column(buffer.getLong(), getString(), buffer.getInt(), findByName(getString()));
+            case CARD -> new BoardArchiveRecord.Card(buffer.getLong(), buffer.getLong(), getString(), getString());
+            case BLOCK -> new BoardArchiveRecord.Block(getTimestamp(), getString(), getTimestamp(), getString());
+            default -> throw new IOException("Tipo de registro %d inválido no export de board".formatted(type));
+        };
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void require(final int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) {
+            return;
+        }
+        if (bytes > buffer.capacity()) {
+            throw new IOException("Registro de %d bytes excede o tamanho máximo do export".formatted(bytes));
+        }
+        buffer.compact();
+        while (buffer.position() < bytes) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("O export de board terminou antes do registro final");
+            }
+        }
+        buffer.flip();
+    }
+
+    private String getString() {
+        var length = buffer.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        var bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    private OffsetDateTime getTimestamp() {
+        var millis = buffer.getLong();
+        return millis == NULL_TIMESTAMP ? null : OffsetDateTime.ofInstant(Instant.ofEpochMilli(millis), UTC);
+    }
+
+}
@@ -0,0 +1,29 @@
+package br.com.dio.persistence.archive;
+
+import br.com.dio.persistence.entity.BoardColumnKindEnum;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Registros lidos de um arquivo de export de board. Os ids são os do banco de origem e servem
+ * apenas para relacionar os registros entre si.
+ */
+public sealed interface BoardArchiveRecord {
+
+    record Board(String name) implements BoardArchiveRecord {
+    }
+
+    record Column(long id, String name, int order, BoardColumnKindEnum kind) implements BoardArchiveRecord {
+    }
+
+    record Card(long id, long columnId, String title, String description) implements BoardArchiveRecord {
+    }
+
+    /**
+     * Bloqueio do último {@link Card} lido.
+     */
+    record Block(OffsetDateTime blockedAt, String blockReason,
+                 OffsetDateTime unblockedAt, String unblockReason) implements BoardArchiveRecord {
+    }
+
+}
@@ -0,0 +1,158 @@
+package br.com.dio.persistence.archive;
+
+import br.com.dio.persistence.entity.BoardColumnKindEnum;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+
+import static br.com.dio.persistence.archive.BoardArchiveFormat.BLOCK;
+import static br.com.dio.persistence.archive.BoardArchiveFormat.BOARD;
+import static br.com.dio.persistence.archive.BoardArchiveFormat.BUFFER_SIZE;
+import static br.com.dio.persistence.archive.BoardArchiveFormat.CARD;
+import static br.com.dio.persistence.archive.BoardArchiveFormat.COLUMN;
+import static br.com.dio.persistence.archive.BoardArchiveFormat.END;
+import static br.com.dio.persistence.archive.BoardArchiveFormat.MAGIC;
+import static br.com.dio.persistence.archive.BoardArchiveFormat.NULL_LENGTH;
+import static br.com.dio.persistence.archive.BoardArchiveFormat.NULL_TIMESTAMP;
+import static br.com.dio.persistence.archive.BoardArchiveFormat.RECORD_HEADER_SIZE;
+import static br.com.dio.persistence.archive.BoardArchiveFormat.VERSION;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Grava um export de board no formato de {@link BoardArchiveFormat} através de um
+ * {@link FileChannel} com buffer fixo, então a memória usada não depende da quantidade de
+ * registros. O arquivo só fica completo depois de {@link #finish()}: fechado sem ele, o export
+ * fica sem o registro final e é recusado pelo {@link BoardArchiveReader}.
+ */
+public class BoardArchiveWriter implements Closeable {
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private long columns;
+    private long cards;
+    private long blocks;
+
+    private BoardArchiveWriter(final FileChannel channel) throws IOException {
+        this.channel = channel;
+        buffer.putInt(MAGIC).putShort(VERSION);
+    }
+
+    public static BoardArchiveWriter create(final Path path) throws IOException {
+        return new BoardArchiveWriter(FileChannel.open(path, CREATE, TRUNCATE_EXISTING, WRITE));
+    }
+
+    public void writeBoard(final String name) throws IOException {
+        var encodedName = encode(name);
+        startRecord(BOARD, size(encodedName));
+        putString(encodedName);
+    }
+
+    public void writeColumn(final long id, final String name, final int order, final BoardColumnKindEnum kind) throws IOException {
+        var encodedName = encode(name);
+        var encodedKind = encode(kind.name());
+        startRecord(COLUMN, Long.BYTES + size(encodedName) + Integer.BYTES + size(encodedKind));
+        buffer.putLong(id);
+        putString(encodedName);
+        buffer.putInt(order);
+        putString(encodedKind);
+        columns++;
+    }
+
+    public void writeCard(final long id, final long columnId, final String title, final String description) throws IOException {
+        var encodedTitle = encode(title);
+        var encodedDescription = encode(description);
+        startRecord(CARD, Long.BYTES * 2 + size(encodedTitle) + size(encodedDescription));
+        buffer.putLong(id).putLong(columnId);
+        putString(encodedTitle);
+        putString(encodedDescription);
+        cards++;
+    }
+
+    /**
+     * Grava um bloqueio do último card escrito.
+     */
+    public void writeBlock(final OffsetDateTime blockedAt, final String blockReason,
+                           final OffsetDateTime unblockedAt, final String unblockReason) throws IOException {
+        var encodedBlockReason = encode(blockReason);
+        var encodedUnblockReason = encode(unblockReason);
+        startRecord(BLOCK, Long.BYTES * 2 + size(encodedBlockReason) + size(encodedUnblockReason));
+        buffer.putLong(toMillis(blockedAt));
+        putString(encodedBlockReason);
+        buffer.putLong(toMillis(unblockedAt));
+        putString(encodedUnblockReason);
+        blocks++;
+    }
+
+    public long getColumns() {
+        return columns;
+    }
+
+    public long getCards() {
+        return cards;
+    }
+
+    public long getBlocks() {
+        return blocks;
+    }
+
+    /**
+     * Grava o registro final e força o conteúdo para o disco.
+     */
+    public void finish() throws IOException {
+        startRecord(END, 0);
+        drain();
+        channel.force(false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void startRecord(final byte type, final int size) throws IOException {
+        var required = RECORD_HEADER_SIZE + size;
+        if (required > buffer.capacity()) {
+            throw new IOException("Registro de %d bytes excede o tamanho máximo do export".formatted(required));
+        }
+        if (buffer.remaining() < required) {
+            drain();
+        }
+        buffer.put(type).putInt(size);
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private void putString(final byte[] encoded) {
+        if (encoded == null) {
+            buffer.putInt(NULL_LENGTH);
+            return;
+        }
+        buffer.putInt(encoded.length).put(encoded);
+    }
+
+    private static byte[] encode(final String value) {
+        return value == null ? null : value.getBytes(UTF_8);
+    }
+
+    private static int size(final byte[] encoded) {
+        return Integer.BYTES + (encoded == null ? 0 : encoded.length);
+    }
+
+    private static long toMillis(final OffsetDateTime value) {
+        return value == null ? NULL_TIMESTAMP : value.toInstant().toEpochMilli();
+    }
+
+}
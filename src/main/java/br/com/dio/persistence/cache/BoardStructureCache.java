@@ -0,0 +1,130 @@
+package br.com.dio.persistence.cache;
+
+import br.com.dio.dto.CacheStatsDTO;
+import br.com.dio.persistence.entity.BoardColumnEntity;
+import br.com.dio.persistence.entity.BoardEntity;
+
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static br.com.dio.config.EnvironmentConfig.getEnv;
+
+/**
+ * Cache em memória da estrutura dos boards (o board e suas colunas, sem cards), com
+ * despejo LRU por tamanho e expiração por TTL. As entradas são cópias: quem lê pode
+ * alterar o {@link BoardEntity} devolvido sem afetar o cache.
+ */
+public class BoardStructureCache {
+
+    private static final BoardStructureCache shared = new BoardStructureCache(
+            Integer.parseInt(getEnv("BOARD_CACHE_MAX_SIZE", "1000")),
+            Long.parseLong(getEnv("BOARD_CACHE_TTL_SECONDS", "600")) * 1_000_000_000L
+    );
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final Map<Long, Entry> entries;
+    private long generation;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long invalidations;
+
+    public BoardStructureCache(final int maxSize, final long ttlNanos) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttlNanos;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Long, Entry> eldest) {
+                var remove = size() > BoardStructureCache.this.maxSize;
+                if (remove) {
+                    evictions++;
+                }
+                return remove;
+            }
+        };
+    }
+
+    public static BoardStructureCache shared() {
+        return shared;
+    }
+
+    /**
+     * Devolve a estrutura do board, consultando o {@code loader} apenas em caso de miss ou
+     * de entrada expirada. Boards inexistentes não são guardados.
+     */
+    public Optional<BoardEntity> get(final Long id, final Loader loader) throws SQLException {
+        long loadGeneration;
+        synchronized (this) {
+            var entry = entries.get(id);
+            if (entry != null && entry.expiresAt() - System.nanoTime() > 0) {
+                hits++;
+                return Optional.of(copyOf(entry.board()));
+            }
+            if (entry != null) {
+                entries.remove(id);
+                evictions++;
+            }
+            misses++;
+            loadGeneration = generation;
+        }
+        var loaded = loader.load(id);
+        loaded.ifPresent(board -> put(board, loadGeneration));
+        return loaded.map(BoardStructureCache::copyOf);
+    }
+
+    public synchronized void invalidate(final Long id) {
+        generation++;
+        invalidations++;
+        entries.remove(id);
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        invalidations++;
+        entries.clear();
+    }
+
+    public synchronized CacheStatsDTO getStats() {
+        var requests = hits + misses;
+        var hitRatio = requests == 0 ? 0 : (double) hits / requests;
+        return new CacheStatsDTO(hits, misses, hitRatio, evictions, invalidations, entries.size(), maxSize);
+    }
+
+    private synchronized void put(final BoardEntity board, final long loadGeneration) {
+        // uma invalidação durante a consulta pode ter tornado o valor carregado obsoleto
+        if (loadGeneration != generation) {
+            return;
+        }
+        entries.put(board.getId(), new Entry(copyOf(board), System.nanoTime() + ttlNanos));
+    }
+
+    private static BoardEntity copyOf(final BoardEntity source) {
+        var board = new BoardEntity();
+        board.setId(source.getId());
+        board.setName(source.getName());
+        for (var sourceColumn : source.getBoardColumns()) {
+            var column = new BoardColumnEntity();
+            column.setId(sourceColumn.getId());
+            column.setName(sourceColumn.getName());
+            column.setOrder(sourceColumn.getOrder());
+            column.setKind(sourceColumn.getKind());
+            column.setBoard(board);
+            board.getBoardColumns().add(column);
+        }
+        return board;
+    }
+
+    @FunctionalInterface
+    public interface Loader {
+
+        Optional<BoardEntity> load(Long id) throws SQLException;
+
+    }
+
+    private record Entry(BoardEntity board, long expiresAt) {
+    }
+
+}
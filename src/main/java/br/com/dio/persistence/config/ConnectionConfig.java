@@ -1,22 +1,150 @@
 package br.com.dio.persistence.config;
 
+import br.com.dio.dto.ConnectionPoolMetricsDTO;
+import br.com.dio.dto.ReplicaRoutingMetricsDTO;
+import br.com.dio.persistence.trace.JdbcTracer;
+import br.com.dio.persistence.trace.TracingConnection;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
 import lombok.NoArgsConstructor;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
+import static br.com.dio.config.EnvironmentConfig.getEnv;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 import static lombok.AccessLevel.PRIVATE;
 
 @NoArgsConstructor(access = PRIVATE)
 public final class ConnectionConfig {
 
+    private static final ConnectionPoolMetrics poolMetrics = new ConnectionPoolMetrics();
+    private static HikariDataSource dataSource;
+    private static final List<HikariDataSource> replicaDataSources = new ArrayList<>();
+    private static ReplicaRouter router;
+
+    /**
+     * Empresta uma conexão do pool do primário. O {@code close()} da conexão devolve ela ao
+     * pool em vez de encerrar a conexão física, então os chamadores continuam usando
+     * try-with-resources. Com o rastreamento ligado, a conexão vem envolvida pelo
+     * {@link TracingConnection}.
+     */
     public static Connection getConnection() throws SQLException {
-        var url = System.getenv("DB_URL") != null ? System.getenv("DB_URL") : "jdbc:mysql://localhost/board";
-        var user = System.getenv("DB_USER") != null ? System.getenv("DB_USER") : "root";
-        var password = System.getenv("DB_PASSWORD") != null ? System.getenv("DB_PASSWORD") : "818283";
-        var connection = DriverManager.getConnection(url, user, password);
-        connection.setAutoCommit(false);
-        return connection;
-    }
-}
\ No newline at end of file
+        return traced(getRouter().getConnection());
+    }
+
+    /**
+     * Empresta uma conexão para os serviços de consulta: de uma réplica de {@code DB_REPLICA_URLS},
+     * se houver, ou do primário. Veja o {@link ReplicaRouter}.
+     */
+    public static Connection getReadConnection() throws SQLException {
+        return traced(getRouter().getReadConnection());
+    }
+
+    public static ConnectionPoolMetricsDTO getPoolMetrics() {
+        return poolMetrics.snapshot();
+    }
+
+    public static ReplicaRoutingMetricsDTO getReplicaMetrics() {
+        return getRouter().snapshot();
+    }
+
+    public static synchronized void close() {
+        if (nonNull(dataSource)) {
+            dataSource.close();
+            dataSource = null;
+        }
+        replicaDataSources.forEach(HikariDataSource::close);
+        replicaDataSources.clear();
+        router = null;
+    }
+
+    private static Connection traced(final Connection connection) {
+        return JdbcTracer.isEnabled() ? TracingConnection.wrap(connection) : connection;
+    }
+
+    private static synchronized ReplicaRouter getRouter() {
+        if (isNull(router)) {
+            dataSource = new HikariDataSource(buildPoolConfig());
+            Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+            var urls = getEnv("DB_REPLICA_URLS", "");
+            for (var url : urls.split(",")) {
+                if (!url.isBlank()) {
+                    var replica = new HikariDataSource(buildReplicaPoolConfig(url.strip(), replicas.size() + 1));
+                    replicas.put(replica.getPoolName(), replica);
+                    replicaDataSources.add(replica);
+                }
+            }
+            router = new ReplicaRouter(dataSource, replicas,
+                    ReplicaRouter.Balancing.parse(getEnv("DB_REPLICA_BALANCING", "round-robin")),
+                    Long.parseLong(getEnv("DB_REPLICA_STICKY_MS", "2000")),
+                    Long.parseLong(getEnv("DB_REPLICA_RETRY_MS", "5000")));
+            Runtime.getRuntime().addShutdownHook(new Thread(ConnectionConfig::close, "connection-pool-shutdown"));
+        }
+        return router;
+    }
+
+    private static HikariConfig buildPoolConfig() {
+        var config = new HikariConfig();
+        config.setPoolName("board-pool");
+        config.setJdbcUrl(getEnv("DB_URL", "jdbc:mysql://localhost/board"));
+        config.setUsername(getEnv("DB_USER", "root"));
+        config.setPassword(getEnv("DB_PASSWORD", "818283"));
+        addDriverProperties(config);
+        config.setMaximumPoolSize(Integer.parseInt(getEnv("DB_POOL_MAX_SIZE", "10")));
+        config.setMinimumIdle(Integer.parseInt(getEnv("DB_POOL_MIN_IDLE", "2")));
+        config.setIdleTimeout(Long.parseLong(getEnv("DB_POOL_IDLE_TIMEOUT_MS", "60000")));
+        config.setMaxLifetime(Long.parseLong(getEnv("DB_POOL_MAX_LIFETIME_MS", "1800000")));
+        config.setConnectionTimeout(Long.parseLong(getEnv("DB_POOL_CONNECTION_TIMEOUT_MS", "30000")));
+        config.setValidationTimeout(Long.parseLong(getEnv("DB_POOL_VALIDATION_TIMEOUT_MS", "5000")));
+        config.setLeakDetectionThreshold(Long.parseLong(getEnv("DB_POOL_LEAK_DETECTION_MS", "30000")));
+        config.setMetricsTrackerFactory(poolMetrics);
+        return config;
+    }
+
+    /**
+     * Pool de uma réplica: somente leitura, com espera curta por conexão para que uma réplica
+     * fora do ar seja logo trocada pelo primário, e sem falhar na subida se a réplica ainda não
+     * estiver acessível.
+     */
+    private static HikariConfig buildReplicaPoolConfig(final String url, final int number) {
+        var config = new HikariConfig();
+        config.setPoolName("board-replica-" + number);
+        config.setJdbcUrl(url);
+        config.setUsername(getEnv("DB_REPLICA_USER", getEnv("DB_USER", "root")));
+        config.setPassword(getEnv("DB_REPLICA_PASSWORD", getEnv("DB_PASSWORD", "818283")));
+        config.setReadOnly(true);
+        addDriverProperties(config);
+        config.setMaximumPoolSize(Integer.parseInt(getEnv("DB_REPLICA_POOL_MAX_SIZE", getEnv("DB_POOL_MAX_SIZE", "10"))));
+        config.setMinimumIdle(Integer.parseInt(getEnv("DB_POOL_MIN_IDLE", "2")));
+        config.setIdleTimeout(Long.parseLong(getEnv("DB_POOL_IDLE_TIMEOUT_MS", "60000")));
+        config.setMaxLifetime(Long.parseLong(getEnv("DB_POOL_MAX_LIFETIME_MS", "1800000")));
+        config.setConnectionTimeout(Long.parseLong(getEnv("DB_REPLICA_CONNECTION_TIMEOUT_MS", "1000")));
+        config.setValidationTimeout(Long.parseLong(getEnv("DB_POOL_VALIDATION_TIMEOUT_MS", "5000")));
+        config.setInitializationFailTimeout(-1);
+        return config;
+    }
+
+    /**
+     * Propriedades do driver do MySQL usadas pelos pools do primário e das réplicas. Pública
+     * para que o {@code StatementCacheBenchmark} meça a mesma configuração.
+     */
+    public static void addDriverProperties(final HikariConfig config) {
+        config.setAutoCommit(false);
+        // permite ao driver do MySQL reescrever os lotes de INSERT em um único INSERT multi-valores
+        config.addDataSourceProperty("rewriteBatchedStatements", "true");
+        // faz o driver respeitar o fetch size das consultas paginadas com um cursor no servidor
+        config.addDataSourceProperty("useCursorFetch", "true");
+        // prepara cada statement uma vez no servidor e reaproveita por conexão física (cache LRU do driver);
+        // como o pool mantém as conexões físicas, o cache sobrevive entre os empréstimos
+        config.addDataSourceProperty("useServerPrepStmts", "true");
+        config.addDataSourceProperty("cachePrepStmts", "true");
+        config.addDataSourceProperty("prepStmtCacheSize", getEnv("DB_STATEMENT_CACHE_SIZE", "250"));
+        config.addDataSourceProperty("prepStmtCacheSqlLimit", getEnv("DB_STATEMENT_CACHE_SQL_LIMIT", "2048"));
+    }
+}
@@ -0,0 +1,68 @@
+package br.com.dio.persistence.config;
+
+import br.com.dio.dto.ConnectionPoolMetricsDTO;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.isNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Coleta as métricas do pool de conexões: tempo de espera para obter uma conexão,
+ * tempo de uso, timeouts e a contagem de conexões ativas/ociosas.
+ */
+class ConnectionPoolMetrics implements MetricsTrackerFactory, IMetricsTracker {
+
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Long::max, 0);
+    private final LongAdder totalUsageMillis = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private volatile PoolStats poolStats;
+
+    @Override
+    public IMetricsTracker create(final String poolName, final PoolStats poolStats) {
+        this.poolStats = poolStats;
+        return this;
+    }
+
+    @Override
+    public void recordConnectionAcquiredNanos(final long elapsedAcquiredNanos) {
+        acquired.increment();
+        totalWaitNanos.add(elapsedAcquiredNanos);
+        maxWaitNanos.accumulate(elapsedAcquiredNanos);
+    }
+
+    @Override
+    public void recordConnectionUsageMillis(final long elapsedBorrowedMillis) {
+        totalUsageMillis.add(elapsedBorrowedMillis);
+    }
+
+    @Override
+    public void recordConnectionTimeout() {
+        timeouts.increment();
+    }
+
+    ConnectionPoolMetricsDTO snapshot() {
+        var stats = poolStats;
+        var acquiredCount = acquired.sum();
+        var averageWaitMillis = acquiredCount == 0 ? 0 : NANOSECONDS.toMicros(totalWaitNanos.sum() / acquiredCount) / 1000.0;
+        var averageUsageMillis = acquiredCount == 0 ? 0 : (double) totalUsageMillis.sum() / acquiredCount;
+        return new ConnectionPoolMetricsDTO(
+                isNull(stats) ? 0 : stats.getActiveConnections(),
+                isNull(stats) ? 0 : stats.getIdleConnections(),
+                isNull(stats) ? 0 : stats.getTotalConnections(),
+                isNull(stats) ? 0 : stats.getPendingThreads(),
+                acquiredCount,
+                averageWaitMillis,
+                NANOSECONDS.toMillis(maxWaitNanos.get()),
+                averageUsageMillis,
+                timeouts.sum()
+        );
+    }
+
+}
@@ -0,0 +1,66 @@
+package br.com.dio.persistence.config;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Leitura das próprias escritas: depois que uma sessão faz commit no primário, as leituras
+ * dela vão para o primário durante a janela de {@code stickyNanos}, o atraso de replicação
+ * tolerado. A sessão é associada à thread por {@link #bind}; sem associação, todas as threads
+ * compartilham uma sessão única.
+ */
+public final class ReadYourWrites {
+
+    private static final String SHARED_SESSION = "";
+    private static final int PURGE_THRESHOLD = 10_000;
+    private static final ThreadLocal<String> sessions = new ThreadLocal<>();
+
+    private final long stickyNanos;
+    private final ConcurrentHashMap<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+    ReadYourWrites(final long stickyNanos) {
+        this.stickyNanos = stickyNanos;
+    }
+
+    /**
+     * Associa a sessão à thread atual até o {@link Binding#close()}, por exemplo durante o
+     * atendimento de uma requisição.
+     */
+    public static Binding bind(final String session) {
+        var previous = sessions.get();
+        sessions.set(session);
+        return () -> {
+            if (previous == null) {
+                sessions.remove();
+            } else {
+                sessions.set(previous);
+            }
+        };
+    }
+
+    void recordWrite() {
+        lastWrites.put(currentSession(), System.nanoTime());
+        if (lastWrites.size() > PURGE_THRESHOLD) {
+            var now = System.nanoTime();
+            lastWrites.values().removeIf(writtenAt -> now - writtenAt >= stickyNanos);
+        }
+    }
+
+    boolean isSticky() {
+        var writtenAt = lastWrites.get(currentSession());
+        return writtenAt != null && System.nanoTime() - writtenAt < stickyNanos;
+    }
+
+    private static String currentSession() {
+        var session = sessions.get();
+        return session != null ? session : SHARED_SESSION;
+    }
+
+    @FunctionalInterface
+    public interface Binding extends AutoCloseable {
+
+        @Override
+        void close();
+
+    }
+
+}
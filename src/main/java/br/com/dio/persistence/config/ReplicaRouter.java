@@ -0,0 +1,210 @@
+package br.com.dio.persistence.config;
+
+import br.com.dio.dto.ReplicaRoutingMetricsDTO;
+import br.com.dio.dto.ReplicaStatsDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Escolhe a origem das conexões: as escritas vão sempre para o primário e as leituras dos
+ * serviços de consulta vão para uma das réplicas, por revezamento ({@code ROUND_ROBIN}) ou pela
+ * réplica com menos conexões emprestadas ({@code LEAST_BUSY}).
+ * <ul>
+ *     <li>depois de um commit no primário, as leituras da mesma sessão ficam no primário pela
+ *     janela do {@link ReadYourWrites};</li>
+ *     <li>uma réplica que falha ao entregar uma conexão fica fora da escolha por
+ *     {@code retryMillis}; sem réplica disponível, a leitura vai para o primário.</li>
+ * </ul>
+ * Falhas depois que a conexão da réplica já foi entregue chegam ao chamador como de costume.
+ * Sem réplicas configuradas, todas as conexões vêm do primário sem nenhum envoltório.
+ */
+public class ReplicaRouter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRouter.class);
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final Balancing balancing;
+    private final long retryNanos;
+    private final ReadYourWrites readYourWrites;
+    private final AtomicInteger cursor = new AtomicInteger();
+    private final LongAdder primaryReads = new LongAdder();
+    private final LongAdder stickyReads = new LongAdder();
+    private final LongAdder failovers = new LongAdder();
+
+    /**
+     * @param replicas réplicas pelo nome, na ordem do revezamento
+     */
+    public ReplicaRouter(final DataSource primary, final Map<String, ? extends DataSource> replicas,
+                         final Balancing balancing, final long stickyMillis, final long retryMillis) {
+        this.primary = primary;
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource)));
+        this.balancing = balancing;
+        this.retryNanos = MILLISECONDS.toNanos(retryMillis);
+        this.readYourWrites = new ReadYourWrites(MILLISECONDS.toNanos(stickyMillis));
+    }
+
+    /**
+     * Conexão com o primário, para escritas. O commit dela inicia a janela de leitura das
+     * próprias escritas da sessão.
+     */
+    public Connection getConnection() throws SQLException {
+        var connection = primary.getConnection();
+        return replicas.isEmpty() ? connection : recordingWrites(connection);
+    }
+
+    /**
+     * Conexão para uma leitura que tolera o atraso de replicação.
+     */
+    public Connection getReadConnection() throws SQLException {
+        if (replicas.isEmpty()) {
+            primaryReads.increment();
+            return primary.getConnection();
+        }
+        if (readYourWrites.isSticky()) {
+            stickyReads.increment();
+            return getConnection();
+        }
+        var now = System.nanoTime();
+        for (var replica : candidates()) {
+            if (!replica.isAvailable(now)) {
+                continue;
+            }
+            try {
+                return replica.borrow();
+            } catch (SQLException e) {
+                replica.markDown(now + retryNanos);
+                logger.warn("Réplica {} indisponível, fora do roteamento por {} ms: {}",
+                        replica.name, NANOSECONDS.toMillis(retryNanos), e.getMessage());
+            }
+        }
+        failovers.increment();
+        logger.debug("Nenhuma réplica disponível, leitura enviada ao primário");
+        return getConnection();
+    }
+
+    public ReplicaRoutingMetricsDTO snapshot() {
+        var now = System.nanoTime();
+        var stats = replicas.stream()
+                .map(r -> new ReplicaStatsDTO(r.name, r.isAvailable(now), r.inFlight.get(), r.reads.sum(), r.failures.sum()))
+                .toList();
+        return new ReplicaRoutingMetricsDTO(balancing.name(), primaryReads.sum(), stickyReads.sum(), failovers.sum(), stats);
+    }
+
+    /**
+     * Réplicas na ordem de tentativa: a partir da vez do revezamento e, em {@code LEAST_BUSY},
+     * ordenadas pelas conexões emprestadas (empates ficam com a ordem do revezamento).
+     */
+    private List<Replica> candidates() {
+        var size = replicas.size();
+        var start = Math.floorMod(cursor.getAndIncrement(), size);
+        List<Replica> ordered = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ordered.add(replicas.get((start + i) % size));
+        }
+        if (balancing == Balancing.LEAST_BUSY) {
+            ordered.sort(Comparator.comparingInt(r -> r.inFlight.get()));
+        }
+        return ordered;
+    }
+
+    private Connection recordingWrites(final Connection target) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    var result = invoke(target, method, args);
+                    if (method.getName().equals("commit")) {
+                        readYourWrites.recordWrite();
+                    }
+                    return result;
+                });
+    }
+
+    private static Object invoke(final Object target, final Method method, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    public enum Balancing {
+
+        ROUND_ROBIN, LEAST_BUSY;
+
+        /**
+         * Aceita o nome do enum ou a forma com hífens, como {@code least-busy}.
+         */
+        public static Balancing parse(final String value) {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        }
+
+    }
+
+    private static class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final LongAdder reads = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private volatile long downUntil;
+        private volatile boolean down;
+
+        Replica(final String name, final DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        boolean isAvailable(final long now) {
+            return !down || now - downUntil >= 0;
+        }
+
+        void markDown(final long until) {
+            failures.increment();
+            downUntil = until;
+            down = true;
+        }
+
+        /**
+         * Empresta uma conexão da réplica, contando-a como ocupada até o {@code close()}.
+         */
+        Connection borrow() throws SQLException {
+            var target = dataSource.getConnection();
+            down = false;
+            reads.increment();
+            inFlight.incrementAndGet();
+            var closed = new AtomicBoolean();
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().equals("close") && closed.compareAndSet(false, true)) {
+                            inFlight.decrementAndGet();
+                        }
+                        return invoke(target, method, args);
+                    });
+        }
+
+    }
+
+}
@@ -1,38 +1,97 @@
 package br.com.dio.persistence.dao;
 
+import br.com.dio.metrics.OperationTimer;
+import br.com.dio.persistence.entity.BlockEntity;
 import lombok.AllArgsConstructor;
 
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.time.OffsetDateTime;
+import java.util.List;
 
+import static br.com.dio.metrics.OperationMetrics.timer;
 import static br.com.dio.persistence.converter.OffsetDateTimeConverter.toTimestamp;
 
 @AllArgsConstructor
 public class BlockDAO {
 
+    private static final OperationTimer BLOCK_TIMER = timer("BlockDAO.block");
+    private static final OperationTimer UNBLOCK_TIMER = timer("BlockDAO.unblock");
+    private static final OperationTimer INSERT_ALL_TIMER = timer("BlockDAO.insertAll");
+    private static final OperationTimer BLOCK_ALL_TIMER = timer("BlockDAO.blockAll");
     private final Connection connection;
 
     public void block(final String reason, final Long cardId) throws SQLException {
-        var sql = "INSERT INTO BLOCKS (blocked_at, block_reason, card_id) VALUES (?, ?, ?);";
-        try(var statement = connection.prepareStatement(sql)){
-            var i = 1;
-            statement.setTimestamp(i ++, toTimestamp(OffsetDateTime.now()));
-            statement.setString(i ++, reason);
-            statement.setLong(i, cardId);
-            statement.executeUpdate();
-        }
+        BLOCK_TIMER.run(() -> {
+            var sql = "INSERT INTO BLOCKS (blocked_at, block_reason, card_id) VALUES (?, ?, ?);";
+            try(var statement = connection.prepareStatement(sql)){
+                var i = 1;
+                statement.setTimestamp(i ++, toTimestamp(OffsetDateTime.now()));
+                statement.setString(i ++, reason);
+                statement.setLong(i, cardId);
+                statement.executeUpdate();
+            }
+        });
     }
 
     public void unblock(final String reason, final Long cardId) throws SQLException{
-        var sql = "UPDATE BLOCKS SET unblocked_at = ?, unblock_reason = ? WHERE card_id = ? AND unblock_reason IS NULL;";
-        try(var statement = connection.prepareStatement(sql)){
-            var i = 1;
-            statement.setTimestamp(i ++, toTimestamp(OffsetDateTime.now()));
-            statement.setString(i ++, reason);
-            statement.setLong(i, cardId);
-            statement.executeUpdate();
-        }
+        UNBLOCK_TIMER.run(() -> {
+            var sql = "UPDATE BLOCKS SET unblocked_at = ?, unblock_reason = ? WHERE card_id = ? AND unblocked_at IS NULL;";
+            try(var statement = connection.prepareStatement(sql)){
+                var i = 1;
+                statement.setTimestamp(i ++, toTimestamp(OffsetDateTime.now()));
+                statement.setString(i ++, reason);
+                statement.setLong(i, cardId);
+                statement.executeUpdate();
+            }
+        });
+    }
+
+    /**
+     * Abre um bloqueio com o mesmo motivo e instante para cada card, em um único lote JDBC.
+     */
+    public void blockAll(final String reason, final List<Long> cardIds) throws SQLException {
+        BLOCK_ALL_TIMER.run(() -> {
+            if (cardIds.isEmpty()) {
+                return;
+            }
+            var sql = "INSERT INTO BLOCKS (blocked_at, block_reason, card_id) VALUES (?, ?, ?);";
+            var blockedAt = toTimestamp(OffsetDateTime.now());
+            try(var statement = connection.prepareStatement(sql)){
+                for (var cardId : cardIds) {
+                    var i = 1;
+                    statement.setTimestamp(i ++, blockedAt);
+                    statement.setString(i ++, reason);
+                    statement.setLong(i, cardId);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        });
+    }
+
+    /**
+     * Insere bloqueios já existentes (com as datas e motivos informados) em um único lote JDBC.
+     */
+    public void insertAll(final List<BlockEntity> entities) throws SQLException {
+        INSERT_ALL_TIMER.run(() -> {
+            if (entities.isEmpty()) {
+                return;
+            }
+            var sql = "INSERT INTO BLOCKS (blocked_at, block_reason, unblocked_at, unblock_reason, card_id) VALUES (?, ?, ?, ?, ?);";
+            try(var statement = connection.prepareStatement(sql)){
+                for (var entity : entities) {
+                    var i = 1;
+                    statement.setTimestamp(i ++, toTimestamp(entity.getBlockedAt()));
+                    statement.setString(i ++, entity.getBlockReason());
+                    statement.setTimestamp(i ++, toTimestamp(entity.getUnblockedAt()));
+                    statement.setString(i ++, entity.getUnblockReason());
+                    statement.setLong(i, entity.getCard().getId());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        });
     }
 
 }
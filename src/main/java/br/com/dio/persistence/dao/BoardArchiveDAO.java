@@ -0,0 +1,80 @@
+package br.com.dio.persistence.dao;
+
+import br.com.dio.metrics.OperationTimer;
+import br.com.dio.persistence.archive.BoardArchiveWriter;
+import br.com.dio.persistence.mapping.ColumnLayout;
+import lombok.AllArgsConstructor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static br.com.dio.metrics.OperationMetrics.timer;
+
+@AllArgsConstructor
+public class BoardArchiveDAO {
+
+    private static final OperationTimer EXPORT_CARDS_TIMER = timer("BoardArchiveDAO.exportCards");
+    private static final int FETCH_SIZE = 1_000;
+    private static final ColumnLayout CARD_BLOCK_LAYOUT = ColumnLayout.of("id", "board_column_id", "title", "description",
+            "block_id", "blocked_at", "block_reason", "unblocked_at", "unblock_reason");
+    private final Connection connection;
+
+    /**
+     * Grava os cards do board, cada um seguido dos seus bloqueios, lendo tudo em uma única
+     * consulta com cursor somente para frente. O driver busca as linhas em blocos de
+     * {@value #FETCH_SIZE}, então a memória usada não depende da quantidade de cards. Erros de
+     * escrita do arquivo atravessam o timer como {@link UncheckedIOException} e são relançados
+     * como {@link IOException}.
+     */
+    public void exportCards(final Long boardId, final BoardArchiveWriter writer) throws SQLException, IOException {
+        try {
+            EXPORT_CARDS_TIMER.run(() -> {
+                var sql =
+                        """
+                        SELECT c.id,
+                               c.board_column_id,
+                               c.title,
+                               c.description,
+                               b.id block_id,
+                               b.blocked_at,
+                               b.block_reason,
+                               b.unblocked_at,
+                               b.unblock_reason
+                          FROM BOARDS_COLUMNS bc
+                         INNER JOIN CARDS c
+                            ON c.board_column_id = bc.id
+                          LEFT JOIN BLOCKS b
+                            ON b.card_id = c.id
+                         WHERE bc.board_id = ?
+                         ORDER BY c.board_column_id, c.id, b.id;
+                        """;
+                try (var statement = connection.prepareStatement(sql)) {
+                    statement.setFetchSize(FETCH_SIZE);
+                    statement.setLong(1, boardId);
+                    try (var resultSet = statement.executeQuery()) {
+                        var row = CARD_BLOCK_LAYOUT.rows(resultSet);
+                        var lastCardId = 0L;
+                        while (row.next()) {
+                            var cardId = row.getLong(0);
+                            if (cardId != lastCardId) {
+                                writer.writeCard(cardId, row.getLong(1), row.getString(2), row.getString(3));
+                                lastCardId = cardId;
+                            }
+                            if (!row.isNull(4)) {
+                                writer.writeBlock(row.getOffsetDateTime(5), row.getString(6),
+                                        row.getOffsetDateTime(7), row.getString(8));
+                            }
+                        }
+                    }
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+}
@@ -1,132 +1,362 @@
 package br.com.dio.persistence.dao;
 
 import br.com.dio.dto.BoardColumnDTO;
+import br.com.dio.metrics.OperationTimer;
 import br.com.dio.persistence.entity.BoardColumnEntity;
 import br.com.dio.persistence.entity.CardEntity;
-import com.mysql.cj.jdbc.StatementImpl;
+import br.com.dio.persistence.mapping.ColumnLayout;
+import br.com.dio.persistence.mapping.Row;
 import lombok.RequiredArgsConstructor;
 
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import static br.com.dio.metrics.OperationMetrics.timer;
 import static br.com.dio.persistence.entity.BoardColumnKindEnum.findByName;
-import static java.util.Objects.isNull;
 
 @RequiredArgsConstructor
 public class BoardColumnDAO {
 
+    private static final OperationTimer INSERT_TIMER = timer("BoardColumnDAO.insert");
+    private static final OperationTimer INSERT_ALL_TIMER = timer("BoardColumnDAO.insertAll");
+    private static final OperationTimer FIND_BY_BOARD_ID_TIMER = timer("BoardColumnDAO.findByBoardId");
+    private static final OperationTimer FIND_BY_BOARD_ID_WITH_DETAILS_TIMER = timer("BoardColumnDAO.findByBoardIdWithDetails");
+    private static final OperationTimer ADD_CARDS_AMOUNT_TIMER = timer("BoardColumnDAO.addCardsAmount");
+    private static final OperationTimer ADD_CARDS_AMOUNTS_TIMER = timer("BoardColumnDAO.addCardsAmounts");
+    private static final OperationTimer TRANSFER_CARDS_AMOUNT_TIMER = timer("BoardColumnDAO.transferCardsAmount");
+    private static final OperationTimer TRANSFER_CARDS_AMOUNT_OF_CARD_TIMER = timer("BoardColumnDAO.transferCardsAmountOfCard");
+    private static final OperationTimer RECONCILE_CARDS_AMOUNT_TIMER = timer("BoardColumnDAO.reconcileCardsAmount");
+    private static final OperationTimer FIND_BY_ID_TIMER = timer("BoardColumnDAO.findById");
+    private static final OperationTimer FIND_CARDS_PAGE_TIMER = timer("BoardColumnDAO.findCardsPage");
+    private static final OperationTimer FIND_ALL_BOARD_IDS_TIMER = timer("BoardColumnDAO.findAllBoardIds");
+    private static final OperationTimer FIND_NEXT_COLUMN_ID_TIMER = timer("BoardColumnDAO.findNextColumnId");
+    private static final ColumnLayout COLUMN_LAYOUT = ColumnLayout.of("id", "name", "order", "kind");
+    private static final ColumnLayout COLUMN_DETAILS_LAYOUT = ColumnLayout.of("id", "name", "kind", "cards_amount");
+    private static final ColumnLayout ID_LAYOUT = ColumnLayout.of("id");
+    private static final ColumnLayout BOARD_ID_LAYOUT = ColumnLayout.of("id", "board_id");
+    private static final ColumnLayout CARD_LAYOUT = ColumnLayout.of("id", "title", "description");
+    private static final ColumnLayout RECONCILE_LAYOUT = ColumnLayout.of("id", "cards_amount", "counted");
     private final Connection connection;
 
     public BoardColumnEntity insert(final BoardColumnEntity entity) throws SQLException {
-        var sql = "INSERT INTO BOARDS_COLUMNS (name, `order`, kind, board_id) VALUES (?, ?, ?, ?);";
-        try (var statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-            var i = 1;
-            statement.setString(i++, entity.getName());
-            statement.setInt(i++, entity.getOrder());
-            statement.setString(i++, entity.getKind().name());
-            statement.setLong(i, entity.getBoard().getId());
-            statement.executeUpdate();
-            try (var generatedKeys = statement.getGeneratedKeys()) {
-                if (generatedKeys.next()) {
-                    long id = generatedKeys.getLong(1);  // Armazenar em uma variável local
-                    entity.setId(id);
-                } else {
-                    throw new SQLException("Falha ao obter o ID gerado para a coluna do quadro.");
+        return INSERT_TIMER.record(() -> {
+            var sql = "INSERT INTO BOARDS_COLUMNS (name, `order`, kind, board_id) VALUES (?, ?, ?, ?);";
+            try (var statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                var i = 1;
+                statement.setString(i++, entity.getName());
+                statement.setInt(i++, entity.getOrder());
+                statement.setString(i++, entity.getKind().name());
+                statement.setLong(i, entity.getBoard().getId());
+                statement.executeUpdate();
+                try (var generatedKeys = statement.getGeneratedKeys()) {
+                    if (generatedKeys.next()) {
+                        long id = generatedKeys.getLong(1);  // Armazenar em uma variável local
+                        entity.setId(id);
+                    } else {
+                        throw new SQLException("Falha ao obter o ID gerado para a coluna do quadro.");
+                    }
+                }
+                return entity;
+            }
+        });
+    }
+
+    /**
+     * Insere as colunas em um único lote JDBC, inclusive colunas de quadros diferentes, e
+     * atribui a cada entidade o ID gerado na mesma ordem da lista.
+     */
+    public List<BoardColumnEntity> insertAll(final List<BoardColumnEntity> entities) throws SQLException {
+        return INSERT_ALL_TIMER.record(() -> {
+            var sql = "INSERT INTO BOARDS_COLUMNS (name, `order`, kind, board_id) VALUES (?, ?, ?, ?);";
+            try (var statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                for (var entity : entities) {
+                    var i = 1;
+                    statement.setString(i++, entity.getName());
+                    statement.setInt(i++, entity.getOrder());
+                    statement.setString(i++, entity.getKind().name());
+                    statement.setLong(i, entity.getBoard().getId());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                try (var generatedKeys = statement.getGeneratedKeys()) {
+                    for (var entity : entities) {
+                        if (!generatedKeys.next()) {
+                            throw new SQLException("Falha ao obter os IDs gerados para o lote de colunas do quadro.");
+                        }
+                        entity.setId(generatedKeys.getLong(1));
+                    }
                 }
+                return entities;
             }
-            return entity;
-        }
+        });
     }
 
     public List<BoardColumnEntity> findByBoardId(final Long boardId) throws SQLException{
-        List<BoardColumnEntity> entities = new ArrayList<>();
-        var sql = "SELECT id, name, `order`, kind FROM BOARDS_COLUMNS WHERE board_id = ? ORDER BY `order`";
-        try(var statement = connection.prepareStatement(sql)){
-            statement.setLong(1, boardId);
-            statement.executeQuery();
-            var resultSet = statement.getResultSet();
-            while (resultSet.next()){
-                var entity = new BoardColumnEntity();
-                entity.setId(resultSet.getLong("id"));
-                entity.setName(resultSet.getString("name"));
-                entity.setOrder(resultSet.getInt("order"));
-                entity.setKind(findByName(resultSet.getString("kind")));
-                entities.add(entity);
-            }
-            return entities;
-        }
+        return FIND_BY_BOARD_ID_TIMER.record(() -> {
+            var sql = "SELECT id, name, `order`, kind FROM BOARDS_COLUMNS WHERE board_id = ? ORDER BY `order`";
+            try(var statement = connection.prepareStatement(sql)){
+                statement.setLong(1, boardId);
+                try (var resultSet = statement.executeQuery()) {
+                    return COLUMN_LAYOUT.list(resultSet, BoardColumnDAO::toEntity);
+                }
+            }
+        });
     }
 
     public List<BoardColumnDTO> findByBoardIdWithDetails(final Long boardId) throws SQLException {
-        List<BoardColumnDTO> dtos = new ArrayList<>();
-        var sql =
-                """
-                SELECT bc.id,
-                       bc.name,
-                       bc.kind,
-                       (SELECT COUNT(c.id)
-                               FROM CARDS c
-                              WHERE c.board_column_id = bc.id) cards_amount
-                  FROM BOARDS_COLUMNS bc
-                 WHERE board_id = ?
-                 ORDER BY `order`;
-                """;
-        try(var statement = connection.prepareStatement(sql)){
-            statement.setLong(1, boardId);
-            statement.executeQuery();
-            var resultSet = statement.getResultSet();
-            while (resultSet.next()){
-                var dto = new BoardColumnDTO(
-                        resultSet.getLong("bc.id"),
-                        resultSet.getString("bc.name"),
-                        findByName(resultSet.getString("bc.kind")),
-                        resultSet.getInt("cards_amount")
-                );
-                dtos.add(dto);
-            }
-            return dtos;
-        }
+        return FIND_BY_BOARD_ID_WITH_DETAILS_TIMER.record(() -> {
+            var sql = "SELECT id, name, kind, cards_amount FROM BOARDS_COLUMNS WHERE board_id = ? ORDER BY `order`;";
+            try(var statement = connection.prepareStatement(sql)){
+                statement.setLong(1, boardId);
+                try (var resultSet = statement.executeQuery()) {
+                    return COLUMN_DETAILS_LAYOUT.list(resultSet, row -> new BoardColumnDTO(
+                            row.getLong(0),
+                            row.getString(1),
+                            findByName(row.getString(2)),
+                            row.getInt(3)
+                    ));
+                }
+            }
+        });
     }
 
-    public Optional<BoardColumnEntity> findById(final Long boardId) throws SQLException{
-        var sql =
-        """
-        SELECT bc.name,
-               bc.kind,
-               c.id,
-               c.title,
-               c.description
-          FROM BOARDS_COLUMNS bc
-          LEFT JOIN CARDS c
-            ON c.board_column_id = bc.id
-         WHERE bc.id = ?;
-        """;
-        try(var statement = connection.prepareStatement(sql)){
-            statement.setLong(1, boardId);
-            statement.executeQuery();
-            var resultSet = statement.getResultSet();
-            if (resultSet.next()){
-                var entity = new BoardColumnEntity();
-                entity.setName(resultSet.getString("bc.name"));
-                entity.setKind(findByName(resultSet.getString("bc.kind")));
-                do {
-                    var card = new CardEntity();
-                    if (isNull(resultSet.getString("c.title"))){
-                        break;
-                    }
-                    card.setId(resultSet.getLong("c.id"));
-                    card.setTitle(resultSet.getString("c.title"));
-                    card.setDescription(resultSet.getString("c.description"));
-                    entity.getCards().add(card);
-                }while (resultSet.next());
-                return Optional.of(entity);
-            }
-            return Optional.empty();
-        }
+    public void addCardsAmount(final Long id, final int delta) throws SQLException {
+        ADD_CARDS_AMOUNT_TIMER.run(() -> {
+            var sql = "UPDATE BOARDS_COLUMNS SET cards_amount = cards_amount + ? WHERE id = ?;";
+            try(var statement = connection.prepareStatement(sql)){
+                statement.setInt(1, delta);
+                statement.setLong(2, id);
+                statement.executeUpdate();
+            }
+        });
+    }
+
+    /**
+     * Aplica várias variações de contador (ID da coluna → delta) em um único lote.
+     */
+    public void addCardsAmounts(final Map<Long, Integer> deltas) throws SQLException {
+        ADD_CARDS_AMOUNTS_TIMER.run(() -> {
+            var sql = "UPDATE BOARDS_COLUMNS SET cards_amount = cards_amount + ? WHERE id = ?;";
+            try(var statement = connection.prepareStatement(sql)){
+                for (var delta : deltas.entrySet()){
+                    statement.setInt(1, delta.getValue());
+                    statement.setLong(2, delta.getKey());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        });
+    }
+
+    /**
+     * Transfere um card do contador de {@code fromId} para o de {@code toId}. Não faz nada se
+     * as duas colunas forem a mesma.
+     */
+    public void transferCardsAmount(final Long fromId, final Long toId) throws SQLException {
+        TRANSFER_CARDS_AMOUNT_TIMER.run(() -> {
+            if (fromId.equals(toId)) {
+                return;
+            }
+            var sql =
+                    """
+                    UPDATE BOARDS_COLUMNS
+                       SET cards_amount = cards_amount + CASE WHEN id = ? THEN -1 ELSE 1 END
+                     WHERE id IN (?, ?);
+                    """;
+            try(var statement = connection.prepareStatement(sql)){
+                statement.setLong(1, fromId);
+                statement.setLong(2, fromId);
+                statement.setLong(3, toId);
+                statement.executeUpdate();
+            }
+        });
+    }
+
+    /**
+     * Transfere o card {@code cardId}, que acabou de sair de {@code fromId}, para o contador da
+     * coluna em que ele está agora, sem precisar conhecer o ID da coluna de destino.
+     */
+    public void transferCardsAmountOfCard(final Long fromId, final Long cardId) throws SQLException {
+        TRANSFER_CARDS_AMOUNT_OF_CARD_TIMER.run(() -> {
+            var sql =
+                    """
+                    UPDATE BOARDS_COLUMNS
+                       SET cards_amount = cards_amount + CASE WHEN id = ? THEN -1 ELSE 1 END
+                     WHERE id IN (?, (SELECT c.board_column_id FROM CARDS c WHERE c.id = ?));
+                    """;
+            try(var statement = connection.prepareStatement(sql)){
+                statement.setLong(1, fromId);
+                statement.setLong(2, fromId);
+                statement.setLong(3, cardId);
+                statement.executeUpdate();
+            }
+        });
+    }
+
+    /**
+     * Coluna seguinte a {@code id} no board (menor {@code order} maior que o dela), ignorando a
+     * coluna de cancelamento, pela mesma regra de {@link CardDAO#moveToNextColumn}.
+     */
+    public Optional<Long> findNextColumnId(final Long id) throws SQLException {
+        return FIND_NEXT_COLUMN_ID_TIMER.record(() -> {
+            var sql =
+                    """
+                    SELECT nxt.id
+                      FROM BOARDS_COLUMNS cur
+                     INNER JOIN BOARDS_COLUMNS nxt
+                        ON nxt.board_id = cur.board_id
+                       AND nxt.`order` > cur.`order`
+                       AND nxt.kind <> 'CANCEL'
+                     WHERE cur.id = ?
+                     ORDER BY nxt.`order`
+                     LIMIT 1;
+                    """;
+            try(var statement = connection.prepareStatement(sql)){
+                statement.setLong(1, id);
+                try (var resultSet = statement.executeQuery()) {
+                    return ID_LAYOUT.first(resultSet, row -> row.getLong(0));
+                }
+            }
+        });
+    }
+
+    /**
+     * Board de cada coluna existente, indexado pelo ID da coluna.
+     */
+    public Map<Long, Long> findAllBoardIds() throws SQLException {
+        return FIND_ALL_BOARD_IDS_TIMER.record(() -> {
+            Map<Long, Long> boardIds = new HashMap<>();
+            var sql = "SELECT id, board_id FROM BOARDS_COLUMNS;";
+            try(var statement = connection.prepareStatement(sql)){
+                try (var resultSet = statement.executeQuery()) {
+                    BOARD_ID_LAYOUT.forEach(resultSet, row -> boardIds.put(row.getLong(0), row.getLong(1)));
+                }
+                return boardIds;
+            }
+        });
+    }
+
+    /**
+     * Recalcula o contador das colunas do board cujo valor divergiu da contagem real de cards.
+     * A contagem é uma única consulta agrupada, uma leitura sem travas; cada coluna divergente é
+     * corrigida por um UPDATE condicionado ao contador lido junto com a contagem. Se um card da
+     * coluna foi criado, movido ou excluído nesse meio tempo, o contador mudou e a coluna fica
+     * para a próxima reconciliação, em vez de receber uma contagem já desatualizada.
+     *
+     * @return quantidade de colunas corrigidas
+     */
+    public int reconcileCardsAmount(final Long boardId) throws SQLException {
+        return RECONCILE_CARDS_AMOUNT_TIMER.record(() -> {
+            var countSql =
+                    """
+                    SELECT bc.id,
+                           bc.cards_amount,
+                           COUNT(c.id) counted
+                      FROM BOARDS_COLUMNS bc
+                      LEFT JOIN CARDS c
+                        ON c.board_column_id = bc.id
+                     WHERE bc.board_id = ?
+                     GROUP BY bc.id, bc.cards_amount;
+                    """;
+            List<long[]> divergent = new ArrayList<>();
+            try(var statement = connection.prepareStatement(countSql)){
+                statement.setLong(1, boardId);
+                try (var resultSet = statement.executeQuery()) {
+                    RECONCILE_LAYOUT.forEach(resultSet, row -> {
+                        if (row.getLong(1) != row.getLong(2)) {
+                            divergent.add(new long[]{row.getLong(0), row.getLong(1), row.getLong(2)});
+                        }
+                    });
+                }
+            }
+            if (divergent.isEmpty()) {
+                return 0;
+            }
+            var fixed = 0;
+            var updateSql = "UPDATE BOARDS_COLUMNS SET cards_amount = ? WHERE id = ? AND cards_amount = ?;";
+            try(var statement = connection.prepareStatement(updateSql)){
+                for (var column : divergent) {
+                    statement.setLong(1, column[2]);
+                    statement.setLong(2, column[0]);
+                    statement.setLong(3, column[1]);
+                    fixed += statement.executeUpdate();
+                }
+            }
+            return fixed;
+        });
+    }
+
+    /**
+     * Busca apenas o cabeçalho da coluna. Os cards são lidos à parte, página a página, por
+     * {@link #findCardsPage} ou {@link #openCardCursor}.
+     */
+    public Optional<BoardColumnEntity> findById(final Long id) throws SQLException{
+        return FIND_BY_ID_TIMER.record(() -> {
+            var sql = "SELECT id, name, `order`, kind FROM BOARDS_COLUMNS WHERE id = ?;";
+            try(var statement = connection.prepareStatement(sql)){
+                statement.setLong(1, id);
+                try (var resultSet = statement.executeQuery()) {
+                    return COLUMN_LAYOUT.first(resultSet, BoardColumnDAO::toEntity);
+                }
+            }
+        });
+    }
+
+    /**
+     * Página de cards da coluna por keyset: até {@code limit} cards com id maior que
+     * {@code afterCardId}, em ordem de id. Para a primeira página informe {@code 0}.
+     */
+    public List<CardEntity> findCardsPage(final Long columnId, final long afterCardId, final int limit) throws SQLException{
+        return FIND_CARDS_PAGE_TIMER.record(() -> {
+            List<CardEntity> cards = new ArrayList<>(limit);
+            var sql =
+            """
+            SELECT id,
+                   title,
+                   description
+              FROM CARDS
+             WHERE board_column_id = ?
+               AND id > ?
+             ORDER BY id
+             LIMIT ?;
+            """;
+            try(var statement = connection.prepareStatement(sql)){
+                statement.setFetchSize(limit);
+                statement.setLong(1, columnId);
+                statement.setLong(2, afterCardId);
+                statement.setInt(3, limit);
+                try (var resultSet = statement.executeQuery()) {
+                    CARD_LAYOUT.forEach(resultSet, row -> {
+                        var card = new CardEntity();
+                        card.setId(row.getLong(0));
+                        card.setTitle(row.getString(1));
+                        card.setDescription(row.getString(2));
+                        card.getBoardColumn().setId(columnId);
+                        cards.add(card);
+                    });
+                }
+                return cards;
+            }
+        });
+    }
+
+    public ColumnCardCursor openCardCursor(final Long columnId, final int pageSize) {
+        return new ColumnCardCursor(this, columnId, pageSize);
+    }
+
+    private static BoardColumnEntity toEntity(final Row row) throws SQLException {
+        var entity = new BoardColumnEntity();
+        entity.setId(row.getLong(0));
+        entity.setName(row.getString(1));
+        entity.setOrder(row.getInt(2));
+        entity.setKind(findByName(row.getString(3)));
+        return entity;
     }
 
 }
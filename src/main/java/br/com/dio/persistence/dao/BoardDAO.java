@@ -1,66 +1,117 @@
 package br.com.dio.persistence.dao;
 
+import br.com.dio.metrics.OperationTimer;
 import br.com.dio.persistence.entity.BoardEntity;
-import com.mysql.cj.jdbc.StatementImpl;
+import br.com.dio.persistence.mapping.ColumnLayout;
 import lombok.AllArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
 import java.util.Optional;
 
+import static br.com.dio.metrics.OperationMetrics.timer;
+
 @AllArgsConstructor
 public class BoardDAO {
 
     private static final Logger logger = LoggerFactory.getLogger(BoardDAO.class);
+    private static final OperationTimer INSERT_TIMER = timer("BoardDAO.insert");
+    private static final OperationTimer INSERT_ALL_TIMER = timer("BoardDAO.insertAll");
+    private static final OperationTimer DELETE_TIMER = timer("BoardDAO.delete");
+    private static final OperationTimer FIND_BY_ID_TIMER = timer("BoardDAO.findById");
+    private static final OperationTimer EXISTS_TIMER = timer("BoardDAO.exists");
+    private static final ColumnLayout BOARD_LAYOUT = ColumnLayout.of("id", "name");
+    private static final ColumnLayout EXISTS_LAYOUT = ColumnLayout.of("exists");
     private final Connection connection;
 
     public BoardEntity insert(final BoardEntity entity) throws SQLException {
-        var sql = "INSERT INTO BOARDS (name) VALUES (?);";
-        try (var statement = connection.prepareStatement(sql)) {
-            statement.setString(1, entity.getName());
-            statement.executeUpdate();
-            if (statement instanceof StatementImpl impl) {
-                entity.setId(impl.getLastInsertID());
+        return INSERT_TIMER.record(() -> {
+            var sql = "INSERT INTO BOARDS (name) VALUES (?);";
+            try (var statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                statement.setString(1, entity.getName());
+                statement.executeUpdate();
+                try (var generatedKeys = statement.getGeneratedKeys()) {
+                    if (!generatedKeys.next()) {
+                        throw new SQLException("Falha ao obter o ID gerado para o quadro.");
+                    }
+                    entity.setId(generatedKeys.getLong(1));
+                }
+                logger.debug("Quadro inserido no banco: ID {}", entity.getId());
+                return entity;
+            }
+        });
+    }
+
+    public List<BoardEntity> insertAll(final List<BoardEntity> entities) throws SQLException {
+        return INSERT_ALL_TIMER.record(() -> {
+            var sql = "INSERT INTO BOARDS (name) VALUES (?);";
+            try (var statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                for (var entity : entities) {
+                    statement.setString(1, entity.getName());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                try (var generatedKeys = statement.getGeneratedKeys()) {
+                    for (var entity : entities) {
+                        if (!generatedKeys.next()) {
+                            throw new SQLException("Falha ao obter os IDs gerados para o lote de quadros.");
+                        }
+                        entity.setId(generatedKeys.getLong(1));
+                    }
+                }
+                logger.debug("{} quadros inseridos no banco em lote", entities.size());
+                return entities;
             }
-            logger.debug("Quadro inserido no banco: ID {}", entity.getId());
-            return entity;
-        }
+        });
     }
 
     public void delete(final Long id) throws SQLException {
-        var sql = "DELETE FROM BOARDS WHERE id = ?;";
-        try (var statement = connection.prepareStatement(sql)) {
-            statement.setLong(1, id);
-            int rowsAffected = statement.executeUpdate();
-            logger.debug("Quadro deletado, linhas afetadas: {}", rowsAffected);
-        }
+        DELETE_TIMER.run(() -> {
+            var sql = "DELETE FROM BOARDS WHERE id = ?;";
+            try (var statement = connection.prepareStatement(sql)) {
+                statement.setLong(1, id);
+                int rowsAffected = statement.executeUpdate();
+                logger.debug("Quadro deletado, linhas afetadas: {}", rowsAffected);
+            }
+        });
     }
 
     public Optional<BoardEntity> findById(final Long id) throws SQLException {
-        var sql = "SELECT id, name FROM BOARDS WHERE id = ? LIMIT 1;";
-        try (var statement = connection.prepareStatement(sql)) {
-            statement.setLong(1, id);
-            var resultSet = statement.executeQuery();
-            if (resultSet.next()) {
-                var entity = new BoardEntity();
-                entity.setId(resultSet.getLong("id"));
-                entity.setName(resultSet.getString("name"));
-                logger.debug("Quadro encontrado: ID {}", id);
-                return Optional.of(entity);
+        return FIND_BY_ID_TIMER.record(() -> {
+            var sql = "SELECT id, name FROM BOARDS WHERE id = ? LIMIT 1;";
+            try (var statement = connection.prepareStatement(sql)) {
+                statement.setLong(1, id);
+                try (var resultSet = statement.executeQuery()) {
+                    var board = BOARD_LAYOUT.first(resultSet, row -> {
+                        var entity = new BoardEntity();
+                        entity.setId(row.getLong(0));
+                        entity.setName(row.getString(1));
+                        return entity;
+                    });
+                    if (board.isPresent()) {
+                        logger.debug("Quadro encontrado: ID {}", id);
+                    } else {
+                        logger.debug("Nenhum quadro encontrado com ID: {}", id);
+                    }
+                    return board;
+                }
             }
-            logger.debug("Nenhum quadro encontrado com ID: {}", id);
-            return Optional.empty();
-        }
+        });
     }
 
     public boolean exists(final Long id) throws SQLException {
-        var sql = "SELECT EXISTS(SELECT 1 FROM BOARDS WHERE id = ?) AS `exists`;";
-        try (var statement = connection.prepareStatement(sql)) {
-            statement.setLong(1, id);
-            var resultSet = statement.executeQuery();
-            return resultSet.next() && resultSet.getBoolean("exists");
-        }
+        return EXISTS_TIMER.record(() -> {
+            var sql = "SELECT EXISTS(SELECT 1 FROM BOARDS WHERE id = ?) AS `exists`;";
+            try (var statement = connection.prepareStatement(sql)) {
+                statement.setLong(1, id);
+                try (var resultSet = statement.executeQuery()) {
+                    return EXISTS_LAYOUT.first(resultSet, row -> row.getBoolean(0)).orElse(false);
+                }
+            }
+        });
     }
 }
\ No newline at end of file
@@ -0,0 +1,105 @@
+package br.com.dio.persistence.dao;
+
+import br.com.dio.metrics.OperationTimer;
+import br.com.dio.persistence.mapping.ColumnLayout;
+import br.com.dio.snapshot.BoardSnapshot;
+import lombok.AllArgsConstructor;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static br.com.dio.metrics.OperationMetrics.timer;
+import static br.com.dio.persistence.entity.BoardColumnKindEnum.findByName;
+
+@AllArgsConstructor
+public class BoardSnapshotDAO {
+
+    private static final OperationTimer FIND_BY_BOARD_ID_TIMER = timer("BoardSnapshotDAO.findByBoardId");
+    private static final int FETCH_SIZE = 1_000;
+    private static final ColumnLayout COLUMN_LAYOUT = ColumnLayout.of("board_name", "id", "name", "kind", "cards_amount");
+    private static final ColumnLayout CARD_LAYOUT = ColumnLayout.of("board_column_id", "id", "title", "description", "blocked");
+    private final Connection connection;
+
+    /**
+     * Carrega o board com todos os cards em duas consultas: as colunas, cuja soma de
+     * {@code cards_amount} dimensiona os arrays da foto, e os cards das colunas, lidos em ordem
+     * do índice {@code (board_column_id, id)}.
+     */
+    public Optional<BoardSnapshot> findByBoardId(final Long boardId) throws SQLException {
+        return FIND_BY_BOARD_ID_TIMER.record(() -> {
+            var columnsSql =
+                    """
+                    SELECT b.name board_name,
+                           bc.id,
+                           bc.name,
+                           bc.kind,
+                           bc.cards_amount
+                      FROM BOARDS b
+                      LEFT JOIN BOARDS_COLUMNS bc
+                        ON bc.board_id = b.id
+                     WHERE b.id = ?
+                     ORDER BY bc.`order`;
+                    """;
+            BoardSnapshot.Builder builder = null;
+            List<Long> columnIds = new ArrayList<>();
+            var expectedCards = 0;
+            try (var statement = connection.prepareStatement(columnsSql)) {
+                statement.setLong(1, boardId);
+                try (var resultSet = statement.executeQuery()) {
+                    var row = COLUMN_LAYOUT.rows(resultSet);
+                    while (row.next()) {
+                        if (builder == null) {
+                            builder = BoardSnapshot.builder(boardId, row.getString(0));
+                        }
+                        if (row.isNull(1)) {
+                            continue;
+                        }
+                        var columnId = row.getLong(1);
+                        builder.addColumn(columnId, row.getString(2), findByName(row.getString(3)));
+                        columnIds.add(columnId);
+                        expectedCards += row.getInt(4);
+                    }
+                }
+            }
+            if (builder == null) {
+                return Optional.empty();
+            }
+            if (columnIds.isEmpty()) {
+                return Optional.of(builder.build());
+            }
+            builder.expectCards(expectedCards);
+            var cardsSql =
+                    """
+                    SELECT c.board_column_id,
+                           c.id,
+                           c.title,
+                           c.description,
+                           EXISTS(SELECT 1
+                                    FROM BLOCKS b
+                                   WHERE b.card_id = c.id
+                                     AND b.unblocked_at IS NULL) blocked
+                      FROM CARDS c
+                     WHERE c.board_column_id IN (%s)
+                     ORDER BY c.board_column_id, c.id;
+                    """.formatted(String.join(", ", Collections.nCopies(columnIds.size(), "?")));
+            try (var statement = connection.prepareStatement(cardsSql)) {
+                statement.setFetchSize(FETCH_SIZE);
+                var i = 1;
+                for (var columnId : columnIds) {
+                    statement.setLong(i++, columnId);
+                }
+                var cards = builder;
+                try (var resultSet = statement.executeQuery()) {
+                    CARD_LAYOUT.forEach(resultSet, row -> cards.addCard(row.getLong(0), row.getLong(1),
+                            row.getString(2), row.getString(3), row.getBoolean(4)));
+                }
+            }
+            return Optional.of(builder.build());
+        });
+    }
+
+}
@@ -1,92 +1,522 @@
 package br.com.dio.persistence.dao;
 
 import br.com.dio.dto.CardDetailsDTO;
+import br.com.dio.dto.CardTextDTO;
+import br.com.dio.dto.CardTransitionCandidateDTO;
+import br.com.dio.metrics.OperationTimer;
 import br.com.dio.persistence.entity.BoardColumnEntity;
 import br.com.dio.persistence.entity.CardEntity;
+import br.com.dio.persistence.mapping.ColumnLayout;
+import br.com.dio.persistence.mapping.Row;
 import lombok.AllArgsConstructor;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+
+import static br.com.dio.metrics.OperationMetrics.timer;
+import static br.com.dio.persistence.entity.BoardColumnKindEnum.findByName;
+import static java.util.Objects.nonNull;
 
 @AllArgsConstructor
 public class CardDAO {
 
+    private static final OperationTimer FIND_ENTITY_BY_ID_TIMER = timer("CardDAO.findEntityById");
+    private static final OperationTimer MOVE_TO_NEXT_COLUMN_TIMER = timer("CardDAO.moveToNextColumn");
+    private static final OperationTimer MOVE_TO_COLUMN_TIMER = timer("CardDAO.moveToColumn");
+    private static final OperationTimer INCREMENT_VERSION_TIMER = timer("CardDAO.incrementVersion");
+    private static final OperationTimer UPDATE_TIMER = timer("CardDAO.update");
+    private static final OperationTimer DELETE_TIMER = timer("CardDAO.delete");
+    private static final OperationTimer FIND_BY_ID_TIMER = timer("CardDAO.findById");
+    private static final OperationTimer INSERT_TIMER = timer("CardDAO.insert");
+    private static final OperationTimer INSERT_ALL_TIMER = timer("CardDAO.insertAll");
+    private static final OperationTimer FIND_ALL_BY_ID_TIMER = timer("CardDAO.findAllById");
+    private static final OperationTimer STREAM_ALL_TEXTS_TIMER = timer("CardDAO.streamAllTexts");
+    private static final OperationTimer LOCK_CANDIDATES_BY_COLUMN_ID_TIMER = timer("CardDAO.lockCandidatesByColumnId");
+    private static final OperationTimer LOCK_CANDIDATES_BY_BOARD_ID_TIMER = timer("CardDAO.lockCandidatesByBoardId");
+    private static final OperationTimer LOCK_CANDIDATES_BY_IDS_TIMER = timer("CardDAO.lockCandidatesByIds");
+    private static final OperationTimer MOVE_UNBLOCKED_IN_COLUMN_TIMER = timer("CardDAO.moveUnblockedInColumn");
+    private static final OperationTimer MOVE_ALL_TO_COLUMN_TIMER = timer("CardDAO.moveAllToColumn");
+    private static final int FETCH_SIZE = 1_000;
+    private static final int IN_CLAUSE_SIZE = 1_000;
+    private static final String LOCK_CANDIDATES_SQL =
+            """
+            SELECT c.id,
+                   c.board_column_id,
+                   bc.board_id,
+                   bc.kind,
+                   EXISTS(SELECT 1
+                            FROM BLOCKS b
+                           WHERE b.card_id = c.id
+                             AND b.unblocked_at IS NULL) blocked
+              FROM CARDS c
+             INNER JOIN BOARDS_COLUMNS bc
+                ON bc.id = c.board_column_id
+             WHERE %s
+             ORDER BY c.id
+               FOR UPDATE;
+            """;
+    private static final ColumnLayout ENTITY_LAYOUT = ColumnLayout.of("id", "title", "description", "board_column_id",
+            "version", "kind", "blocked");
+    private static final ColumnLayout DETAILS_LAYOUT = ColumnLayout.of("id", "title", "description", "blocked_at",
+            "block_reason", "blocks_amount", "board_column_id", "column_name");
+    private static final ColumnLayout TEXT_LAYOUT = ColumnLayout.of("id", "board_column_id", "title", "description");
+    private static final ColumnLayout CANDIDATE_LAYOUT = ColumnLayout.of("id", "board_column_id", "board_id", "kind", "blocked");
     private final Connection connection;
 
     public Optional<CardEntity> findEntityById(final Long id) throws SQLException {
-        final String sql = "SELECT id, title, description, board_column_id FROM CARDS WHERE id = ?;";
-        try (final PreparedStatement statement = connection.prepareStatement(sql)) {
-            statement.setLong(1, id);
-            try (final ResultSet resultSet = statement.executeQuery()) {
-                if (resultSet.next()) {
-                    final CardEntity entity = new CardEntity();
-                    entity.setId(resultSet.getLong("id"));
-                    entity.setTitle(resultSet.getString("title"));
-                    entity.setDescription(resultSet.getString("description"));
-
-                    final BoardColumnEntity boardColumn = new BoardColumnEntity();
-                    boardColumn.setId(resultSet.getLong("board_column_id"));
-                    entity.setBoardColumn(boardColumn);
-
-                    return Optional.of(entity);
+        return FIND_ENTITY_BY_ID_TIMER.record(() -> {
+            final String sql =
+                    """
+                    SELECT c.id,
+                           c.title,
+                           c.description,
+                           c.board_column_id,
+                           c.version,
+                           bc.kind,
+                           EXISTS(SELECT 1
+                                    FROM BLOCKS b
+                                   WHERE b.card_id = c.id
+                                     AND b.unblocked_at IS NULL) blocked
+                      FROM CARDS c
+                     INNER JOIN BOARDS_COLUMNS bc
+                        ON bc.id = c.board_column_id
+                     WHERE c.id = ?;
+                    """;
+            try (final PreparedStatement statement = connection.prepareStatement(sql)) {
+                statement.setLong(1, id);
+                try (final ResultSet resultSet = statement.executeQuery()) {
+                    return ENTITY_LAYOUT.first(resultSet, row -> {
+                        final CardEntity entity = new CardEntity();
+                        entity.setId(row.getLong(0));
+                        entity.setTitle(row.getString(1));
+                        entity.setDescription(row.getString(2));
+                        entity.setVersion(row.getInt(4));
+                        entity.setBlocked(row.getBoolean(6));
+
+                        final BoardColumnEntity boardColumn = new BoardColumnEntity();
+                        boardColumn.setId(row.getLong(3));
+                        boardColumn.setKind(findByName(row.getString(5)));
+                        entity.setBoardColumn(boardColumn);
+                        return entity;
+                    });
                 }
-                return Optional.empty();
             }
-        }
+        });
     }
 
-    public void update(final CardEntity entity) throws SQLException {
-        final String sql = "UPDATE CARDS SET title = ?, description = ? WHERE id = ?;";
-        try (final PreparedStatement statement = connection.prepareStatement(sql)) {
-            int i = 1;
-            statement.setString(i++, entity.getTitle());
-            statement.setString(i++, entity.getDescription());
-            statement.setLong(i, entity.getId());
-            statement.executeUpdate();
-        }
+    /**
+     * Move o card para a próxima coluna do board (menor {@code order} maior que o da coluna
+     * atual, ignorando a coluna de cancelamento) em um único UPDATE condicional. O UPDATE só
+     * afeta a linha se o card ainda estiver em {@code expectedColumnId} com a versão
+     * {@code expectedVersion}, se essa coluna não for FINAL/CANCEL e se o card não estiver
+     * bloqueado.
+     *
+     * @return {@code false} se alguma das condições não foi atendida e nada foi alterado
+     */
+    public boolean moveToNextColumn(final Long id, final Long expectedColumnId, final int expectedVersion) throws SQLException {
+        return MOVE_TO_NEXT_COLUMN_TIMER.record(() -> {
+            final String sql =
+                    """
+                    UPDATE CARDS c
+                       SET board_column_id = (SELECT nxt.id
+                                                FROM BOARDS_COLUMNS cur
+                                               INNER JOIN BOARDS_COLUMNS nxt
+                                                  ON nxt.board_id = cur.board_id
+                                                 AND nxt.`order` > cur.`order`
+                                                 AND nxt.kind <> 'CANCEL'
+                                               WHERE cur.id = ?
+                                               ORDER BY nxt.`order`
+                                               LIMIT 1),
+                           version = version + 1
+                     WHERE c.id = ?
+                       AND c.board_column_id = ?
+                       AND c.version = ?
+                       AND EXISTS(SELECT 1
+                                    FROM BOARDS_COLUMNS cur
+                                   WHERE cur.id = ?
+                                     AND cur.kind NOT IN ('FINAL', 'CANCEL'))
+                       AND NOT EXISTS(SELECT 1
+                                        FROM BLOCKS b
+                                       WHERE b.card_id = c.id
+                                         AND b.unblocked_at IS NULL);
+                    """;
+            try (final PreparedStatement statement = connection.prepareStatement(sql)) {
+                int i = 1;
+                statement.setLong(i++, expectedColumnId);
+                statement.setLong(i++, id);
+                statement.setLong(i++, expectedColumnId);
+                statement.setInt(i++, expectedVersion);
+                statement.setLong(i, expectedColumnId);
+                return statement.executeUpdate() == 1;
+            }
+        });
+    }
+
+    /**
+     * Move o card para {@code columnId} se ele ainda estiver em {@code expectedColumnId} com a
+     * versão {@code expectedVersion}.
+     *
+     * @return {@code false} se o card foi alterado por outra operação e nada foi alterado
+     */
+    public boolean moveToColumn(final Long id, final Long columnId, final Long expectedColumnId, final int expectedVersion) throws SQLException {
+        return MOVE_TO_COLUMN_TIMER.record(() -> {
+            final String sql =
+                    """
+                    UPDATE CARDS
+                       SET board_column_id = ?,
+                           version = version + 1
+                     WHERE id = ?
+                       AND board_column_id = ?
+                       AND version = ?;
+                    """;
+            try (final PreparedStatement statement = connection.prepareStatement(sql)) {
+                int i = 1;
+                statement.setLong(i++, columnId);
+                statement.setLong(i++, id);
+                statement.setLong(i++, expectedColumnId);
+                statement.setInt(i, expectedVersion);
+                return statement.executeUpdate() == 1;
+            }
+        });
     }
 
+    /**
+     * Incrementa a versão do card se ela ainda for {@code expectedVersion}. Serve de trava para
+     * alterações que não mudam a coluna (bloqueio e desbloqueio): entre duas operações
+     * concorrentes que leram a mesma versão, só a primeira afeta a linha.
+     *
+     * @return {@code false} se o card foi alterado por outra operação e nada foi alterado
+     */
+    public boolean incrementVersion(final Long id, final int expectedVersion) throws SQLException {
+        return INCREMENT_VERSION_TIMER.record(() -> {
+            final String sql = "UPDATE CARDS SET version = version + 1 WHERE id = ? AND version = ?;";
+            try (final PreparedStatement statement = connection.prepareStatement(sql)) {
+                statement.setLong(1, id);
+                statement.setInt(2, expectedVersion);
+                return statement.executeUpdate() == 1;
+            }
+        });
+    }
+
+    /**
+     * Atualiza título e descrição do card.
+     *
+     * @return {@code false} se o card não existe
+     */
+    public boolean update(final CardEntity entity) throws SQLException {
+        return UPDATE_TIMER.record(() -> {
+            final String sql = "UPDATE CARDS SET title = ?, description = ? WHERE id = ?;";
+            try (final PreparedStatement statement = connection.prepareStatement(sql)) {
+                int i = 1;
+                statement.setString(i++, entity.getTitle());
+                statement.setString(i++, entity.getDescription());
+                statement.setLong(i, entity.getId());
+                return statement.executeUpdate() > 0;
+            }
+        });
+    }
+
+    public void delete(final Long id) throws SQLException {
+        DELETE_TIMER.run(() -> {
+            final String sql = "DELETE FROM CARDS WHERE id = ?;";
+            try (final PreparedStatement statement = connection.prepareStatement(sql)) {
+                statement.setLong(1, id);
+                statement.executeUpdate();
+            }
+        });
+    }
+
+    /**
+     * Monta os detalhes do card em uma única consulta: dados do card, bloqueio em aberto,
+     * quantidade de bloqueios e coluna atual. Bloqueio em aberto e contagem usam o índice
+     * {@code BLOCKS(card_id, unblocked_at)}.
+     */
     public Optional<CardDetailsDTO> findById(final Long id) throws SQLException {
-        final String sql = "SELECT id, title, description FROM CARDS WHERE id = ?";
-        try (final PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setLong(1, id);
-            try (final ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    return Optional.of(new CardDetailsDTO(
-                            rs.getLong("id"),
-                            rs.getString("title"),
-                            rs.getString("description"),
-                            false, // ou outro valor booleano correto
-                            null, // OffsetDateTime, caso necessário buscar do banco
-                            null, // String para outro campo do DTO
-                            0,    // int para outro campo do DTO
-                            null, // Long para outro campo do DTO
-                            null  // String para outro campo do DTO
-                    ));
+        return FIND_BY_ID_TIMER.record(() -> {
+            final String sql =
+                    """
+                    SELECT c.id,
+                           c.title,
+                           c.description,
+                           b.blocked_at,
+                           b.block_reason,
+                           (SELECT COUNT(bs.id)
+                              FROM BLOCKS bs
+                             WHERE bs.card_id = c.id) blocks_amount,
+                           c.board_column_id,
+                           bc.name column_name
+                      FROM CARDS c
+                      LEFT JOIN BLOCKS b
+                        ON b.card_id = c.id
+                       AND b.unblocked_at IS NULL
+                     INNER JOIN BOARDS_COLUMNS bc
+                        ON bc.id = c.board_column_id
+                     WHERE c.id = ?;
+                    """;
+            try (final PreparedStatement stmt = connection.prepareStatement(sql)) {
+                stmt.setLong(1, id);
+                try (final ResultSet rs = stmt.executeQuery()) {
+                    return DETAILS_LAYOUT.first(rs, CardDAO::toDetails);
                 }
-                return Optional.empty();
             }
-        }
+        });
+    }
+
+    /**
+     * Lê e bloqueia para atualização ({@code FOR UPDATE}) os cards da coluna, com o necessário
+     * para decidir uma transição em lote. Os cards ficam travados até o fim da transação, então
+     * os UPDATEs seguintes afetam exatamente o conjunto lido.
+     */
+    public List<CardTransitionCandidateDTO> lockCandidatesByColumnId(final Long columnId) throws SQLException {
+        return LOCK_CANDIDATES_BY_COLUMN_ID_TIMER.record(() -> {
+            try (final PreparedStatement statement = connection.prepareStatement(LOCK_CANDIDATES_SQL.formatted("c.board_column_id = ?"))) {
+                statement.setLong(1, columnId);
+                return readCandidates(statement);
+            }
+        });
+    }
+
+    public List<CardTransitionCandidateDTO> lockCandidatesByBoardId(final Long boardId) throws SQLException {
+        return LOCK_CANDIDATES_BY_BOARD_ID_TIMER.record(() -> {
+            try (final PreparedStatement statement = connection.prepareStatement(LOCK_CANDIDATES_SQL.formatted("bc.board_id = ?"))) {
+                statement.setLong(1, boardId);
+                return readCandidates(statement);
+            }
+        });
+    }
+
+    /**
+     * Como {@link #lockCandidatesByColumnId}, para uma lista de IDs, lida em blocos de
+     * {@code IN_CLAUSE_SIZE} IDs por statement. IDs inexistentes ficam fora do resultado.
+     */
+    public List<CardTransitionCandidateDTO> lockCandidatesByIds(final Collection<Long> ids) throws SQLException {
+        return LOCK_CANDIDATES_BY_IDS_TIMER.record(() -> {
+            final List<CardTransitionCandidateDTO> candidates = new ArrayList<>(ids.size());
+            final List<Long> pending = new ArrayList<>(ids);
+            for (int start = 0; start < pending.size(); start += IN_CLAUSE_SIZE) {
+                final List<Long> slice = pending.subList(start, Math.min(start + IN_CLAUSE_SIZE, pending.size()));
+                final String sql = LOCK_CANDIDATES_SQL.formatted("c.id IN (%s)".formatted(placeholders(slice.size())));
+                try (final PreparedStatement statement = connection.prepareStatement(sql)) {
+                    int i = 1;
+                    for (final Long id : slice) {
+                        statement.setLong(i++, id);
+                    }
+                    candidates.addAll(readCandidates(statement));
+                }
+            }
+            return candidates;
+        });
+    }
+
+    /**
+     * Move para {@code toColumnId}, em um único UPDATE, todos os cards não bloqueados da coluna
+     * {@code fromColumnId}, incrementando a versão de cada um.
+     *
+     * @return quantidade de cards movidos
+     */
+    public int moveUnblockedInColumn(final Long fromColumnId, final Long toColumnId) throws SQLException {
+        return MOVE_UNBLOCKED_IN_COLUMN_TIMER.record(() -> {
+            final String sql =
+                    """
+                    UPDATE CARDS c
+                       SET board_column_id = ?,
+                           version = version + 1
+                     WHERE c.board_column_id = ?
+                       AND NOT EXISTS(SELECT 1
+                                        FROM BLOCKS b
+                                       WHERE b.card_id = c.id
+                                         AND b.unblocked_at IS NULL);
+                    """;
+            try (final PreparedStatement statement = connection.prepareStatement(sql)) {
+                statement.setLong(1, toColumnId);
+                statement.setLong(2, fromColumnId);
+                return statement.executeUpdate();
+            }
+        });
+    }
+
+    /**
+     * Move os cards informados para {@code columnId}, com um UPDATE por bloco de
+     * {@code IN_CLAUSE_SIZE} IDs.
+     *
+     * @return quantidade de cards movidos
+     */
+    public int moveAllToColumn(final List<Long> ids, final Long columnId) throws SQLException {
+        return MOVE_ALL_TO_COLUMN_TIMER.record(() -> {
+            var moved = 0;
+            for (int start = 0; start < ids.size(); start += IN_CLAUSE_SIZE) {
+                final List<Long> slice = ids.subList(start, Math.min(start + IN_CLAUSE_SIZE, ids.size()));
+                final String sql = "UPDATE CARDS SET board_column_id = ?, version = version + 1 WHERE id IN (%s);"
+                        .formatted(placeholders(slice.size()));
+                try (final PreparedStatement statement = connection.prepareStatement(sql)) {
+                    int i = 1;
+                    statement.setLong(i++, columnId);
+                    for (final Long id : slice) {
+                        statement.setLong(i++, id);
+                    }
+                    moved += statement.executeUpdate();
+                }
+            }
+            return moved;
+        });
+    }
+
+    /**
+     * Detalhes de vários cards em uma única consulta, na ordem dos IDs informados. IDs
+     * inexistentes são ignorados.
+     */
+    public List<CardDetailsDTO> findAllById(final List<Long> ids) throws SQLException {
+        return FIND_ALL_BY_ID_TIMER.record(() -> {
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            final String sql =
+                    """
+                    SELECT c.id,
+                           c.title,
+                           c.description,
+                           b.blocked_at,
+                           b.block_reason,
+                           (SELECT COUNT(bs.id)
+                              FROM BLOCKS bs
+                             WHERE bs.card_id = c.id) blocks_amount,
+                           c.board_column_id,
+                           bc.name column_name
+                      FROM CARDS c
+                      LEFT JOIN BLOCKS b
+                        ON b.card_id = c.id
+                       AND b.unblocked_at IS NULL
+                     INNER JOIN BOARDS_COLUMNS bc
+                        ON bc.id = c.board_column_id
+                     WHERE c.id IN (%s);
+                    """.formatted(placeholders(ids.size()));
+            try (final PreparedStatement stmt = connection.prepareStatement(sql)) {
+                int i = 1;
+                for (final Long id : ids) {
+                    stmt.setLong(i++, id);
+                }
+                final Map<Long, Integer> positions = new HashMap<>();
+                for (int position = 0; position < ids.size(); position++) {
+                    positions.putIfAbsent(ids.get(position), position);
+                }
+                final List<CardDetailsDTO> cards;
+                try (final ResultSet rs = stmt.executeQuery()) {
+                    cards = DETAILS_LAYOUT.list(rs, CardDAO::toDetails);
+                }
+                cards.sort(Comparator.comparing(c -> positions.get(c.id())));
+                return cards;
+            }
+        });
+    }
+
+    /**
+     * Percorre título e descrição de todos os cards com um cursor no servidor, para a carga do
+     * índice de busca sem manter a tabela em memória.
+     */
+    public void streamAllTexts(final Consumer<CardTextDTO> consumer) throws SQLException {
+        STREAM_ALL_TEXTS_TIMER.run(() -> {
+            final String sql = "SELECT id, board_column_id, title, description FROM CARDS;";
+            try (final PreparedStatement statement = connection.prepareStatement(sql)) {
+                statement.setFetchSize(FETCH_SIZE);
+                try (final ResultSet resultSet = statement.executeQuery()) {
+                    TEXT_LAYOUT.forEach(resultSet, row -> new CardTextDTO(
+                            row.getLong(0),
+                            row.getLong(1),
+                            row.getString(2),
+                            row.getString(3)
+                    ), consumer);
+                }
+            }
+        });
     }
 
     public void insert(CardEntity entity) throws SQLException {
-        final String sql = "INSERT INTO CARDS (title, description, board_column_id) VALUES (?, ?, ?);";
-        try (final PreparedStatement statement = connection.prepareStatement(sql, PreparedStatement.RETURN_GENERATED_KEYS)) {
-            statement.setString(1, entity.getTitle());
-            statement.setString(2, entity.getDescription());
-            statement.setLong(3, entity.getBoardColumn().getId());
-            statement.executeUpdate();
-
-            try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
-                if (generatedKeys.next()) {
-                    entity.setId(generatedKeys.getLong(1)); // Define o ID gerado para o card
+        INSERT_TIMER.run(() -> {
+            final String sql = "INSERT INTO CARDS (title, description, board_column_id) VALUES (?, ?, ?);";
+            try (final PreparedStatement statement = connection.prepareStatement(sql, PreparedStatement.RETURN_GENERATED_KEYS)) {
+                statement.setString(1, entity.getTitle());
+                statement.setString(2, entity.getDescription());
+                statement.setLong(3, entity.getBoardColumn().getId());
+                statement.executeUpdate();
+
+                try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
+                    if (generatedKeys.next()) {
+                        entity.setId(generatedKeys.getLong(1)); // Define o ID gerado para o card
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Insere todos os cards em um único lote JDBC e atribui a cada entidade o ID gerado,
+     * na mesma ordem da lista.
+     */
+    public void insertAll(final List<CardEntity> entities) throws SQLException {
+        INSERT_ALL_TIMER.run(() -> {
+            final String sql = "INSERT INTO CARDS (title, description, board_column_id) VALUES (?, ?, ?);";
+            try (final PreparedStatement statement = connection.prepareStatement(sql, PreparedStatement.RETURN_GENERATED_KEYS)) {
+                for (final CardEntity entity : entities) {
+                    statement.setString(1, entity.getTitle());
+                    statement.setString(2, entity.getDescription());
+                    statement.setLong(3, entity.getBoardColumn().getId());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+
+                try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
+                    for (final CardEntity entity : entities) {
+                        if (!generatedKeys.next()) {
+                            throw new SQLException("Falha ao obter os IDs gerados para o lote de cards.");
+                        }
+                        entity.setId(generatedKeys.getLong(1));
+                    }
                 }
             }
+        });
+    }
+
+    private static CardDetailsDTO toDetails(final Row row) throws SQLException {
+        final OffsetDateTime blockedAt = row.getOffsetDateTime(3);
+        return new CardDetailsDTO(
+                row.getLong(0),
+                row.getString(1),
+                row.getString(2),
+                nonNull(blockedAt),
+                blockedAt,
+                row.getString(4),
+                row.getInt(5),
+                row.getLong(6),
+                row.getString(7)
+        );
+    }
+
+    private static List<CardTransitionCandidateDTO> readCandidates(final PreparedStatement statement) throws SQLException {
+        try (final ResultSet resultSet = statement.executeQuery()) {
+            return CANDIDATE_LAYOUT.list(resultSet, row -> new CardTransitionCandidateDTO(
+                    row.getLong(0),
+                    row.getLong(1),
+                    row.getLong(2),
+                    findByName(row.getString(3)),
+                    row.getBoolean(4)
+            ));
         }
     }
 
+    private static String placeholders(final int amount) {
+        return String.join(", ", Collections.nCopies(amount, "?"));
+    }
 
 }
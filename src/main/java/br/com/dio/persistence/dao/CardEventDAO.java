@@ -0,0 +1,217 @@
+package br.com.dio.persistence.dao;
+
+import br.com.dio.dto.CardEventDTO;
+import br.com.dio.dto.CardEventStampDTO;
+import br.com.dio.metrics.OperationTimer;
+import br.com.dio.persistence.entity.CardEventTypeEnum;
+import br.com.dio.persistence.mapping.ColumnLayout;
+import lombok.RequiredArgsConstructor;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static br.com.dio.metrics.OperationMetrics.timer;
+import static br.com.dio.persistence.converter.OffsetDateTimeConverter.toTimestamp;
+import static br.com.dio.persistence.entity.CardEventTypeEnum.findByName;
+
+/**
+ * Acesso ao log de eventos dos cards ({@code CARD_EVENTS}), que só recebe inserções.
+ * <p>
+ * Os eventos registrados com {@link #append} ficam em um buffer e são gravados em lote JDBC
+ * quando o buffer enche ou em {@link #flush()}, que deve ser chamado antes do commit para que
+ * os eventos façam parte da mesma transação da alteração. O board e a coluna do evento são
+ * lidos do próprio card no momento da gravação, ou seja, a coluna é a do card depois da
+ * alteração. O instante do evento também é o do banco na gravação, o mesmo relógio de
+ * {@link #currentTimestamp()}.
+ */
+@RequiredArgsConstructor
+public class CardEventDAO {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int FETCH_SIZE = 1_000;
+    private static final OperationTimer FLUSH_TIMER = timer("CardEventDAO.flush");
+    private static final OperationTimer STREAM_BY_CARD_ID_TIMER = timer("CardEventDAO.streamByCardId");
+    private static final OperationTimer STREAM_BY_BOARD_ID_TIMER = timer("CardEventDAO.streamByBoardId");
+    private static final OperationTimer STREAM_BY_BOARD_ID_AFTER_TIMER = timer("CardEventDAO.streamByBoardIdAfter");
+    private static final OperationTimer FIND_STAMPS_AFTER_TIMER = timer("CardEventDAO.findStampsAfter");
+    private static final OperationTimer CURRENT_TIMESTAMP_TIMER = timer("CardEventDAO.currentTimestamp");
+
+    private static final ColumnLayout EVENT_LAYOUT = ColumnLayout.of("id", "card_id", "board_id", "event_type",
+            "previous_column_id", "column_id", "reason", "occurred_at");
+    private static final ColumnLayout STAMP_LAYOUT = ColumnLayout.of("id", "occurred_at");
+    private static final ColumnLayout NOW_LAYOUT = ColumnLayout.of("db_now");
+
+    private final Connection connection;
+    private final List<PendingEvent> pending = new ArrayList<>();
+
+    public void append(final CardEventTypeEnum type, final Long cardId, final Long previousColumnId,
+                       final String reason) throws SQLException {
+        pending.add(new PendingEvent(type, cardId, previousColumnId, reason));
+        if (pending.size() >= BATCH_SIZE) {
+            flush();
+        }
+    }
+
+    public void flush() throws SQLException {
+        FLUSH_TIMER.run(() -> {
+            if (pending.isEmpty()) {
+                return;
+            }
+            var sql =
+                    """
+                    INSERT INTO CARD_EVENTS (card_id, board_id, event_type, previous_column_id, column_id, reason, occurred_at)
+                    SELECT c.id, bc.board_id, ?, ?, c.board_column_id, ?, CURRENT_TIMESTAMP
+                      FROM CARDS c
+                     INNER JOIN BOARDS_COLUMNS bc
+                        ON bc.id = c.board_column_id
+                     WHERE c.id = ?;
+                    """;
+            try (var statement = connection.prepareStatement(sql)) {
+                for (var event : pending) {
+                    var i = 1;
+                    statement.setString(i++, event.type().name());
+                    if (event.previousColumnId() == null) {
+                        statement.setNull(i++, Types.BIGINT);
+                    } else {
+                        statement.setLong(i++, event.previousColumnId());
+                    }
+                    statement.setString(i++, event.reason());
+                    statement.setLong(i, event.cardId());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            } finally {
+                pending.clear();
+            }
+        });
+    }
+
+    /**
+     * Percorre em ordem os eventos do card ocorridos até {@code until}, sem carregar o log em
+     * memória.
+     */
+    public void streamByCardId(final Long cardId, final OffsetDateTime until,
+                               final Consumer<CardEventDTO> consumer) throws SQLException {
+        STREAM_BY_CARD_ID_TIMER.run(() -> {
+            var sql =
+                    """
+                    SELECT id, card_id, board_id, event_type, previous_column_id, column_id, reason, occurred_at
+                      FROM CARD_EVENTS
+                     WHERE card_id = ?
+                       AND occurred_at <= ?
+                     ORDER BY id;
+                    """;
+            try (var statement = connection.prepareStatement(sql)) {
+                statement.setLong(1, cardId);
+                statement.setTimestamp(2, toTimestamp(until));
+                stream(statement, consumer);
+            }
+        });
+    }
+
+    /**
+     * Percorre em ordem os eventos de todos os cards do board ocorridos até {@code until}. O
+     * driver busca as linhas em blocos de {@value #FETCH_SIZE}, então a memória usada não
+     * depende do tamanho do log.
+     */
+    public void streamByBoardId(final Long boardId, final OffsetDateTime until,
+                                final Consumer<CardEventDTO> consumer) throws SQLException {
+        STREAM_BY_BOARD_ID_TIMER.run(() -> {
+            var sql =
+                    """
+                    SELECT id, card_id, board_id, event_type, previous_column_id, column_id, reason, occurred_at
+                      FROM CARD_EVENTS
+                     WHERE board_id = ?
+                       AND occurred_at <= ?
+                     ORDER BY id;
+                    """;
+            try (var statement = connection.prepareStatement(sql)) {
+                statement.setLong(1, boardId);
+                statement.setTimestamp(2, toTimestamp(until));
+                stream(statement, consumer);
+            }
+        });
+    }
+
+    /**
+     * Percorre em ordem os eventos do board com id maior que {@code afterEventId} e até
+     * {@code upToEventId}, para consumidores que acompanham o log incrementalmente.
+     */
+    public void streamByBoardIdAfter(final Long boardId, final long afterEventId, final long upToEventId,
+                                     final Consumer<CardEventDTO> consumer) throws SQLException {
+        STREAM_BY_BOARD_ID_AFTER_TIMER.run(() -> {
+            var sql =
+                    """
+                    SELECT id, card_id, board_id, event_type, previous_column_id, column_id, reason, occurred_at
+                      FROM CARD_EVENTS
+                     WHERE board_id = ?
+                       AND id > ?
+                       AND id <= ?
+                     ORDER BY id;
+                    """;
+            try (var statement = connection.prepareStatement(sql)) {
+                statement.setLong(1, boardId);
+                statement.setLong(2, afterEventId);
+                statement.setLong(3, upToEventId);
+                stream(statement, consumer);
+            }
+        });
+    }
+
+    /**
+     * Id e instante dos próximos {@code limit} eventos, de todos os boards, com id maior que
+     * {@code afterEventId}, em ordem de id.
+     */
+    public List<CardEventStampDTO> findStampsAfter(final long afterEventId, final int limit) throws SQLException {
+        return FIND_STAMPS_AFTER_TIMER.record(() -> {
+            var sql = "SELECT id, occurred_at FROM CARD_EVENTS WHERE id > ? ORDER BY id LIMIT ?;";
+            try (var statement = connection.prepareStatement(sql)) {
+                statement.setLong(1, afterEventId);
+                statement.setInt(2, limit);
+                try (var resultSet = statement.executeQuery()) {
+                    return STAMP_LAYOUT.list(resultSet, row -> new CardEventStampDTO(row.getLong(0), row.getOffsetDateTime(1)));
+                }
+            }
+        });
+    }
+
+    /**
+     * Instante atual no relógio do banco, lido da mesma forma que o instante dos eventos.
+     */
+    public OffsetDateTime currentTimestamp() throws SQLException {
+        return CURRENT_TIMESTAMP_TIMER.record(() -> {
+            var sql = "SELECT CURRENT_TIMESTAMP AS db_now;";
+            try (var statement = connection.prepareStatement(sql)) {
+                try (var resultSet = statement.executeQuery()) {
+                    return NOW_LAYOUT.first(resultSet, row -> row.getOffsetDateTime(0)).orElseThrow();
+                }
+            }
+        });
+    }
+
+    private void stream(final PreparedStatement statement, final Consumer<CardEventDTO> consumer) throws SQLException {
+        statement.setFetchSize(FETCH_SIZE);
+        try (var resultSet = statement.executeQuery()) {
+            EVENT_LAYOUT.forEach(resultSet, row -> new CardEventDTO(
+                    row.getLong(0),
+                    row.getLong(1),
+                    row.getLong(2),
+                    findByName(row.getString(3)),
+                    row.getNullableLong(4),
+                    row.getLong(5),
+                    row.getString(6),
+                    row.getOffsetDateTime(7)
+            ), consumer);
+        }
+    }
+
+    private record PendingEvent(CardEventTypeEnum type, Long cardId, Long previousColumnId, String reason) {
+    }
+
+}
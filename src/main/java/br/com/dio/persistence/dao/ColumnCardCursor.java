@@ -0,0 +1,55 @@
+package br.com.dio.persistence.dao;
+
+import br.com.dio.persistence.entity.CardEntity;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Percorre os cards de uma coluna buscando uma página por vez (keyset pelo id do card), de
+ * modo que só uma página fica em memória independente do tamanho da coluna. Usa a conexão
+ * do DAO, então deve ser consumido antes de a conexão ser fechada.
+ */
+public class ColumnCardCursor {
+
+    private final BoardColumnDAO dao;
+    private final Long columnId;
+    private final int pageSize;
+    private List<CardEntity> page = List.of();
+    private int position;
+    private long lastCardId;
+    private boolean exhausted;
+
+    ColumnCardCursor(final BoardColumnDAO dao, final Long columnId, final int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("O tamanho da página deve ser maior que zero.");
+        }
+        this.dao = dao;
+        this.columnId = columnId;
+        this.pageSize = pageSize;
+    }
+
+    public boolean hasNext() throws SQLException {
+        if (position < page.size()) {
+            return true;
+        }
+        if (exhausted) {
+            return false;
+        }
+        page = dao.findCardsPage(columnId, lastCardId, pageSize);
+        position = 0;
+        exhausted = page.size() < pageSize;
+        return !page.isEmpty();
+    }
+
+    public CardEntity next() throws SQLException {
+        if (!hasNext()) {
+            throw new NoSuchElementException("Não há mais cards na coluna " + columnId);
+        }
+        var card = page.get(position++);
+        lastCardId = card.getId();
+        return card;
+    }
+
+}
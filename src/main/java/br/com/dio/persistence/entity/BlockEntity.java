@@ -12,5 +12,6 @@ public class BlockEntity {
     private String blockReason;
     private OffsetDateTime unblockedAt;
     private String unblockReason;
+    private CardEntity card = new CardEntity();
 
 }
@@ -1,15 +1,27 @@
 package br.com.dio.persistence.entity;
 
-import java.util.stream.Stream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
 
 public enum BoardColumnKindEnum {
 
     INITIAL, FINAL, CANCEL, PENDING;
 
+    private static final Map<String, BoardColumnKindEnum> BY_NAME = new HashMap<>();
+
+    static {
+        for (var kind : values()) {
+            BY_NAME.put(kind.name(), kind);
+        }
+    }
+
     public static BoardColumnKindEnum findByName(final String name){
-        return Stream.of(BoardColumnKindEnum.values())
-                .filter(b -> b.name().equals(name))
-                .findFirst().orElseThrow();
+        var kind = BY_NAME.get(name);
+        if (kind == null) {
+            throw new NoSuchElementException("No value present");
+        }
+        return kind;
     }
 
 }
@@ -6,6 +6,7 @@ import lombok.ToString;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.function.Predicate;
 
 import static br.com.dio.persistence.entity.BoardColumnKindEnum.CANCEL;
@@ -29,8 +30,11 @@ public class BoardEntity {
     }
 
     private BoardColumnEntity getFilteredColumn(Predicate<BoardColumnEntity> filter){
-        return boardColumns.stream()
-                .filter(filter)
-                .findFirst().orElseThrow();
+        for (var boardColumn : boardColumns) {
+            if (filter.test(boardColumn)) {
+                return boardColumn;
+            }
+        }
+        throw new NoSuchElementException("No value present");
     }
 }
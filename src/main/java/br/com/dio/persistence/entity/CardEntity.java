@@ -10,6 +10,7 @@ public class CardEntity {
     private BoardColumnEntity boardColumn = new BoardColumnEntity();
     private boolean blocked; // Novo atributo
     private String blockReason; // Novo atributo para armazenar motivo do bloqueio
+    private int version; // Controle de concorrência otimista, incrementado a cada movimentação
 
     public void setTitle(String title) {
         this.title = title;
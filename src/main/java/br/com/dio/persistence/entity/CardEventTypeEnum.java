@@ -0,0 +1,32 @@
+package br.com.dio.persistence.entity;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+public enum CardEventTypeEnum {
+
+    /**
+     * Estado de um card que já existia quando o log foi criado. O instante é o da migração, não
+     * o da criação do card, então não serve para medir lead time nem cycle time.
+     */
+    BACKFILLED,
+    CREATED, MOVED, BLOCKED, UNBLOCKED, CANCELLED, DELETED;
+
+    private static final Map<String, CardEventTypeEnum> BY_NAME = new HashMap<>();
+
+    static {
+        for (var type : values()) {
+            BY_NAME.put(type.name(), type);
+        }
+    }
+
+    public static CardEventTypeEnum findByName(final String name){
+        var type = BY_NAME.get(name);
+        if (type == null) {
+            throw new NoSuchElementException("No value present");
+        }
+        return type;
+    }
+
+}
@@ -0,0 +1,87 @@
+package br.com.dio.persistence.mapping;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Colunas lidas de uma consulta, pelos rótulos do SELECT. As posições são resolvidas pelos
+ * metadados do {@link ResultSet} na primeira execução e reaproveitadas nas seguintes, então
+ * cada campo de cada linha é lido por índice, sem a busca pelo nome que o driver faz em
+ * {@code getString("name")}. Cada layout pertence a uma única lista de SELECT.
+ */
+public final class ColumnLayout {
+
+    private final String[] labels;
+    private volatile int[] positions;
+
+    private ColumnLayout(final String[] labels) {
+        this.labels = labels;
+    }
+
+    public static ColumnLayout of(final String... labels) {
+        return new ColumnLayout(labels.clone());
+    }
+
+    public Row rows(final ResultSet resultSet) throws SQLException {
+        return new Row(resultSet, positionsOf(resultSet));
+    }
+
+    public <T> Optional<T> first(final ResultSet resultSet, final RowMapper<T> mapper) throws SQLException {
+        var row = rows(resultSet);
+        return row.next() ? Optional.of(mapper.map(row)) : Optional.empty();
+    }
+
+    public <T> List<T> list(final ResultSet resultSet, final RowMapper<T> mapper) throws SQLException {
+        List<T> values = new ArrayList<>();
+        var row = rows(resultSet);
+        while (row.next()) {
+            values.add(mapper.map(row));
+        }
+        return values;
+    }
+
+    public void forEach(final ResultSet resultSet, final RowConsumer consumer) throws SQLException {
+        var row = rows(resultSet);
+        while (row.next()) {
+            consumer.accept(row);
+        }
+    }
+
+    public <T> void forEach(final ResultSet resultSet, final RowMapper<T> mapper, final Consumer<? super T> consumer) throws SQLException {
+        var row = rows(resultSet);
+        while (row.next()) {
+            consumer.accept(mapper.map(row));
+        }
+    }
+
+    private int[] positionsOf(final ResultSet resultSet) throws SQLException {
+        var resolved = positions;
+        if (resolved == null) {
+            resolved = resolve(resultSet);
+            positions = resolved;
+        }
+        return resolved;
+    }
+
+    private int[] resolve(final ResultSet resultSet) throws SQLException {
+        var metaData = resultSet.getMetaData();
+        var columns = metaData.getColumnCount();
+        var resolved = new int[labels.length];
+        for (int field = 0; field < labels.length; field++) {
+            for (int column = 1; column <= columns && resolved[field] == 0; column++) {
+                if (labels[field].equalsIgnoreCase(metaData.getColumnLabel(column))) {
+                    resolved[field] = column;
+                }
+            }
+            if (resolved[field] == 0) {
+                throw new SQLException("A coluna %s não está no resultado da consulta".formatted(labels[field]));
+            }
+        }
+        return resolved;
+    }
+
+}
@@ -0,0 +1,64 @@
+package br.com.dio.persistence.mapping;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+
+import static br.com.dio.persistence.converter.OffsetDateTimeConverter.toOffsetDateTime;
+
+/**
+ * Leitura por índice da linha atual de um {@link ResultSet}. Os campos são identificados pela
+ * posição do rótulo no {@link ColumnLayout} (a partir de {@code 0}), já traduzida para a
+ * posição da coluna no resultado. Um único {@code Row} percorre todas as linhas da consulta.
+ */
+public final class Row {
+
+    private final ResultSet resultSet;
+    private final int[] positions;
+
+    Row(final ResultSet resultSet, final int[] positions) {
+        this.resultSet = resultSet;
+        this.positions = positions;
+    }
+
+    public boolean next() throws SQLException {
+        return resultSet.next();
+    }
+
+    public long getLong(final int field) throws SQLException {
+        return resultSet.getLong(positions[field]);
+    }
+
+    /**
+     * Valor da coluna, ou {@code null} se ela for nula no banco.
+     */
+    public Long getNullableLong(final int field) throws SQLException {
+        var value = resultSet.getLong(positions[field]);
+        return resultSet.wasNull() ? null : value;
+    }
+
+    /**
+     * Indica se a coluna numérica é nula na linha atual.
+     */
+    public boolean isNull(final int field) throws SQLException {
+        resultSet.getLong(positions[field]);
+        return resultSet.wasNull();
+    }
+
+    public int getInt(final int field) throws SQLException {
+        return resultSet.getInt(positions[field]);
+    }
+
+    public boolean getBoolean(final int field) throws SQLException {
+        return resultSet.getBoolean(positions[field]);
+    }
+
+    public String getString(final int field) throws SQLException {
+        return resultSet.getString(positions[field]);
+    }
+
+    public OffsetDateTime getOffsetDateTime(final int field) throws SQLException {
+        return toOffsetDateTime(resultSet.getTimestamp(positions[field]));
+    }
+
+}
@@ -0,0 +1,14 @@
+package br.com.dio.persistence.mapping;
+
+import java.sql.SQLException;
+
+/**
+ * Consome as linhas de uma consulta direto do {@link Row}, sem criar um objeto por linha. O
+ * mesmo {@link Row} é reaproveitado em todas as linhas, então não deve ser guardado.
+ */
+@FunctionalInterface
+public interface RowConsumer {
+
+    void accept(Row row) throws SQLException;
+
+}
@@ -0,0 +1,13 @@
+package br.com.dio.persistence.mapping;
+
+import java.sql.SQLException;
+
+/**
+ * Converte a linha atual de um {@link Row} em um objeto.
+ */
+@FunctionalInterface
+public interface RowMapper<T> {
+
+    T map(Row row) throws SQLException;
+
+}
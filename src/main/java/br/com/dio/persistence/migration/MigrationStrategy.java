@@ -5,6 +5,8 @@ import liquibase.database.jvm.JdbcConnection;
 import liquibase.exception.LiquibaseException;
 import liquibase.resource.ClassLoaderResourceAccessor;
 import lombok.AllArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.FileOutputStream;
 import java.io.IOException;
@@ -12,38 +14,88 @@ import java.io.PrintStream;
 import java.sql.Connection;
 import java.sql.SQLException;
 
-import static br.com.dio.persistence.config.ConnectionConfig.getConnection;
-
 @AllArgsConstructor
 public class MigrationStrategy {
 
+    private static final Logger logger = LoggerFactory.getLogger(MigrationStrategy.class);
     private final Connection connection;
 
+    /**
+     * Roda o Liquibase só quando o fingerprint das migrações difere do registrado no banco, o
+     * que custa uma consulta na inicialização quando o schema já está atualizado.
+     *
+     * @return {@code true} se a migração precisou ser executada
+     */
+    public boolean executeMigrationIfPending() {
+        if (isUpToDate()) {
+            logger.debug("Schema atualizado, migração do Liquibase ignorada");
+            return false;
+        }
+        logger.info("Há migrações pendentes, executando o Liquibase");
+        executeMigration();
+        return true;
+    }
+
+    public boolean isUpToDate() {
+        var sql = "SELECT checksum FROM SCHEMA_FINGERPRINT WHERE id = 1;";
+        try (var statement = connection.prepareStatement(sql)) {
+            var resultSet = statement.executeQuery();
+            var upToDate = resultSet.next() && SchemaFingerprint.compute().equals(resultSet.getString("checksum"));
+            connection.rollback();
+            return upToDate;
+        } catch (SQLException e) {
+            // a tabela ainda não existe em bancos que nunca passaram por esta migração
+            logger.debug("Fingerprint do schema indisponível: {}", e.getMessage());
+            rollbackQuietly();
+            return false;
+        }
+    }
+
+    /**
+     * Aplica as migrações pendentes e registra o fingerprint. A saída do Liquibase vai para
+     * {@code liquibase.log}; uma falha desfaz a transação e é relançada, para que a aplicação
+     * não suba sobre um schema migrado pela metade.
+     */
     public void executeMigration(){
         var originalOut = System.out;
         var originalErr = System.err;
         try(var fos = new FileOutputStream("liquibase.log")){
             System.setOut(new PrintStream(fos));
             System.setErr(new PrintStream(fos));
-            try(
-                    var connection = getConnection();
-                    var jdbcConnection = new JdbcConnection(connection);
-            ){
-                var liquibase = new Liquibase(
-                        "/db/changelog/db.changelog-master.yml",
-                        new ClassLoaderResourceAccessor(),
-                        jdbcConnection);
-                liquibase.update();
-            } catch (SQLException | LiquibaseException e) {
-                e.printStackTrace();
-                System.setErr(originalErr);
-            }
-        } catch (IOException ex){
-            ex.printStackTrace();
+            var jdbcConnection = new JdbcConnection(connection);
+            var liquibase = new Liquibase(
+                    "/db/changelog/db.changelog-master.yml",
+                    new ClassLoaderResourceAccessor(),
+                    jdbcConnection);
+            liquibase.update();
+            recordFingerprint();
+        } catch (SQLException | LiquibaseException | IOException e) {
+            System.setOut(originalOut);
+            System.setErr(originalErr);
+            rollbackQuietly();
+            logger.error("Erro ao executar a migração do schema, veja liquibase.log: {}", e.getMessage(), e);
+            throw new RuntimeException("Erro ao executar a migração do schema: " + e.getMessage(), e);
         } finally {
             System.setOut(originalOut);
             System.setErr(originalErr);
         }
     }
 
+    private void recordFingerprint() throws SQLException {
+        var sql = "INSERT INTO SCHEMA_FINGERPRINT (id, checksum) VALUES (1, ?) ON DUPLICATE KEY UPDATE checksum = VALUES(checksum);";
+        try (var statement = connection.prepareStatement(sql)) {
+            statement.setString(1, SchemaFingerprint.compute());
+            statement.executeUpdate();
+            connection.commit();
+        }
+    }
+
+    private void rollbackQuietly() {
+        try {
+            connection.rollback();
+        } catch (SQLException e) {
+            logger.debug("Falha ao desfazer a transação do schema: {}", e.getMessage());
+        }
+    }
+
 }
@@ -0,0 +1,341 @@
+package br.com.dio.persistence.migration;
+
+import br.com.dio.persistence.archive.BoardArchiveWriter;
+import br.com.dio.persistence.dao.BlockDAO;
+import br.com.dio.persistence.dao.BoardArchiveDAO;
+import br.com.dio.persistence.dao.BoardColumnDAO;
+import br.com.dio.persistence.dao.BoardDAO;
+import br.com.dio.persistence.dao.BoardSnapshotDAO;
+import br.com.dio.persistence.dao.CardDAO;
+import br.com.dio.persistence.dao.CardEventDAO;
+import br.com.dio.persistence.entity.BlockEntity;
+import br.com.dio.persistence.entity.BoardColumnEntity;
+import br.com.dio.persistence.entity.BoardColumnKindEnum;
+import br.com.dio.persistence.entity.BoardEntity;
+import br.com.dio.persistence.entity.CardEntity;
+import lombok.AllArgsConstructor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static br.com.dio.persistence.config.ConnectionConfig.getConnection;
+import static br.com.dio.persistence.entity.BoardColumnKindEnum.CANCEL;
+import static br.com.dio.persistence.entity.BoardColumnKindEnum.FINAL;
+import static br.com.dio.persistence.entity.BoardColumnKindEnum.INITIAL;
+import static br.com.dio.persistence.entity.BoardColumnKindEnum.PENDING;
+import static br.com.dio.persistence.entity.CardEventTypeEnum.CREATED;
+import static java.util.Objects.isNull;
+
+/**
+ * Verificação de regressão dos planos de execução. Executa todos os métodos dos DAOs dentro de
+ * uma transação que é desfeita no final, captura cada statement distinto de cada método com os
+ * parâmetros usados e roda um {@code EXPLAIN} sobre ele. Falha se alguma tabela for lida por varredura completa sem
+ * nenhum índice utilizável.
+ * <p>
+ * Deve rodar contra um MySQL com as migrações aplicadas: {@code ./gradlew verifyQueryPlans}.
+ */
+@AllArgsConstructor
+public class QueryPlanVerifier {
+
+    /**
+     * Statements que percorrem a tabela inteira por definição.
+     */
+    private static final Set<String> FULL_SCAN_ALLOWED = Set.of(
+            "BoardColumnDAO.findAllBoardIds",
+            "CardDAO.streamAllTexts"
+    );
+
+    private final Connection connection;
+
+    public static void main(String[] args) throws SQLException {
+        List<String> violations;
+        try (var connection = getConnection()) {
+            violations = new QueryPlanVerifier(connection).verify();
+        }
+        if (violations.isEmpty()) {
+            System.out.println("Nenhum statement dos DAOs depende de varredura completa de tabela.");
+            return;
+        }
+        violations.forEach(System.err::println);
+        System.exit(1);
+    }
+
+    public List<String> verify() throws SQLException {
+        try {
+            var statements = captureDaoStatements();
+            List<String> violations = new ArrayList<>();
+            for (var statement : statements.values()) {
+                violations.addAll(explain(statement));
+            }
+            return violations;
+        } finally {
+            connection.rollback();
+        }
+    }
+
+    private Map<StatementKey, CapturedStatement> captureDaoStatements() throws SQLException {
+        Map<StatementKey, CapturedStatement> captured = new LinkedHashMap<>();
+        var recorder = new Recorder(captured);
+        var recording = recorder.wrap(connection);
+        var boardDAO = new BoardDAO(recording);
+        var boardColumnDAO = new BoardColumnDAO(recording);
+        var cardDAO = new CardDAO(recording);
+        var blockDAO = new BlockDAO(recording);
+        var cardEventDAO = new CardEventDAO(recording);
+        var boardSnapshotDAO = new BoardSnapshotDAO(recording);
+        var boardArchiveDAO = new BoardArchiveDAO(recording);
+
+        var board = new BoardEntity();
+        board.setName("query plan verifier");
+        recorder.operation("BoardDAO.insert");
+        boardDAO.insert(board);
+        recorder.operation("BoardDAO.insertAll");
+        var extraBoard = new BoardEntity();
+        extraBoard.setName("query plan verifier");
+        boardDAO.insertAll(List.of(extraBoard));
+
+        recorder.operation("BoardColumnDAO.insert");
+        var initial = boardColumnDAO.insert(column(board, INITIAL, 0));
+        recorder.operation("BoardColumnDAO.insertAll");
+        var columns = boardColumnDAO.insertAll(List.of(column(board, PENDING, 1), column(board, FINAL, 2), column(board, CANCEL, 3)));
+        var cancel = columns.get(2);
+
+        recorder.operation("CardDAO.insert");
+        var card = card(initial);
+        cardDAO.insert(card);
+        recorder.operation("CardDAO.insertAll");
+        cardDAO.insertAll(List.of(card(initial), card(initial)));
+        recorder.operation("BlockDAO.insertAll");
+        blockDAO.insertAll(List.of(block(card)));
+        recorder.operation("BoardColumnDAO.addCardsAmount");
+        boardColumnDAO.addCardsAmount(initial.getId(), 1);
+        recorder.operation("BoardColumnDAO.addCardsAmounts");
+        boardColumnDAO.addCardsAmounts(Map.of(initial.getId(), 2));
+
+        recorder.operation("CardEventDAO.flush");
+        cardEventDAO.append(CREATED, card.getId(), null, null);
+        cardEventDAO.flush();
+        recorder.operation("CardEventDAO.streamByCardId");
+        cardEventDAO.streamByCardId(card.getId(), OffsetDateTime.now(), event -> {});
+        recorder.operation("CardEventDAO.streamByBoardId");
+        cardEventDAO.streamByBoardId(board.getId(), OffsetDateTime.now(), event -> {});
+        recorder.operation("CardEventDAO.streamByBoardIdAfter");
+        cardEventDAO.streamByBoardIdAfter(board.getId(), 0, Long.MAX_VALUE, event -> {});
+        recorder.operation("CardEventDAO.findStampsAfter");
+        cardEventDAO.findStampsAfter(0, 10);
+        recorder.operation("CardEventDAO.currentTimestamp");
+        cardEventDAO.currentTimestamp();
+
+        recorder.operation("BoardDAO.findById");
+        boardDAO.findById(board.getId());
+        recorder.operation("BoardDAO.exists");
+        boardDAO.exists(board.getId());
+        recorder.operation("BoardColumnDAO.findByBoardId");
+        boardColumnDAO.findByBoardId(board.getId());
+        recorder.operation("BoardColumnDAO.findByBoardIdWithDetails");
+        boardColumnDAO.findByBoardIdWithDetails(board.getId());
+        recorder.operation("BoardSnapshotDAO.findByBoardId");
+        boardSnapshotDAO.findByBoardId(board.getId());
+        recorder.operation("BoardColumnDAO.findById");
+        boardColumnDAO.findById(initial.getId());
+        recorder.operation("BoardColumnDAO.findCardsPage");
+        boardColumnDAO.findCardsPage(initial.getId(), 0, 10);
+        recorder.operation("CardDAO.findEntityById");
+        var loaded = cardDAO.findEntityById(card.getId()).orElseThrow();
+        recorder.operation("CardDAO.findById");
+        cardDAO.findById(card.getId());
+        recorder.operation("CardDAO.findAllById");
+        cardDAO.findAllById(List.of(card.getId(), loaded.getId()));
+        recorder.operation("CardDAO.update");
+        cardDAO.update(loaded);
+        recorder.operation("BoardColumnDAO.findAllBoardIds");
+        boardColumnDAO.findAllBoardIds();
+        recorder.operation("CardDAO.streamAllTexts");
+        cardDAO.streamAllTexts(text -> {});
+        recorder.operation("BoardArchiveDAO.exportCards");
+        exportCards(boardArchiveDAO, board.getId());
+
+        recorder.operation("CardDAO.incrementVersion");
+        cardDAO.incrementVersion(card.getId(), loaded.getVersion());
+        loaded.setVersion(loaded.getVersion() + 1);
+        recorder.operation("BlockDAO.block");
+        blockDAO.block("query plan verifier", card.getId());
+        recorder.operation("BlockDAO.unblock");
+        blockDAO.unblock("query plan verifier", card.getId());
+        recorder.operation("CardDAO.moveToNextColumn");
+        cardDAO.moveToNextColumn(card.getId(), initial.getId(), loaded.getVersion());
+        recorder.operation("BoardColumnDAO.transferCardsAmountOfCard");
+        boardColumnDAO.transferCardsAmountOfCard(initial.getId(), card.getId());
+        recorder.operation("CardDAO.moveToColumn");
+        cardDAO.moveToColumn(card.getId(), cancel.getId(), columns.get(0).getId(), loaded.getVersion() + 1);
+        recorder.operation("BoardColumnDAO.transferCardsAmount");
+        boardColumnDAO.transferCardsAmount(columns.get(0).getId(), cancel.getId());
+        recorder.operation("BoardColumnDAO.reconcileCardsAmount");
+        boardColumnDAO.reconcileCardsAmount(board.getId());
+        recorder.operation("BoardColumnDAO.findNextColumnId");
+        boardColumnDAO.findNextColumnId(initial.getId());
+        recorder.operation("CardDAO.lockCandidatesByColumnId");
+        cardDAO.lockCandidatesByColumnId(initial.getId());
+        recorder.operation("CardDAO.lockCandidatesByBoardId");
+        cardDAO.lockCandidatesByBoardId(board.getId());
+        recorder.operation("CardDAO.lockCandidatesByIds");
+        cardDAO.lockCandidatesByIds(List.of(card.getId()));
+        recorder.operation("CardDAO.moveUnblockedInColumn");
+        cardDAO.moveUnblockedInColumn(initial.getId(), columns.get(0).getId());
+        recorder.operation("CardDAO.moveAllToColumn");
+        cardDAO.moveAllToColumn(List.of(card.getId()), cancel.getId());
+        recorder.operation("BlockDAO.blockAll");
+        blockDAO.blockAll("query plan verifier", List.of(card.getId()));
+        recorder.operation("CardDAO.delete");
+        cardDAO.delete(card.getId());
+        recorder.operation("BoardDAO.delete");
+        boardDAO.delete(extraBoard.getId());
+        return captured;
+    }
+
+    private static void exportCards(final BoardArchiveDAO boardArchiveDAO, final Long boardId) throws SQLException {
+        try {
+            var archive = Files.createTempFile("query-plan-verifier", ".board");
+            try (var writer = BoardArchiveWriter.create(archive)) {
+                boardArchiveDAO.exportCards(boardId, writer);
+            } finally {
+                Files.deleteIfExists(archive);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private List<String> explain(final CapturedStatement captured) throws SQLException {
+        var operation = captured.operation();
+        List<String> violations = new ArrayList<>();
+        try (var statement = connection.prepareStatement("EXPLAIN " + captured.sql())) {
+            for (var parameter : captured.parameters().entrySet()) {
+                statement.setObject(parameter.getKey(), parameter.getValue());
+            }
+            try (var resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    var table = resultSet.getString("table");
+                    var type = resultSet.getString("type");
+                    var possibleKeys = resultSet.getString("possible_keys");
+                    var selectType = resultSet.getString("select_type");
+                    // INSERT ... VALUES não lê a tabela, e tabelas derivadas não têm índice
+                    if (isNull(table) || "INSERT".equals(selectType) || table.startsWith("<")) {
+                        continue;
+                    }
+                    if ("ALL".equals(type) && isNull(possibleKeys) && !FULL_SCAN_ALLOWED.contains(operation)) {
+                        violations.add("%s faz varredura completa em %s: %s".formatted(operation, table, captured.sql().strip()));
+                    }
+                }
+            }
+        }
+        return violations;
+    }
+
+    private static BoardColumnEntity column(final BoardEntity board, final BoardColumnKindEnum kind, final int order) {
+        var column = new BoardColumnEntity();
+        column.setName(kind.name().toLowerCase());
+        column.setKind(kind);
+        column.setOrder(order);
+        column.setBoard(board);
+        return column;
+    }
+
+    private static CardEntity card(final BoardColumnEntity column) {
+        var card = new CardEntity();
+        card.setTitle("query plan verifier");
+        card.setDescription("query plan verifier");
+        card.setBoardColumn(column);
+        return card;
+    }
+
+    private static BlockEntity block(final CardEntity card) {
+        var block = new BlockEntity();
+        block.setBlockedAt(OffsetDateTime.now());
+        block.setBlockReason("query plan verifier");
+        block.setUnblockedAt(OffsetDateTime.now());
+        block.setUnblockReason("query plan verifier");
+        block.setCard(card);
+        return block;
+    }
+
+    private record StatementKey(String operation, String sql) {
+    }
+
+    private record CapturedStatement(String operation, String sql, Map<Integer, Object> parameters) {
+    }
+
+    /**
+     * Envolve a conexão para registrar o SQL e os parâmetros da primeira execução de cada SQL
+     * distinto da operação do DAO em andamento, para que métodos com vários statements tenham
+     * todos verificados.
+     */
+    private static class Recorder {
+
+        private final Map<StatementKey, CapturedStatement> captured;
+        private String operation;
+
+        Recorder(final Map<StatementKey, CapturedStatement> captured) {
+            this.captured = captured;
+        }
+
+        void operation(final String operation) {
+            this.operation = operation;
+        }
+
+        Connection wrap(final Connection target) {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        var result = invoke(target, method, args);
+                        if (result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")) {
+                            return wrap(statement, (String) args[0]);
+                        }
+                        return result;
+                    });
+        }
+
+        private PreparedStatement wrap(final PreparedStatement target, final String sql) {
+            Map<Integer, Object> parameters = new TreeMap<>();
+            var statementOperation = operation;
+            return (PreparedStatement) Proxy.newProxyInstance(
+                    PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class},
+                    (proxy, method, args) -> {
+                        var name = method.getName();
+                        if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                            parameters.put(index, args[1]);
+                        } else if (name.startsWith("execute") || name.equals("addBatch")) {
+                            captured.putIfAbsent(new StatementKey(statementOperation, sql),
+                                    new CapturedStatement(statementOperation, sql, new TreeMap<>(parameters)));
+                        }
+                        return invoke(target, method, args);
+                    });
+        }
+
+        private static Object invoke(final Object target, final Method method, final Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,85 @@
+package br.com.dio.persistence.migration;
+
+import lombok.NoArgsConstructor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Calcula um SHA-256 sobre o changelog master e todos os arquivos de migração do classpath, em
+ * ordem de nome. Se um arquivo for adicionado ou alterado, o valor muda.
+ */
+@NoArgsConstructor(access = PRIVATE)
+final class SchemaFingerprint {
+
+    private static final String MASTER_CHANGELOG = "db/changelog/db.changelog-master.yml";
+    private static final String MIGRATIONS_DIRECTORY = "db/changelog/migrations";
+
+    static String compute() {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256");
+            digest.update(read(MASTER_CHANGELOG));
+            for (var migration : listMigrations()) {
+                digest.update(migration.getBytes());
+                digest.update(read(MIGRATIONS_DIRECTORY + "/" + migration));
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] read(final String resource) {
+        try (InputStream stream = SchemaFingerprint.class.getClassLoader().getResourceAsStream(resource)) {
+            if (stream == null) {
+                throw new IllegalStateException("Recurso de migração não encontrado: " + resource);
+            }
+            return stream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<String> listMigrations() {
+        var url = SchemaFingerprint.class.getClassLoader().getResource(MIGRATIONS_DIRECTORY);
+        if (url == null) {
+            throw new IllegalStateException("Diretório de migrações não encontrado: " + MIGRATIONS_DIRECTORY);
+        }
+        try {
+            var uri = url.toURI();
+            if (uri.getScheme().equals("jar")) {
+                try (var fileSystem = FileSystems.newFileSystem(uri, Map.of())) {
+                    return list(fileSystem.getPath(MIGRATIONS_DIRECTORY));
+                }
+            }
+            return list(Path.of(uri));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static List<String> list(final Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(p -> p.getFileName().toString())
+                    .filter(name -> name.endsWith(".sql") || name.endsWith(".yml") || name.endsWith(".xml"))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+}
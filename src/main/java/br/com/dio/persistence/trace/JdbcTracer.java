@@ -0,0 +1,156 @@
+package br.com.dio.persistence.trace;
+
+import br.com.dio.dto.RoundTripStatsDTO;
+import lombok.NoArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import static br.com.dio.config.EnvironmentConfig.getEnv;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Rastreia as idas ao banco feitas pelas conexões do {@link TracingConnection}:
+ * <ul>
+ *     <li>conta as idas (execuções, commits e rollbacks) de cada operação lógica, que é a
+ *     operação instrumentada mais externa em andamento na thread;</li>
+ *     <li>registra os statements mais lentos que {@code DB_SLOW_QUERY_MS} com os parâmetros;</li>
+ *     <li>aponta possíveis N+1: o mesmo SQL executado {@code JDBC_N_PLUS_ONE_THRESHOLD} vezes
+ *     ou mais dentro de uma única operação.</li>
+ * </ul>
+ * Desligado com {@code JDBC_TRACE_ENABLED=false}.
+ */
+@NoArgsConstructor(access = PRIVATE)
+public final class JdbcTracer {
+
+    private static final Logger logger = LoggerFactory.getLogger(JdbcTracer.class);
+
+    private static final boolean ENABLED = Boolean.parseBoolean(getEnv("JDBC_TRACE_ENABLED", "true"));
+    private static final long SLOW_QUERY_NANOS = MILLISECONDS.toNanos(Long.parseLong(getEnv("DB_SLOW_QUERY_MS", "200")));
+    private static final int N_PLUS_ONE_THRESHOLD = Integer.parseInt(getEnv("JDBC_N_PLUS_ONE_THRESHOLD", "10"));
+
+    private static final ThreadLocal<Scope> scopes = ThreadLocal.withInitial(Scope::new);
+    private static final ConcurrentHashMap<String, Stats> stats = new ConcurrentHashMap<>();
+    private static final Set<String> reportedNPlusOne = ConcurrentHashMap.newKeySet();
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Marca o início de uma operação na thread atual. Só a mais externa delimita a operação
+     * lógica; as aninhadas (por exemplo, os DAOs chamados por um service) somam nela.
+     */
+    public static void enter(final String operation) {
+        if (!ENABLED) {
+            return;
+        }
+        var scope = scopes.get();
+        if (scope.depth++ == 0) {
+            scope.begin(operation);
+        }
+    }
+
+    public static void exit() {
+        if (!ENABLED) {
+            return;
+        }
+        var scope = scopes.get();
+        if (scope.depth > 0 && --scope.depth == 0) {
+            scope.finish();
+        }
+    }
+
+    public static List<RoundTripStatsDTO> snapshot() {
+        return stats.entrySet().stream()
+                .map(e -> e.getValue().snapshot(e.getKey()))
+                .sorted(Comparator.comparing(RoundTripStatsDTO::operation))
+                .toList();
+    }
+
+    /**
+     * Registra uma ida ao banco. {@code parameters} só é convertido em texto se o statement
+     * for lento.
+     */
+    static void onRoundTrip(final String sql, final long elapsedNanos, final Object parameters) {
+        var scope = scopes.get();
+        if (elapsedNanos >= SLOW_QUERY_NANOS) {
+            logger.warn("Statement lento ({} ms) em {}: {} parâmetros {}", NANOSECONDS.toMillis(elapsedNanos),
+                    scope.depth > 0 ? scope.operation : "(sem operação)", normalize(sql), parameters);
+        }
+        if (scope.depth > 0) {
+            scope.roundTrips++;
+            scope.executions.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    private static String normalize(final String sql) {
+        return sql.strip().replaceAll("\\s+", " ");
+    }
+
+    private static class Scope {
+
+        private final Map<String, Integer> executions = new HashMap<>();
+        private String operation;
+        private int depth;
+        private int roundTrips;
+
+        void begin(final String operation) {
+            this.operation = operation;
+            this.roundTrips = 0;
+            executions.clear();
+        }
+
+        void finish() {
+            var suspects = 0;
+            for (var execution : executions.entrySet()) {
+                if (execution.getValue() < N_PLUS_ONE_THRESHOLD) {
+                    continue;
+                }
+                suspects++;
+                var sql = normalize(execution.getKey());
+                if (reportedNPlusOne.add(operation + '\n' + sql)) {
+                    logger.warn("Possível N+1 em {}: o mesmo statement foi executado {} vezes: {}",
+                            operation, execution.getValue(), sql);
+                }
+            }
+            stats.computeIfAbsent(operation, o -> new Stats()).record(roundTrips, suspects);
+            logger.debug("{}: {} idas ao banco", operation, roundTrips);
+        }
+
+    }
+
+    private static class Stats {
+
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder roundTrips = new LongAdder();
+        private final LongAccumulator maxRoundTrips = new LongAccumulator(Long::max, 0);
+        private final LongAdder nPlusOneSuspects = new LongAdder();
+
+        void record(final int operationRoundTrips, final int suspects) {
+            executions.increment();
+            roundTrips.add(operationRoundTrips);
+            maxRoundTrips.accumulate(operationRoundTrips);
+            nPlusOneSuspects.add(suspects);
+        }
+
+        RoundTripStatsDTO snapshot(final String operation) {
+            var count = executions.sum();
+            var total = roundTrips.sum();
+            return new RoundTripStatsDTO(operation, count, total, count == 0 ? 0 : total / (double) count,
+                    maxRoundTrips.get(), nPlusOneSuspects.sum());
+        }
+
+    }
+
+}
@@ -0,0 +1,113 @@
+package br.com.dio.persistence.trace;
+
+import lombok.NoArgsConstructor;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.Arrays;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Envolve uma {@link Connection} para que cada execução de statement, commit e rollback feitos
+ * por ela seja cronometrado e informado ao {@link JdbcTracer}, junto com o SQL e os parâmetros
+ * vinculados.
+ */
+@NoArgsConstructor(access = PRIVATE)
+public final class TracingConnection {
+
+    private static final String COMMIT = "COMMIT";
+    private static final String ROLLBACK = "ROLLBACK";
+
+    public static Connection wrap(final Connection target) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "prepareStatement" -> wrap((PreparedStatement) invoke(target, method, args), (String) args[0]);
+                    case "createStatement" -> wrap((Statement) invoke(target, method, args));
+                    case "commit" -> timed(target, method, args, COMMIT, null);
+                    case "rollback" -> timed(target, method, args, ROLLBACK, null);
+                    default -> invoke(target, method, args);
+                });
+    }
+
+    private static PreparedStatement wrap(final PreparedStatement target, final String sql) {
+        var parameters = new BoundParameters();
+        return (PreparedStatement) Proxy.newProxyInstance(
+                PreparedStatement.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class},
+                (proxy, method, args) -> {
+                    var name = method.getName();
+                    if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                        parameters.set(index, args[1]);
+                    } else if (name.equals("clearParameters")) {
+                        parameters.clear();
+                    } else if (name.startsWith("execute") && (args == null || args.length == 0)) {
+                        return timed(target, method, args, sql, parameters);
+                    }
+                    return invoke(target, method, args);
+                });
+    }
+
+    private static Statement wrap(final Statement target) {
+        return (Statement) Proxy.newProxyInstance(
+                Statement.class.getClassLoader(),
+                new Class<?>[]{Statement.class},
+                (proxy, method, args) -> method.getName().startsWith("execute") && args != null && args[0] instanceof String sql ?
+                        timed(target, method, args, sql, null) :
+                        invoke(target, method, args));
+    }
+
+    private static Object timed(final Object target, final Method method, final Object[] args,
+                                final String sql, final BoundParameters parameters) throws Throwable {
+        var start = System.nanoTime();
+        try {
+            return invoke(target, method, args);
+        } finally {
+            JdbcTracer.onRoundTrip(sql, System.nanoTime() - start, parameters);
+        }
+    }
+
+    private static Object invoke(final Object target, final Method method, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Últimos valores vinculados a cada posição do statement, convertidos em texto só quando
+     * o statement precisa ser registrado.
+     */
+    private static class BoundParameters {
+
+        private Object[] values = new Object[8];
+        private int size;
+
+        void set(final int index, final Object value) {
+            if (index > values.length) {
+                values = Arrays.copyOf(values, Math.max(index, values.length * 2));
+            }
+            values[index - 1] = value;
+            size = Math.max(size, index);
+        }
+
+        void clear() {
+            Arrays.fill(values, null);
+            size = 0;
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.toString(Arrays.copyOf(values, size));
+        }
+
+    }
+
+}
@@ -0,0 +1,226 @@
+package br.com.dio.search;
+
+import br.com.dio.search.Tokenizer.QueryTerm;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice invertido dos cards de um board: o dicionário de termos fica ordenado para que uma
+ * busca por prefixo seja uma faixa contígua do mapa, e cada termo aponta para a
+ * {@link PostingList} dos cards que o contêm.
+ * <p>
+ * Não há índice reverso card → termos: remover um card percorre as listas do board com busca
+ * binária. Remoções e edições são raras perto das buscas e das criações, e assim o índice
+ * guarda só os IDs.
+ */
+final class BoardTextIndex {
+
+    private final TreeMap<String, PostingList> terms = new TreeMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    void add(final long cardId, final Collection<String> cardTerms) {
+        lock.writeLock().lock();
+        try {
+            for (var term : cardTerms) {
+                terms.computeIfAbsent(term, t -> new PostingList()).add(cardId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void replace(final long cardId, final Collection<String> cardTerms) {
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(cardId);
+            for (var term : cardTerms) {
+                terms.computeIfAbsent(term, t -> new PostingList()).add(cardId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(final long cardId) {
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(cardId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void trimToSize() {
+        lock.writeLock().lock();
+        try {
+            terms.values().forEach(PostingList::trimToSize);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int termsAmount() {
+        lock.readLock().lock();
+        try {
+            return terms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Cards que casam com todos os termos da consulta, do mais recente (maior ID) para o mais
+     * antigo, limitados a {@code limit}. Os candidatos saem do termo com menos ocorrências e
+     * cada um é conferido nos demais por busca binária, parando assim que o limite é atingido.
+     * Um termo com prefixo é o conjunto das listas da faixa do dicionário, percorridas juntas
+     * sem materializar a união.
+     */
+    long[] search(final List<QueryTerm> query, final int limit) {
+        if (query.isEmpty() || limit <= 0) {
+            return new long[0];
+        }
+        lock.readLock().lock();
+        try {
+            List<TermMatch> matches = new ArrayList<>(query.size());
+            for (var queryTerm : query) {
+                var match = queryTerm.prefix() ? prefixMatch(queryTerm.term()) : exactMatch(queryTerm.term());
+                if (match.size() == 0) {
+                    return new long[0];
+                }
+                matches.add(match);
+            }
+            matches.sort(Comparator.comparingLong(TermMatch::size));
+            var candidates = matches.get(0).descending();
+            var found = new long[(int) Math.min(limit, matches.get(0).size())];
+            var count = 0;
+            while (count < found.length && candidates.hasNext()) {
+                var cardId = candidates.next();
+                if (containedInAll(matches, cardId)) {
+                    found[count++] = cardId;
+                }
+            }
+            return Arrays.copyOf(found, count);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private TermMatch exactMatch(final String term) {
+        var list = terms.get(term);
+        return new TermMatch(list == null ? List.of() : List.of(list));
+    }
+
+    private TermMatch prefixMatch(final String prefix) {
+        return new TermMatch(new ArrayList<>(terms.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()));
+    }
+
+    private static boolean containedInAll(final List<TermMatch> matches, final long cardId) {
+        for (int i = 1; i < matches.size(); i++) {
+            if (!matches.get(i).contains(cardId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void removeUnlocked(final long cardId) {
+        var iterator = terms.values().iterator();
+        while (iterator.hasNext()) {
+            var list = iterator.next();
+            if (list.remove(cardId) && list.isEmpty()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Listas que satisfazem um termo da consulta: uma para o termo exato, várias para um prefixo.
+     */
+    private static final class TermMatch {
+
+        private final List<PostingList> lists;
+        private final long size;
+
+        TermMatch(final List<PostingList> lists) {
+            this.lists = lists;
+            this.size = lists.stream().mapToLong(PostingList::size).sum();
+        }
+
+        /**
+         * Quantidade de ocorrências somando as listas; com prefixo pode contar o mesmo card
+         * mais de uma vez.
+         */
+        long size() {
+            return size;
+        }
+
+        boolean contains(final long cardId) {
+            for (var list : lists) {
+                if (list.contains(cardId)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * IDs da união das listas em ordem decrescente e sem repetição, intercalando as listas
+         * por uma fila de prioridade com a posição atual de cada uma.
+         */
+        PrimitiveIterator.OfLong descending() {
+            var positions = new int[lists.size()];
+            var queue = new PriorityQueue<Integer>(Math.max(lists.size(), 1),
+                    (a, b) -> Long.compare(lists.get(b).get(positions[b]), lists.get(a).get(positions[a])));
+            for (int i = 0; i < lists.size(); i++) {
+                positions[i] = lists.get(i).size() - 1;
+                if (positions[i] >= 0) {
+                    queue.add(i);
+                }
+            }
+            return new PrimitiveIterator.OfLong() {
+
+                private long last = Long.MIN_VALUE;
+
+                @Override
+                public boolean hasNext() {
+                    while (!queue.isEmpty() && current(queue.peek()) == last) {
+                        advance(queue.poll());
+                    }
+                    return !queue.isEmpty();
+                }
+
+                @Override
+                public long nextLong() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    var list = queue.poll();
+                    last = current(list);
+                    advance(list);
+                    return last;
+                }
+
+                private long current(final int list) {
+                    return lists.get(list).get(positions[list]);
+                }
+
+                private void advance(final int list) {
+                    if (--positions[list] >= 0) {
+                        queue.add(list);
+                    }
+                }
+            };
+        }
+
+    }
+
+}
@@ -0,0 +1,107 @@
+package br.com.dio.search;
+
+import br.com.dio.dto.CardTextDTO;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Índice de busca textual dos cards, compartilhado pela aplicação e separado por board. É
+ * montado na inicialização pelo {@code CardSearchService} e mantido pelas operações que criam,
+ * editam ou excluem cards e boards.
+ * <p>
+ * As operações sobre cards recebem a coluna do card; o board é resolvido pelo mapa coluna →
+ * board registrado na carga e na criação de cada board, sem consulta ao banco. Cards de colunas
+ * desconhecidas não são indexados.
+ */
+public class CardSearchIndex {
+
+    private static final CardSearchIndex shared = new CardSearchIndex();
+
+    private final ConcurrentHashMap<Long, Long> boardsByColumn = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, BoardTextIndex> boards = new ConcurrentHashMap<>();
+
+    public static CardSearchIndex shared() {
+        return shared;
+    }
+
+    public void registerColumns(final Map<Long, Long> boardIdsByColumnId) {
+        boardsByColumn.putAll(boardIdsByColumnId);
+    }
+
+    public void registerColumn(final long columnId, final long boardId) {
+        boardsByColumn.put(columnId, boardId);
+    }
+
+    public void index(final CardTextDTO card) {
+        var board = boardOf(card.columnId());
+        if (board != null) {
+            board.add(card.id(), terms(card));
+        }
+    }
+
+    /**
+     * Substitui os termos já indexados do card pelos do texto atual.
+     */
+    public void reindex(final CardTextDTO card) {
+        var board = boardOf(card.columnId());
+        if (board != null) {
+            board.replace(card.id(), terms(card));
+        }
+    }
+
+    public void remove(final long columnId, final long cardId) {
+        var boardId = boardsByColumn.get(columnId);
+        var board = boardId == null ? null : boards.get(boardId);
+        if (board != null) {
+            board.remove(cardId);
+        }
+    }
+
+    public void removeBoard(final long boardId) {
+        boards.remove(boardId);
+        boardsByColumn.values().removeIf(id -> id == boardId);
+    }
+
+    public void clear() {
+        boards.clear();
+        boardsByColumn.clear();
+    }
+
+    /**
+     * Libera a capacidade sobrando nas listas depois da carga inicial.
+     */
+    public void trimToSize() {
+        boards.values().forEach(BoardTextIndex::trimToSize);
+    }
+
+    public int termsAmount() {
+        return boards.values().stream().mapToInt(BoardTextIndex::termsAmount).sum();
+    }
+
+    /**
+     * IDs dos cards do board que contêm todos os termos da consulta, dos mais recentes para os
+     * mais antigos. Um termo terminado em {@code *} casa com qualquer termo que comece com ele.
+     */
+    public long[] search(final long boardId, final String query, final int limit) {
+        var board = boards.get(boardId);
+        if (board == null) {
+            return new long[0];
+        }
+        return board.search(Tokenizer.query(query), limit);
+    }
+
+    private BoardTextIndex boardOf(final long columnId) {
+        var boardId = boardsByColumn.get(columnId);
+        return boardId == null ? null : boards.computeIfAbsent(boardId, id -> new BoardTextIndex());
+    }
+
+    private static Set<String> terms(final CardTextDTO card) {
+        Set<String> terms = new LinkedHashSet<>(Tokenizer.terms(card.title()));
+        terms.addAll(Tokenizer.terms(card.description()));
+        return terms;
+    }
+
+}
@@ -0,0 +1,76 @@
+package br.com.dio.search;
+
+import java.util.Arrays;
+
+/**
+ * IDs dos cards que contêm um termo, em um {@code long[]} ordenado e sem repetição. Como os
+ * IDs são gerados em ordem crescente, a indexação de cards novos é um acréscimo no fim do array.
+ */
+final class PostingList {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    long get(final int index) {
+        return ids[index];
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void add(final long cardId) {
+        if (size > 0 && ids[size - 1] >= cardId) {
+            var index = Arrays.binarySearch(ids, 0, size, cardId);
+            if (index >= 0) {
+                return;
+            }
+            insertAt(-index - 1, cardId);
+            return;
+        }
+        insertAt(size, cardId);
+    }
+
+    boolean remove(final long cardId) {
+        var index = Arrays.binarySearch(ids, 0, size, cardId);
+        if (index < 0) {
+            return false;
+        }
+        System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+        size--;
+        return true;
+    }
+
+    boolean contains(final long cardId) {
+        return Arrays.binarySearch(ids, 0, size, cardId) >= 0;
+    }
+
+    /**
+     * Libera a capacidade sobrando depois da carga inicial do índice.
+     */
+    void trimToSize() {
+        if (ids.length > size) {
+            ids = Arrays.copyOf(ids, Math.max(size, 1));
+        }
+    }
+
+    long[] toArray() {
+        return Arrays.copyOf(ids, size);
+    }
+
+    private void insertAt(final int index, final long cardId) {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length + (ids.length >> 1) + 1);
+        }
+        System.arraycopy(ids, index, ids, index + 1, size - index);
+        ids[index] = cardId;
+        size++;
+    }
+
+}
@@ -0,0 +1,88 @@
+package br.com.dio.search;
+
+import lombok.NoArgsConstructor;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Quebra textos em termos: sequências de letras e dígitos, em minúsculas e sem acentos, para
+ * que "Relatório" e "relatorio" caiam no mesmo termo. Termos maiores que {@link #MAX_TERM_LENGTH}
+ * são truncados.
+ */
+@NoArgsConstructor(access = PRIVATE)
+final class Tokenizer {
+
+    static final int MAX_TERM_LENGTH = 32;
+    private static final char PREFIX_MARKER = '*';
+
+    static Set<String> terms(final String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (text != null) {
+            scan(normalize(text), (term, prefix) -> terms.add(term));
+        }
+        return terms;
+    }
+
+    /**
+     * Termos de uma consulta. Um termo seguido de {@code *} casa com todos os termos que
+     * começam com ele; os demais casam só com o termo exato.
+     */
+    static List<QueryTerm> query(final String query) {
+        List<QueryTerm> terms = new ArrayList<>();
+        if (query != null) {
+            scan(normalize(query), (term, prefix) -> terms.add(new QueryTerm(term, prefix)));
+        }
+        return terms;
+    }
+
+    /**
+     * Remove acentos e passa para minúsculas. Textos só com ASCII, o caso comum, não passam
+     * pela normalização Unicode.
+     */
+    private static String normalize(final String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) > 0x7F) {
+                return Normalizer.normalize(text, Normalizer.Form.NFD)
+                        .replaceAll("\\p{M}+", "")
+                        .toLowerCase(Locale.ROOT);
+            }
+        }
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    private static void scan(final String text, final TermConsumer consumer) {
+        var start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            var c = i < text.length() ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                if (start < 0) {
+                    start = i;
+                }
+                continue;
+            }
+            if (start >= 0) {
+                var end = Math.min(i, start + MAX_TERM_LENGTH);
+                consumer.accept(text.substring(start, end), c == PREFIX_MARKER);
+                start = -1;
+            }
+        }
+    }
+
+    record QueryTerm(String term, boolean prefix) {
+    }
+
+    @FunctionalInterface
+    private interface TermConsumer {
+
+        void accept(String term, boolean prefix);
+
+    }
+
+}
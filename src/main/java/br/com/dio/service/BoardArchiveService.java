@@ -0,0 +1,233 @@
+package br.com.dio.service;
+
+import br.com.dio.dto.BoardTransferResultDTO;
+import br.com.dio.dto.CardTextDTO;
+import br.com.dio.exception.EntityNotFoundException;
+import br.com.dio.metrics.OperationTimer;
+import br.com.dio.persistence.archive.BoardArchiveReader;
+import br.com.dio.persistence.archive.BoardArchiveRecord;
+import br.com.dio.persistence.archive.BoardArchiveWriter;
+import br.com.dio.persistence.dao.BlockDAO;
+import br.com.dio.persistence.dao.BoardArchiveDAO;
+import br.com.dio.persistence.dao.BoardColumnDAO;
+import br.com.dio.persistence.dao.BoardDAO;
+import br.com.dio.persistence.dao.CardDAO;
+import br.com.dio.persistence.dao.CardEventDAO;
+import br.com.dio.persistence.entity.BlockEntity;
+import br.com.dio.persistence.entity.BoardColumnEntity;
+import br.com.dio.persistence.entity.BoardEntity;
+import br.com.dio.persistence.entity.CardEntity;
+import br.com.dio.search.CardSearchIndex;
+import lombok.AllArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static br.com.dio.metrics.OperationMetrics.timer;
+import static br.com.dio.persistence.entity.CardEventTypeEnum.BLOCKED;
+import static br.com.dio.persistence.entity.CardEventTypeEnum.CREATED;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Backup e clonagem de boards por streaming: o export percorre board, colunas, cards e
+ * bloqueios com cursores somente para frente gravando direto no arquivo, e o import lê o
+ * arquivo registro a registro inserindo em lotes. Só um lote de cards fica em memória, além do
+ * título e da descrição dos cards importados, que entram no índice de busca depois do commit.
+ */
+@AllArgsConstructor
+public class BoardArchiveService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BoardArchiveService.class);
+    private static final int IMPORT_CHUNK_SIZE = 1_000;
+    private static final OperationTimer EXPORT_BOARD_TIMER = timer("BoardArchiveService.exportBoard");
+    private static final OperationTimer IMPORT_BOARD_TIMER = timer("BoardArchiveService.importBoard");
+    private final Connection connection;
+
+    public BoardTransferResultDTO exportBoard(final Long boardId, final Path target) throws SQLException {
+        return EXPORT_BOARD_TIMER.record(() -> {
+            if (boardId == null || boardId <= 0) {
+                throw new IllegalArgumentException("ID do quadro inválido.");
+            }
+            if (target == null) {
+                throw new IllegalArgumentException("O arquivo de destino não pode ser nulo.");
+            }
+
+            var startedAt = System.nanoTime();
+            try {
+                var board = new BoardDAO(connection).findById(boardId)
+                        .orElseThrow(() -> new EntityNotFoundException("O board de ID %s não foi encontrado".formatted(boardId)));
+                var writer = BoardArchiveWriter.create(target);
+                try (writer) {
+                    writer.writeBoard(board.getName());
+                    for (var column : new BoardColumnDAO(connection).findByBoardId(boardId)) {
+                        writer.writeColumn(column.getId(), column.getName(), column.getOrder(), column.getKind());
+                    }
+                    new BoardArchiveDAO(connection).exportCards(boardId, writer);
+                    writer.finish();
+                } catch (SQLException | IOException | RuntimeException ex) {
+                    deleteIncompleteExport(target);
+                    throw ex;
+                }
+                var result = new BoardTransferResultDTO(boardId, writer.getColumns(), writer.getCards(), writer.getBlocks(),
+                        NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+                logger.info("Quadro ID {} exportado para {}: {} linhas em {} ms ({} linhas/s)",
+                        boardId, target, result.rows(), result.elapsedMillis(), Math.round(result.rowsPerSecond()));
+                return result;
+            } catch (SQLException | IOException ex) {
+                connection.rollback();
+                logger.error("Erro ao exportar quadro ID {}: {}", boardId, ex.getMessage(), ex);
+                throw new RuntimeException("Erro ao exportar quadro: " + ex.getMessage(), ex);
+            }
+        });
+    }
+
+    /**
+     * Cria um novo board a partir do export, com novos ids, em uma única transação. Os cards
+     * recebem um evento {@code CREATED} e os bloqueios em aberto um evento {@code BLOCKED}.
+     */
+    public BoardTransferResultDTO importBoard(final Path source) throws SQLException {
+        return IMPORT_BOARD_TIMER.record(() -> {
+            if (source == null) {
+                throw new IllegalArgumentException("O arquivo de origem não pode ser nulo.");
+            }
+
+            var startedAt = System.nanoTime();
+            try (var reader = BoardArchiveReader.open(source)) {
+                if (!(reader.next() instanceof BoardArchiveRecord.Board archivedBoard)) {
+                    throw new IllegalArgumentException("O export não começa com o registro do quadro.");
+                }
+                var board = new BoardEntity();
+                board.setName(archivedBoard.name());
+                new BoardDAO(connection).insert(board);
+
+                Map<Long, BoardColumnEntity> columnsByArchivedId = new LinkedHashMap<>();
+                var record = reader.next();
+                while (record instanceof BoardArchiveRecord.Column archivedColumn) {
+                    var column = new BoardColumnEntity();
+                    column.setName(archivedColumn.name());
+                    column.setOrder(archivedColumn.order());
+                    column.setKind(archivedColumn.kind());
+                    column.setBoard(board);
+                    columnsByArchivedId.put(archivedColumn.id(), column);
+                    record = reader.next();
+                }
+                if (columnsByArchivedId.isEmpty()) {
+                    throw new IllegalArgumentException("O export não contém colunas.");
+                }
+                var boardColumnDAO = new BoardColumnDAO(connection);
+                boardColumnDAO.insertAll(new ArrayList<>(columnsByArchivedId.values()));
+
+                var chunk = new ImportChunk();
+                CardEntity lastCard = null;
+                for (; record != null; record = reader.next()) {
+                    if (record instanceof BoardArchiveRecord.Card archivedCard) {
+                        if (chunk.cards.size() == IMPORT_CHUNK_SIZE) {
+                            chunk.flush();
+                        }
+                        var column = columnsByArchivedId.get(archivedCard.columnId());
+                        if (column == null) {
+                            throw new IllegalArgumentException(
+                                    "O card %s do export referencia uma coluna inexistente.".formatted(archivedCard.id()));
+                        }
+                        lastCard = new CardEntity();
+                        lastCard.setTitle(archivedCard.title());
+                        lastCard.setDescription(archivedCard.description());
+                        lastCard.setBoardColumn(column);
+                        chunk.cards.add(lastCard);
+                    } else if (record instanceof BoardArchiveRecord.Block archivedBlock && lastCard != null) {
+                        var block = new BlockEntity();
+                        block.setBlockedAt(archivedBlock.blockedAt());
+                        block.setBlockReason(archivedBlock.blockReason());
+                        block.setUnblockedAt(archivedBlock.unblockedAt());
+                        block.setUnblockReason(archivedBlock.unblockReason());
+                        block.setCard(lastCard);
+                        chunk.blocks.add(block);
+                    } else {
+                        throw new IllegalArgumentException("Registro fora de ordem no export: " + record);
+                    }
+                }
+                chunk.flush();
+                chunk.events.flush();
+                boardColumnDAO.addCardsAmounts(chunk.cardsPerColumn);
+                connection.commit();
+                columnsByArchivedId.values().forEach(c -> CardSearchIndex.shared().registerColumn(c.getId(), board.getId()));
+                chunk.texts.forEach(CardSearchIndex.shared()::index);
+
+                var result = new BoardTransferResultDTO(board.getId(), columnsByArchivedId.size(), chunk.importedCards,
+                        chunk.importedBlocks, NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+                logger.info("Quadro importado de {} com ID {}: {} linhas em {} ms ({} linhas/s)",
+                        source, board.getId(), result.rows(), result.elapsedMillis(), Math.round(result.rowsPerSecond()));
+                return result;
+            } catch (SQLException | IOException ex) {
+                connection.rollback();
+                logger.error("Erro ao importar quadro de {}: {}", source, ex.getMessage(), ex);
+                throw new RuntimeException("Erro ao importar quadro: " + ex.getMessage(), ex);
+            } catch (RuntimeException ex) {
+                connection.rollback();
+                throw ex;
+            }
+        });
+    }
+
+    /**
+     * Remove o arquivo de um export que falhou no meio, para que não sobre um export truncado.
+     */
+    private static void deleteIncompleteExport(final Path target) {
+        try {
+            Files.deleteIfExists(target);
+        } catch (IOException ex) {
+            logger.warn("Não foi possível remover o export incompleto {}: {}", target, ex.getMessage());
+        }
+    }
+
+    /**
+     * Lote de cards lidos do export, com os bloqueios de cada um, inserido de uma vez.
+     */
+    private class ImportChunk {
+
+        private final List<CardEntity> cards = new ArrayList<>(IMPORT_CHUNK_SIZE);
+        private final List<BlockEntity> blocks = new ArrayList<>();
+        private final Map<Long, Integer> cardsPerColumn = new HashMap<>();
+        // só entram no índice de busca depois do commit
+        private final List<CardTextDTO> texts = new ArrayList<>();
+        private final CardDAO cardDAO = new CardDAO(connection);
+        private final BlockDAO blockDAO = new BlockDAO(connection);
+        private final CardEventDAO events = new CardEventDAO(connection);
+        private long importedCards;
+        private long importedBlocks;
+
+        void flush() throws SQLException {
+            if (cards.isEmpty()) {
+                return;
+            }
+            cardDAO.insertAll(cards);
+            blockDAO.insertAll(blocks);
+            for (var card : cards) {
+                cardsPerColumn.merge(card.getBoardColumn().getId(), 1, Integer::sum);
+                events.append(CREATED, card.getId(), null, null);
+                texts.add(new CardTextDTO(card.getId(), card.getBoardColumn().getId(), card.getTitle(), card.getDescription()));
+            }
+            for (var block : blocks) {
+                if (block.getUnblockedAt() == null) {
+                    events.append(BLOCKED, block.getCard().getId(), null, block.getBlockReason());
+                }
+            }
+            importedCards += cards.size();
+            importedBlocks += blocks.size();
+            cards.clear();
+            blocks.clear();
+        }
+
+    }
+
+}
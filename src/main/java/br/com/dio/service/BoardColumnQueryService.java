@@ -1,21 +1,48 @@
 package br.com.dio.service;
 
+import br.com.dio.metrics.OperationTimer;
 import br.com.dio.persistence.dao.BoardColumnDAO;
+import br.com.dio.persistence.dao.ColumnCardCursor;
 import br.com.dio.persistence.entity.BoardColumnEntity;
+import br.com.dio.persistence.entity.CardEntity;
 import lombok.AllArgsConstructor;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.List;
 import java.util.Optional;
 
+import static br.com.dio.metrics.OperationMetrics.timer;
+
 @AllArgsConstructor
 public class BoardColumnQueryService {
 
+    private static final int DEFAULT_PAGE_SIZE = 500;
+    private static final OperationTimer FIND_BY_ID_TIMER = timer("BoardColumnQueryService.findById");
+    private static final OperationTimer FIND_CARDS_PAGE_TIMER = timer("BoardColumnQueryService.findCardsPage");
     private final Connection connection;
 
     public Optional<BoardColumnEntity> findById(final Long id) throws SQLException {
+        return FIND_BY_ID_TIMER.record(() -> {
+            var dao = new BoardColumnDAO(connection);
+            return dao.findById(id);
+        });
+    }
+
+    public List<CardEntity> findCardsPage(final Long columnId, final long afterCardId, final int limit) throws SQLException {
+        return FIND_CARDS_PAGE_TIMER.record(() -> {
+            var dao = new BoardColumnDAO(connection);
+            return dao.findCardsPage(columnId, afterCardId, limit);
+        });
+    }
+
+    public ColumnCardCursor findCards(final Long columnId) {
+        return findCards(columnId, DEFAULT_PAGE_SIZE);
+    }
+
+    public ColumnCardCursor findCards(final Long columnId, final int pageSize) {
         var dao = new BoardColumnDAO(connection);
-        return dao.findById(id);
+        return dao.openCardCursor(columnId, pageSize);
     }
 
 }
@@ -0,0 +1,52 @@
+package br.com.dio.service;
+
+import br.com.dio.metrics.OperationTimer;
+import br.com.dio.persistence.dao.BoardColumnDAO;
+import lombok.AllArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.TreeSet;
+
+import static br.com.dio.metrics.OperationMetrics.timer;
+
+@AllArgsConstructor
+public class BoardColumnService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BoardColumnService.class);
+    private static final OperationTimer RECONCILE_CARDS_AMOUNT_TIMER = timer("BoardColumnService.reconcileCardsAmount");
+    private final Connection connection;
+
+    /**
+     * Corrige o contador {@code cards_amount} das colunas que divergiram da contagem real, um
+     * board por vez e com uma transação curta por board, para não segurar as escritas de cards
+     * durante uma leitura da tabela inteira. A falha em um board é registrada e não impede os
+     * demais.
+     *
+     * @return quantidade de colunas corrigidas
+     */
+    public int reconcileCardsAmount() throws SQLException {
+        return RECONCILE_CARDS_AMOUNT_TIMER.record(() -> {
+            var dao = new BoardColumnDAO(connection);
+            var boardIds = new TreeSet<>(dao.findAllBoardIds().values());
+            connection.commit();
+            var fixed = 0;
+            for (var boardId : boardIds) {
+                try {
+                    fixed += dao.reconcileCardsAmount(boardId);
+                    connection.commit();
+                } catch (SQLException e) {
+                    connection.rollback();
+                    logger.error("Erro ao reconciliar contadores de cards do board {}: {}", boardId, e.getMessage(), e);
+                }
+            }
+            if (fixed > 0) {
+                logger.warn("Contador de cards corrigido em {} colunas", fixed);
+            }
+            return fixed;
+        });
+    }
+
+}
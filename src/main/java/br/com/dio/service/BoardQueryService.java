@@ -1,21 +1,34 @@
 package br.com.dio.service;
 
 import br.com.dio.dto.BoardDetailsDTO;
+import br.com.dio.metrics.OperationTimer;
+import br.com.dio.persistence.cache.BoardStructureCache;
 import br.com.dio.persistence.dao.BoardColumnDAO;
 import br.com.dio.persistence.dao.BoardDAO;
+import br.com.dio.persistence.dao.BoardSnapshotDAO;
 import br.com.dio.persistence.entity.BoardEntity;
+import br.com.dio.snapshot.BoardSnapshot;
 import lombok.AllArgsConstructor;
 
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Optional;
 
+import static br.com.dio.metrics.OperationMetrics.timer;
+
 @AllArgsConstructor
 public class BoardQueryService {
 
+    private static final OperationTimer FIND_BY_ID_TIMER = timer("BoardQueryService.findById");
+    private static final OperationTimer SHOW_BOARD_DETAILS_TIMER = timer("BoardQueryService.showBoardDetails");
+    private static final OperationTimer LOAD_SNAPSHOT_TIMER = timer("BoardQueryService.loadSnapshot");
     private final Connection connection;
 
     public Optional<BoardEntity> findById(final Long id) throws SQLException {
+        return FIND_BY_ID_TIMER.record(() -> BoardStructureCache.shared().get(id, this::loadById));
+    }
+
+    private Optional<BoardEntity> loadById(final Long id) throws SQLException {
         var dao = new BoardDAO(connection);
         var boardColumnDAO = new BoardColumnDAO(connection);
         var optional = dao.findById(id);
@@ -28,16 +41,28 @@ public class BoardQueryService {
     }
 
     public Optional<BoardDetailsDTO> showBoardDetails(final Long id) throws SQLException {
-        var dao = new BoardDAO(connection);
-        var boardColumnDAO = new BoardColumnDAO(connection);
-        var optional = dao.findById(id);
-        if (optional.isPresent()){
-            var entity = optional.get();
-            var columns = boardColumnDAO.findByBoardIdWithDetails(entity.getId());
-            var dto = new BoardDetailsDTO(entity.getId(), entity.getName(), columns);
-            return Optional.of(dto);
-        }
-        return Optional.empty();
+        return SHOW_BOARD_DETAILS_TIMER.record(() -> {
+            var dao = new BoardDAO(connection);
+            var boardColumnDAO = new BoardColumnDAO(connection);
+            var optional = dao.findById(id);
+            if (optional.isPresent()){
+                var entity = optional.get();
+                var columns = boardColumnDAO.findByBoardIdWithDetails(entity.getId());
+                var dto = new BoardDetailsDTO(entity.getId(), entity.getName(), columns);
+                return Optional.of(dto);
+            }
+            return Optional.empty();
+        });
+    }
+
+    /**
+     * Foto compacta do board com todos os cards, para as visões que leem o board inteiro.
+     */
+    public Optional<BoardSnapshot> loadSnapshot(final Long id) throws SQLException {
+        return LOAD_SNAPSHOT_TIMER.record(() -> {
+            var dao = new BoardSnapshotDAO(connection);
+            return dao.findByBoardId(id);
+        });
     }
 
 }
@@ -1,75 +1,127 @@
 package br.com.dio.service;
 
+import br.com.dio.metrics.FlowMetrics;
+import br.com.dio.metrics.OperationTimer;
+import br.com.dio.persistence.cache.BoardStructureCache;
 import br.com.dio.persistence.dao.BoardColumnDAO;
 import br.com.dio.persistence.dao.BoardDAO;
+import br.com.dio.persistence.entity.BoardColumnEntity;
 import br.com.dio.persistence.entity.BoardEntity;
+import br.com.dio.search.CardSearchIndex;
 import lombok.AllArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static br.com.dio.metrics.OperationMetrics.timer;
 
 @AllArgsConstructor
 public class BoardService {
 
     private static final Logger logger = LoggerFactory.getLogger(BoardService.class);
+    private static final OperationTimer INSERT_TIMER = timer("BoardService.insert");
+    private static final OperationTimer INSERT_ALL_TIMER = timer("BoardService.insertAll");
+    private static final OperationTimer DELETE_TIMER = timer("BoardService.delete");
     private final Connection connection;
 
     public BoardEntity insert(final BoardEntity entity) throws SQLException {
-        // Validação de dados
-        if (entity.getName() == null || entity.getName().trim().isEmpty()) {
-            throw new IllegalArgumentException("O nome do quadro não pode estar vazio.");
-        }
-        if (entity.getBoardColumns() == null || entity.getBoardColumns().isEmpty()) {
-            throw new IllegalArgumentException("Um quadro deve ter pelo menos uma coluna.");
-        }
+        return INSERT_TIMER.record(() -> {
+            validate(entity);
 
-        var dao = new BoardDAO(connection); // DAO inicializado com conexão
-        var boardColumnDAO = new BoardColumnDAO(connection); // DAO inicializado com conexão
-        try {
-            logger.info("Iniciando inserção do quadro: {}", entity.getName());
-            dao.insert(entity);
-            var columns = entity.getBoardColumns().stream()
-                    .map(c -> {
-                        c.setBoard(entity);
-                        return c;
-                    })
-                    .toList();
-            for (var column : columns) {
-                boardColumnDAO.insert(column);
+            var dao = new BoardDAO(connection); // DAO inicializado com conexão
+            var boardColumnDAO = new BoardColumnDAO(connection); // DAO inicializado com conexão
+            try {
+                logger.info("Iniciando inserção do quadro: {}", entity.getName());
+                dao.insert(entity);
+                entity.getBoardColumns().forEach(c -> c.setBoard(entity));
+                boardColumnDAO.insertAll(entity.getBoardColumns());
+                connection.commit();
+                BoardStructureCache.shared().invalidate(entity.getId());
+                entity.getBoardColumns().forEach(c -> CardSearchIndex.shared().registerColumn(c.getId(), entity.getId()));
+                logger.info("Quadro inserido com sucesso: ID {}", entity.getId());
+                return entity;
+            } catch (SQLException e) {
+                connection.rollback();
+                logger.error("Erro ao inserir quadro: {}", e.getMessage(), e);
+                throw new RuntimeException("Erro ao inserir quadro: " + e.getMessage(), e);
             }
-            connection.commit();
-            logger.info("Quadro inserido com sucesso: ID {}", entity.getId());
-            return entity;
-        } catch (SQLException e) {
-            connection.rollback();
-            logger.error("Erro ao inserir quadro: {}", e.getMessage(), e);
-            throw new RuntimeException("Erro ao inserir quadro: " + e.getMessage(), e);
-        }
+        });
+    }
+
+    /**
+     * Cria vários quadros com suas colunas em uma única transação: um lote para os quadros e
+     * outro para todas as colunas, independente de quantos quadros forem informados.
+     */
+    public List<BoardEntity> insertAll(final List<BoardEntity> entities) throws SQLException {
+        return INSERT_ALL_TIMER.record(() -> {
+            if (entities == null || entities.isEmpty()) {
+                throw new IllegalArgumentException("A lista de quadros não pode estar vazia.");
+            }
+            entities.forEach(this::validate);
+
+            var dao = new BoardDAO(connection);
+            var boardColumnDAO = new BoardColumnDAO(connection);
+            try {
+                logger.info("Iniciando inserção de {} quadros em lote", entities.size());
+                dao.insertAll(entities);
+                List<BoardColumnEntity> columns = new ArrayList<>();
+                for (var entity : entities) {
+                    entity.getBoardColumns().forEach(c -> c.setBoard(entity));
+                    columns.addAll(entity.getBoardColumns());
+                }
+                boardColumnDAO.insertAll(columns);
+                connection.commit();
+                entities.forEach(e -> BoardStructureCache.shared().invalidate(e.getId()));
+                columns.forEach(c -> CardSearchIndex.shared().registerColumn(c.getId(), c.getBoard().getId()));
+                logger.info("{} quadros inseridos com sucesso", entities.size());
+                return entities;
+            } catch (SQLException e) {
+                connection.rollback();
+                logger.error("Erro ao inserir quadros em lote: {}", e.getMessage(), e);
+                throw new RuntimeException("Erro ao inserir quadros em lote: " + e.getMessage(), e);
+            }
+        });
     }
 
     public boolean delete(final Long id) throws SQLException {
-        if (id == null || id <= 0) {
-            throw new IllegalArgumentException("ID inválido para exclusão.");
-        }
+        return DELETE_TIMER.record(() -> {
+            if (id == null || id <= 0) {
+                throw new IllegalArgumentException("ID inválido para exclusão.");
+            }
 
-        var dao = new BoardDAO(connection); // DAO inicializado com conexão
-        try {
-            logger.info("Verificando existência do quadro com ID: {}", id);
-            if (!dao.exists(id)) {
-                logger.warn("Quadro com ID {} não encontrado para exclusão.", id);
-                return false;
+            var dao = new BoardDAO(connection); // DAO inicializado com conexão
+            try {
+                logger.info("Verificando existência do quadro com ID: {}", id);
+                if (!dao.exists(id)) {
+                    logger.warn("Quadro com ID {} não encontrado para exclusão.", id);
+                    return false;
+                }
+                logger.info("Deletando quadro com ID: {}", id);
+                dao.delete(id);
+                connection.commit();
+                BoardStructureCache.shared().invalidate(id);
+                FlowMetrics.shared().remove(id);
+                CardSearchIndex.shared().removeBoard(id);
+                logger.info("Quadro com ID {} deletado com sucesso.", id);
+                return true;
+            } catch (SQLException e) {
+                connection.rollback();
+                logger.error("Erro ao deletar quadro com ID {}: {}", id, e.getMessage(), e);
+                throw new RuntimeException("Erro ao deletar quadro: " + e.getMessage(), e);
             }
-            logger.info("Deletando quadro com ID: {}", id);
-            dao.delete(id);
-            connection.commit();
-            logger.info("Quadro com ID {} deletado com sucesso.", id);
-            return true;
-        } catch (SQLException e) {
-            connection.rollback();
-            logger.error("Erro ao deletar quadro com ID {}: {}", id, e.getMessage(), e);
-            throw new RuntimeException("Erro ao deletar quadro: " + e.getMessage(), e);
+        });
+    }
+
+    private void validate(final BoardEntity entity) {
+        if (entity.getName() == null || entity.getName().trim().isEmpty()) {
+            throw new IllegalArgumentException("O nome do quadro não pode estar vazio.");
+        }
+        if (entity.getBoardColumns() == null || entity.getBoardColumns().isEmpty()) {
+            throw new IllegalArgumentException("Um quadro deve ter pelo menos uma coluna.");
         }
     }
 }
\ No newline at end of file
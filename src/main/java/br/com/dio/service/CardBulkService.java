@@ -0,0 +1,255 @@
+package br.com.dio.service;
+
+import br.com.dio.dto.BulkTransitionResultDTO;
+import br.com.dio.dto.CardTransitionCandidateDTO;
+import br.com.dio.dto.CardTransitionOutcomeDTO;
+import br.com.dio.dto.CardTransitionOutcomeDTO.Status;
+import br.com.dio.exception.CardConcurrentModificationException;
+import br.com.dio.exception.CardFinishedException;
+import br.com.dio.exception.EntityNotFoundException;
+import br.com.dio.metrics.OperationTimer;
+import br.com.dio.persistence.dao.BlockDAO;
+import br.com.dio.persistence.dao.BoardColumnDAO;
+import br.com.dio.persistence.dao.CardDAO;
+import br.com.dio.persistence.dao.CardEventDAO;
+import br.com.dio.search.CardSearchIndex;
+import lombok.AllArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static br.com.dio.metrics.OperationMetrics.timer;
+import static br.com.dio.persistence.entity.BoardColumnKindEnum.CANCEL;
+import static br.com.dio.persistence.entity.BoardColumnKindEnum.FINAL;
+import static br.com.dio.persistence.entity.CardEventTypeEnum.BLOCKED;
+import static br.com.dio.persistence.entity.CardEventTypeEnum.CANCELLED;
+import static br.com.dio.persistence.entity.CardEventTypeEnum.MOVED;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Transições de muitos cards em uma única transação. Cada operação lê e trava os cards
+ * envolvidos em uma consulta, decide o resultado de cada um e aplica as alterações com poucos
+ * UPDATEs sobre o conjunto, um lote para os contadores das colunas, um para os bloqueios e um
+ * para o histórico, com um único commit. O resultado traz o desfecho de cada card.
+ */
+@AllArgsConstructor
+public class CardBulkService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CardBulkService.class);
+    private static final OperationTimer MOVE_COLUMN_TO_NEXT_TIMER = timer("CardBulkService.moveColumnToNext");
+    private static final OperationTimer CANCEL_ALL_TIMER = timer("CardBulkService.cancelAll");
+    private static final OperationTimer BLOCK_ALL_TIMER = timer("CardBulkService.blockAll");
+    private final Connection connection;
+
+    /**
+     * Move todos os cards não bloqueados da coluna para a próxima coluna do board. Os cards
+     * bloqueados ficam onde estão e aparecem no resultado como {@code BLOCKED}.
+     */
+    public BulkTransitionResultDTO moveColumnToNext(final long columnId) throws SQLException {
+        return MOVE_COLUMN_TO_NEXT_TIMER.record(() -> {
+            var startedAt = System.nanoTime();
+            var boardColumnDAO = new BoardColumnDAO(connection);
+            var column = boardColumnDAO.findById(columnId)
+                    .orElseThrow(() -> new EntityNotFoundException("A coluna de ID %s não foi encontrada".formatted(columnId)));
+            if (column.getKind() == FINAL || column.getKind() == CANCEL) {
+                throw new CardFinishedException(
+                        "Os cards da coluna ID %s, do tipo %s, não podem ser movidos".formatted(columnId, column.getKind()));
+            }
+            var nextColumnId = boardColumnDAO.findNextColumnId(columnId)
+                    .orElseThrow(() -> new EntityNotFoundException("A coluna de ID %s não tem uma próxima coluna".formatted(columnId)));
+
+            try {
+                var dao = new CardDAO(connection);
+                List<CardTransitionOutcomeDTO> outcomes = new ArrayList<>();
+                List<Long> movedIds = new ArrayList<>();
+                for (var card : dao.lockCandidatesByColumnId(columnId)) {
+                    if (card.blocked()) {
+                        outcomes.add(rejected(card.id(), Status.BLOCKED, "O cartão está bloqueado"));
+                    } else {
+                        outcomes.add(applied(card.id()));
+                        movedIds.add(card.id());
+                    }
+                }
+                if (!movedIds.isEmpty()) {
+                    var moved = dao.moveUnblockedInColumn(columnId, nextColumnId);
+                    if (moved != movedIds.size()) {
+                        connection.rollback();
+                        throw new CardConcurrentModificationException(
+                                "Os cards da coluna ID %s foram alterados por outra operação, tente novamente".formatted(columnId));
+                    }
+                    boardColumnDAO.addCardsAmounts(Map.of(columnId, -moved, nextColumnId, moved));
+                    var events = new CardEventDAO(connection);
+                    for (var cardId : movedIds) {
+                        events.append(MOVED, cardId, columnId, null);
+                    }
+                    events.flush();
+                }
+                connection.commit();
+
+                var result = new BulkTransitionResultDTO("moveColumnToNext", outcomes, elapsedMillis(startedAt));
+                logger.info("{} de {} cartões movidos da coluna ID {} para a coluna ID {} em {} ms",
+                        result.applied(), result.requested(), columnId, nextColumnId, result.elapsedMillis());
+                return result;
+            } catch (SQLException ex) {
+                connection.rollback();
+                logger.error("Erro ao mover os cartões da coluna ID {}: {}", columnId, ex.getMessage(), ex);
+                throw new RuntimeException("Erro ao mover cartões em lote: " + ex.getMessage(), ex);
+            }
+        });
+    }
+
+    /**
+     * Move os cards informados do board para a coluna de cancelamento. IDs inexistentes, de
+     * outro board ou já cancelados são reportados sem interromper os demais.
+     */
+    public BulkTransitionResultDTO cancelAll(final long boardId, final long cancelColumnId,
+                                             final Collection<Long> cardIds) throws SQLException {
+        return CANCEL_ALL_TIMER.record(() -> {
+            if (cardIds == null || cardIds.isEmpty()) {
+                throw new IllegalArgumentException("Informe ao menos um cartão para cancelar.");
+            }
+            var startedAt = System.nanoTime();
+            var boardColumnDAO = new BoardColumnDAO(connection);
+            var cancelColumn = boardColumnDAO.findById(cancelColumnId)
+                    .orElseThrow(() -> new EntityNotFoundException("A coluna de cancelamento ID %s não foi encontrada".formatted(cancelColumnId)));
+            if (cancelColumn.getKind() != CANCEL) {
+                throw new IllegalArgumentException("A coluna ID %s não é a coluna de cancelamento".formatted(cancelColumnId));
+            }
+
+            try {
+                var dao = new CardDAO(connection);
+                var requested = new LinkedHashSet<>(cardIds);
+                var candidates = lockByIds(dao, requested);
+                List<CardTransitionOutcomeDTO> outcomes = new ArrayList<>(requested.size());
+                List<CardTransitionCandidateDTO> cancelled = new ArrayList<>();
+                for (var cardId : requested) {
+                    var card = candidates.get(cardId);
+                    if (card == null) {
+                        outcomes.add(rejected(cardId, Status.NOT_FOUND, "O cartão não foi encontrado"));
+                    } else if (card.boardId() != boardId) {
+                        outcomes.add(rejected(cardId, Status.OTHER_BOARD, "O cartão pertence ao board ID %s".formatted(card.boardId())));
+                    } else if (card.columnId() == cancelColumnId) {
+                        outcomes.add(rejected(cardId, Status.FINISHED, "O cartão já está cancelado"));
+                    } else {
+                        outcomes.add(applied(cardId));
+                        cancelled.add(card);
+                    }
+                }
+                if (!cancelled.isEmpty()) {
+                    dao.moveAllToColumn(cancelled.stream().map(CardTransitionCandidateDTO::id).toList(), cancelColumnId);
+                    Map<Long, Integer> deltas = new HashMap<>();
+                    var events = new CardEventDAO(connection);
+                    for (var card : cancelled) {
+                        deltas.merge(card.columnId(), -1, Integer::sum);
+                        events.append(CANCELLED, card.id(), card.columnId(), null);
+                    }
+                    deltas.merge(cancelColumnId, cancelled.size(), Integer::sum);
+                    boardColumnDAO.addCardsAmounts(deltas);
+                    events.flush();
+                }
+                connection.commit();
+
+                var result = new BulkTransitionResultDTO("cancelAll", outcomes, elapsedMillis(startedAt));
+                logger.info("{} de {} cartões movidos para a coluna de cancelamento ID {} em {} ms",
+                        result.applied(), result.requested(), cancelColumnId, result.elapsedMillis());
+                return result;
+            } catch (SQLException ex) {
+                connection.rollback();
+                logger.error("Erro ao cancelar cartões em lote: {}", ex.getMessage(), ex);
+                throw new RuntimeException("Erro ao cancelar cartões em lote: " + ex.getMessage(), ex);
+            }
+        });
+    }
+
+    /**
+     * Bloqueia, com o mesmo motivo, os cards do board que passam pelo filtro: opcionalmente uma
+     * coluna ({@code columnId}) e uma busca textual ({@code query}, na sintaxe do
+     * {@link CardSearchIndex}). Cards já bloqueados ou em colunas FINAL/CANCEL são reportados
+     * sem serem alterados.
+     */
+    public BulkTransitionResultDTO blockAll(final long boardId, final Long columnId, final String query,
+                                            final String reason) throws SQLException {
+        return BLOCK_ALL_TIMER.record(() -> {
+            if (reason == null || reason.trim().isEmpty()) {
+                throw new IllegalArgumentException("O motivo do bloqueio não pode estar vazio.");
+            }
+            var startedAt = System.nanoTime();
+
+            try {
+                var dao = new CardDAO(connection);
+                List<CardTransitionCandidateDTO> candidates;
+                if (query != null && !query.isBlank()) {
+                    var ids = CardSearchIndex.shared().search(boardId, query, Integer.MAX_VALUE);
+                    candidates = dao.lockCandidatesByIds(Arrays.stream(ids).boxed().toList());
+                } else if (columnId != null) {
+                    candidates = dao.lockCandidatesByColumnId(columnId);
+                } else {
+                    candidates = dao.lockCandidatesByBoardId(boardId);
+                }
+                List<CardTransitionOutcomeDTO> outcomes = new ArrayList<>(candidates.size());
+                List<Long> blockedIds = new ArrayList<>();
+                for (var card : candidates) {
+                    if (card.boardId() != boardId || (columnId != null && card.columnId() != columnId)) {
+                        continue;
+                    }
+                    if (card.blocked()) {
+                        outcomes.add(rejected(card.id(), Status.ALREADY_BLOCKED, "O cartão já está bloqueado"));
+                    } else if (card.kind() == FINAL || card.kind() == CANCEL) {
+                        outcomes.add(rejected(card.id(), Status.FINISHED, "O cartão está em uma coluna do tipo %s".formatted(card.kind())));
+                    } else {
+                        outcomes.add(applied(card.id()));
+                        blockedIds.add(card.id());
+                    }
+                }
+                if (!blockedIds.isEmpty()) {
+                    new BlockDAO(connection).blockAll(reason, blockedIds);
+                    var events = new CardEventDAO(connection);
+                    for (var cardId : blockedIds) {
+                        events.append(BLOCKED, cardId, null, reason);
+                    }
+                    events.flush();
+                }
+                connection.commit();
+
+                var result = new BulkTransitionResultDTO("blockAll", outcomes, elapsedMillis(startedAt));
+                logger.info("{} de {} cartões do board ID {} bloqueados em {} ms. Motivo: {}",
+                        result.applied(), result.requested(), boardId, result.elapsedMillis(), reason);
+                return result;
+            } catch (SQLException ex) {
+                connection.rollback();
+                logger.error("Erro ao bloquear cartões em lote do board ID {}: {}", boardId, ex.getMessage(), ex);
+                throw new RuntimeException("Erro ao bloquear cartões em lote: " + ex.getMessage(), ex);
+            }
+        });
+    }
+
+    private static Map<Long, CardTransitionCandidateDTO> lockByIds(final CardDAO dao, final Collection<Long> ids) throws SQLException {
+        return dao.lockCandidatesByIds(ids).stream()
+                .collect(Collectors.toMap(CardTransitionCandidateDTO::id, Function.identity()));
+    }
+
+    private static CardTransitionOutcomeDTO applied(final long cardId) {
+        return new CardTransitionOutcomeDTO(cardId, Status.APPLIED, null);
+    }
+
+    private static CardTransitionOutcomeDTO rejected(final long cardId, final Status status,
+                                                     final String message) {
+        return new CardTransitionOutcomeDTO(cardId, status, message);
+    }
+
+    private static long elapsedMillis(final long startedAt) {
+        return NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+    }
+
+}
@@ -0,0 +1,106 @@
+package br.com.dio.service;
+
+import br.com.dio.dto.CardEventDTO;
+import br.com.dio.dto.CardStateDTO;
+import br.com.dio.metrics.OperationTimer;
+import br.com.dio.persistence.dao.CardEventDAO;
+import lombok.AllArgsConstructor;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static br.com.dio.metrics.OperationMetrics.timer;
+
+/**
+ * Reconstrói o estado dos cards em qualquer instante reaplicando o log de {@code CARD_EVENTS}.
+ * O log é percorrido uma única vez, em ordem, e só o estado projetado fica em memória.
+ */
+@AllArgsConstructor
+public class CardEventProjector {
+
+    private static final OperationTimer CARD_STATE_AT_TIMER = timer("CardEventProjector.cardStateAt");
+    private static final OperationTimer COLUMN_OCCUPANCY_AT_TIMER = timer("CardEventProjector.columnOccupancyAt");
+    private static final OperationTimer REPLAY_TIMER = timer("CardEventProjector.replay");
+    private final Connection connection;
+
+    public Optional<CardStateDTO> cardStateAt(final long cardId, final OffsetDateTime at) throws SQLException {
+        return CARD_STATE_AT_TIMER.record(() -> {
+            var projection = new CardStateProjection(cardId);
+            new CardEventDAO(connection).streamByCardId(cardId, at, projection);
+            return projection.toState();
+        });
+    }
+
+    /**
+     * Quantidade de cards em cada coluna do board no instante {@code at}, pelo id da coluna.
+     * Colunas que ficaram vazias aparecem com zero.
+     */
+    public Map<Long, Integer> columnOccupancyAt(final long boardId, final OffsetDateTime at) throws SQLException {
+        return COLUMN_OCCUPANCY_AT_TIMER.record(() -> {
+            Map<Long, Integer> occupancy = new HashMap<>();
+            replay(boardId, at, event -> {
+                switch (event.type()) {
+                    case BACKFILLED, CREATED -> occupancy.merge(event.columnId(), 1, Integer::sum);
+                    case MOVED, CANCELLED -> {
+                        occupancy.merge(event.previousColumnId(), -1, Integer::sum);
+                        occupancy.merge(event.columnId(), 1, Integer::sum);
+                    }
+                    case DELETED -> occupancy.merge(event.columnId(), -1, Integer::sum);
+                    default -> {
+                    }
+                }
+            });
+            return occupancy;
+        });
+    }
+
+    /**
+     * Entrega em ordem cada evento do board ocorrido até {@code until}, para projeções
+     * próprias do chamador.
+     */
+    public void replay(final long boardId, final OffsetDateTime until, final Consumer<CardEventDTO> consumer) throws SQLException {
+        REPLAY_TIMER.run(() -> new CardEventDAO(connection).streamByBoardId(boardId, until, consumer));
+    }
+
+    private static class CardStateProjection implements Consumer<CardEventDTO> {
+
+        private final long cardId;
+        private Long columnId;
+        private boolean blocked;
+        private boolean cancelled;
+        private boolean deleted;
+        private OffsetDateTime updatedAt;
+
+        CardStateProjection(final long cardId) {
+            this.cardId = cardId;
+        }
+
+        @Override
+        public void accept(final CardEventDTO event) {
+            columnId = event.columnId();
+            updatedAt = event.occurredAt();
+            switch (event.type()) {
+                case BLOCKED -> blocked = true;
+                case UNBLOCKED -> blocked = false;
+                case CANCELLED -> cancelled = true;
+                case DELETED -> deleted = true;
+                default -> {
+                }
+            }
+        }
+
+        Optional<CardStateDTO> toState() {
+            if (columnId == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new CardStateDTO(cardId, columnId, blocked, cancelled, deleted, updatedAt));
+        }
+
+    }
+
+}
@@ -1,6 +1,7 @@
 package br.com.dio.service;
 
 import br.com.dio.dto.CardDetailsDTO;
+import br.com.dio.metrics.OperationTimer;
 import br.com.dio.persistence.dao.CardDAO;
 import lombok.AllArgsConstructor;
 
@@ -8,14 +9,19 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Optional;
 
+import static br.com.dio.metrics.OperationMetrics.timer;
+
 @AllArgsConstructor
 public class CardQueryService {
 
+    private static final OperationTimer FIND_BY_ID_TIMER = timer("CardQueryService.findById");
     private final Connection connection;
 
     public Optional<CardDetailsDTO> findById(final Long id) throws SQLException {
-        var dao = new CardDAO(connection);
-        return dao.findById(id);
+        return FIND_BY_ID_TIMER.record(() -> {
+            var dao = new CardDAO(connection);
+            return dao.findById(id);
+        });
     }
 
 }
@@ -0,0 +1,75 @@
+package br.com.dio.service;
+
+import br.com.dio.dto.CardDetailsDTO;
+import br.com.dio.metrics.OperationTimer;
+import br.com.dio.persistence.dao.BoardColumnDAO;
+import br.com.dio.persistence.dao.CardDAO;
+import br.com.dio.search.CardSearchIndex;
+import lombok.AllArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+import static br.com.dio.metrics.OperationMetrics.timer;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+@AllArgsConstructor
+public class CardSearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CardSearchService.class);
+    private static final int DEFAULT_LIMIT = 50;
+    private static final OperationTimer REBUILD_INDEX_TIMER = timer("CardSearchService.rebuildIndex");
+    private static final OperationTimer SEARCH_TIMER = timer("CardSearchService.search");
+    private final Connection connection;
+
+    /**
+     * Monta o {@link CardSearchIndex} do zero: registra o board de cada coluna e percorre a
+     * tabela de cards por streaming, indexando título e descrição.
+     *
+     * @return quantidade de cards indexados
+     */
+    public long rebuildIndex() throws SQLException {
+        return REBUILD_INDEX_TIMER.record(() -> {
+            var startedAt = System.nanoTime();
+            var index = CardSearchIndex.shared();
+            index.clear();
+            index.registerColumns(new BoardColumnDAO(connection).findAllBoardIds());
+            var indexed = new long[1];
+            new CardDAO(connection).streamAllTexts(card -> {
+                index.index(card);
+                indexed[0]++;
+            });
+            connection.commit();
+            index.trimToSize();
+            logger.info("Índice de busca montado: {} cards e {} termos em {} ms",
+                    indexed[0], index.termsAmount(), NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            return indexed[0];
+        });
+    }
+
+    public List<CardDetailsDTO> search(final long boardId, final String query) throws SQLException {
+        return search(boardId, query, DEFAULT_LIMIT);
+    }
+
+    /**
+     * Cards do board cujo título ou descrição contêm todos os termos da consulta, dos mais
+     * recentes para os mais antigos. Um termo terminado em {@code *} busca por prefixo.
+     */
+    public List<CardDetailsDTO> search(final long boardId, final String query, final int limit) throws SQLException {
+        return SEARCH_TIMER.record(() -> {
+            if (query == null || query.isBlank()) {
+                throw new IllegalArgumentException("Informe ao menos um termo para a busca.");
+            }
+            if (limit <= 0) {
+                throw new IllegalArgumentException("O limite da busca deve ser maior que zero.");
+            }
+            var ids = CardSearchIndex.shared().search(boardId, query, limit);
+            return new CardDAO(connection).findAllById(Arrays.stream(ids).boxed().toList());
+        });
+    }
+
+}
@@ -1,97 +1,218 @@
 package br.com.dio.service;
 
 import br.com.dio.dto.BoardColumnInfoDTO;
+import br.com.dio.dto.CardImportFailureDTO;
+import br.com.dio.dto.CardImportResultDTO;
+import br.com.dio.dto.CardTextDTO;
+import br.com.dio.exception.CardBlockedException;
+import br.com.dio.exception.CardConcurrentModificationException;
+import br.com.dio.exception.CardFinishedException;
+import br.com.dio.exception.CardNotBlockedException;
 import br.com.dio.exception.EntityNotFoundException;
+import br.com.dio.metrics.OperationTimer;
+import br.com.dio.persistence.dao.BlockDAO;
+import br.com.dio.persistence.dao.BoardColumnDAO;
 import br.com.dio.persistence.dao.CardDAO;
+import br.com.dio.persistence.dao.CardEventDAO;
 import br.com.dio.persistence.entity.CardEntity;
+import br.com.dio.search.CardSearchIndex;
 import lombok.AllArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+
+import static br.com.dio.metrics.OperationMetrics.timer;
+import static br.com.dio.persistence.entity.BoardColumnKindEnum.CANCEL;
+import static br.com.dio.persistence.entity.BoardColumnKindEnum.FINAL;
+import static br.com.dio.persistence.entity.CardEventTypeEnum.BLOCKED;
+import static br.com.dio.persistence.entity.CardEventTypeEnum.CANCELLED;
+import static br.com.dio.persistence.entity.CardEventTypeEnum.CREATED;
+import static br.com.dio.persistence.entity.CardEventTypeEnum.DELETED;
+import static br.com.dio.persistence.entity.CardEventTypeEnum.MOVED;
+import static br.com.dio.persistence.entity.CardEventTypeEnum.UNBLOCKED;
 
 @AllArgsConstructor
 public class CardService {
 
     private static final Logger logger = LoggerFactory.getLogger(CardService.class);
+    private static final int DEFAULT_IMPORT_CHUNK_SIZE = 1_000;
+    private static final OperationTimer CREATE_TIMER = timer("CardService.create");
+    private static final OperationTimer CREATE_ALL_TIMER = timer("CardService.createAll");
+    private static final OperationTimer UPDATE_TIMER = timer("CardService.update");
+    private static final OperationTimer BLOCK_TIMER = timer("CardService.block");
+    private static final OperationTimer UNBLOCK_TIMER = timer("CardService.unblock");
+    private static final OperationTimer MOVE_TO_NEXT_COLUMN_TIMER = timer("CardService.moveToNextColumn");
+    private static final OperationTimer CANCEL_TIMER = timer("CardService.cancel");
+    private static final OperationTimer DELETE_TIMER = timer("CardService.delete");
     private final Connection connection;
 
     public void create(CardEntity card) throws SQLException {
-        if (card == null || card.getTitle() == null || card.getTitle().trim().isEmpty()) {
-            throw new IllegalArgumentException("O título do cartão não pode estar vazio.");
-        }
+        CREATE_TIMER.run(() -> {
+            if (card == null || card.getTitle() == null || card.getTitle().trim().isEmpty()) {
+                throw new IllegalArgumentException("O título do cartão não pode estar vazio.");
+            }
+
+            try {
+                var dao = new CardDAO(connection);
+                dao.insert(card);
+                new BoardColumnDAO(connection).addCardsAmount(card.getBoardColumn().getId(), 1);
+                var events = new CardEventDAO(connection);
+                events.append(CREATED, card.getId(), null, null);
+                events.flush();
+                connection.commit();
+                CardSearchIndex.shared().index(textOf(card));
+                logger.info("Cartão criado com sucesso: {}", card.getTitle());
+            } catch (SQLException ex) {
+                connection.rollback();
+                logger.error("Erro ao criar cartão: {}", ex.getMessage(), ex);
+                throw new RuntimeException("Erro ao criar cartão: " + ex.getMessage(), ex);
+            }
+        });
+    }
+
+    public CardImportResultDTO createAll(final Collection<CardEntity> cards) throws SQLException {
+        return createAll(cards, DEFAULT_IMPORT_CHUNK_SIZE);
+    }
+
+    /**
+     * Importa os cards em lotes JDBC de {@code chunkSize} linhas, com um commit por lote. Um lote
+     * que falha é desfeito e reportado no resultado sem interromper os demais.
+     */
+    public CardImportResultDTO createAll(final Collection<CardEntity> cards, final int chunkSize) throws SQLException {
+        return CREATE_ALL_TIMER.record(() -> {
+            if (cards == null || cards.isEmpty()) {
+                throw new IllegalArgumentException("A lista de cartões para importação não pode estar vazia.");
+            }
+            if (chunkSize <= 0) {
+                throw new IllegalArgumentException("O tamanho do lote de importação deve ser maior que zero.");
+            }
+            for (var card : cards) {
+                if (card == null || card.getTitle() == null || card.getTitle().trim().isEmpty()) {
+                    throw new IllegalArgumentException("O título do cartão não pode estar vazio.");
+                }
+            }
 
-        try {
             var dao = new CardDAO(connection);
-            dao.insert(card);
-            connection.commit();
-            logger.info("Cartão criado com sucesso: {}", card.getTitle());
-        } catch (SQLException ex) {
-            connection.rollback();
-            logger.error("Erro ao criar cartão: {}", ex.getMessage(), ex);
-            throw new RuntimeException("Erro ao criar cartão: " + ex.getMessage(), ex);
-        }
+            var boardColumnDAO = new BoardColumnDAO(connection);
+            var events = new CardEventDAO(connection);
+            var pending = new ArrayList<>(cards);
+            List<Long> createdIds = new ArrayList<>(pending.size());
+            List<CardImportFailureDTO> failures = new ArrayList<>();
+            for (int start = 0, chunk = 0; start < pending.size(); start += chunkSize, chunk++) {
+                var slice = pending.subList(start, Math.min(start + chunkSize, pending.size()));
+                try {
+                    dao.insertAll(slice);
+                    Map<Long, Integer> cardsPerColumn = new HashMap<>();
+                    slice.forEach(c -> cardsPerColumn.merge(c.getBoardColumn().getId(), 1, Integer::sum));
+                    boardColumnDAO.addCardsAmounts(cardsPerColumn);
+                    for (var card : slice) {
+                        events.append(CREATED, card.getId(), null, null);
+                    }
+                    events.flush();
+                    connection.commit();
+                    slice.forEach(c -> createdIds.add(c.getId()));
+                    slice.forEach(c -> CardSearchIndex.shared().index(textOf(c)));
+                } catch (SQLException ex) {
+                    connection.rollback();
+                    logger.error("Erro ao importar o lote {} de cartões ({} a {}): {}",
+                            chunk, start, start + slice.size() - 1, ex.getMessage(), ex);
+                    failures.add(new CardImportFailureDTO(chunk, start, slice.size(), ex.getMessage()));
+                }
+            }
+            logger.info("Importação de cartões concluída: {} de {} criados, {} lotes com falha",
+                    createdIds.size(), pending.size(), failures.size());
+            return new CardImportResultDTO(pending.size(), createdIds, failures);
+        });
     }
 
     public void block(long cardId, String reason, List<BoardColumnInfoDTO> boardColumnsInfo) throws SQLException {
-        if (cardId <= 0) {
-            throw new IllegalArgumentException("ID do cartão inválido.");
-        }
-        if (reason == null || reason.trim().isEmpty()) {
-            throw new IllegalArgumentException("O motivo do bloqueio não pode estar vazio.");
-        }
+        BLOCK_TIMER.run(() -> {
+            if (cardId <= 0) {
+                throw new IllegalArgumentException("ID do cartão inválido.");
+            }
+            if (reason == null || reason.trim().isEmpty()) {
+                throw new IllegalArgumentException("O motivo do bloqueio não pode estar vazio.");
+            }
 
-        try {
-            var dao = new CardDAO(connection);
-            var card = dao.findEntityById(cardId)
-                    .orElseThrow(() -> new EntityNotFoundException("O cartão de ID %s não foi encontrado".formatted(cardId)));
-
-            card.setBlocked(true);
-            card.setBlockReason(reason);
-            dao.update(card);
-            connection.commit();
-
-            logger.info("Cartão ID {} bloqueado com sucesso. Motivo: {}", cardId, reason);
-        } catch (SQLException ex) {
-            connection.rollback();
-            logger.error("Erro ao bloquear cartão ID {}: {}", cardId, ex.getMessage(), ex);
-            throw new RuntimeException("Erro ao bloquear cartão: " + ex.getMessage(), ex);
-        }
+            try {
+                var dao = new CardDAO(connection);
+                var card = dao.findEntityById(cardId)
+                        .orElseThrow(() -> new EntityNotFoundException("O cartão de ID %s não foi encontrado".formatted(cardId)));
+                requireInBoard(card, boardColumnsInfo);
+
+                if (card.isBlocked()) {
+                    throw new CardBlockedException("O cartão ID %s já está bloqueado".formatted(cardId));
+                }
+                var kind = card.getBoardColumn().getKind();
+                if (kind == FINAL || kind == CANCEL) {
+                    throw new CardFinishedException(
+                            "O cartão ID %s está em uma coluna do tipo %s e não pode ser bloqueado".formatted(cardId, kind));
+                }
+
+                if (!dao.incrementVersion(cardId, card.getVersion())) {
+                    connection.rollback();
+                    throw concurrentModification(cardId);
+                }
+                new BlockDAO(connection).block(reason, cardId);
+                var events = new CardEventDAO(connection);
+                events.append(BLOCKED, cardId, null, reason);
+                events.flush();
+                connection.commit();
+
+                logger.info("Cartão ID {} bloqueado com sucesso. Motivo: {}", cardId, reason);
+            } catch (SQLException ex) {
+                connection.rollback();
+                logger.error("Erro ao bloquear cartão ID {}: {}", cardId, ex.getMessage(), ex);
+                throw new RuntimeException("Erro ao bloquear cartão: " + ex.getMessage(), ex);
+            }
+        });
     }
 
     public void unblock(long cardId, String reason) throws SQLException {
-        if (cardId <= 0) {
-            throw new IllegalArgumentException("ID do cartão inválido.");
-        }
-        if (reason == null || reason.trim().isEmpty()) {
-            throw new IllegalArgumentException("O motivo do desbloqueio não pode estar vazio.");
-        }
+        UNBLOCK_TIMER.run(() -> {
+            if (cardId <= 0) {
+                throw new IllegalArgumentException("ID do cartão inválido.");
+            }
+            if (reason == null || reason.trim().isEmpty()) {
+                throw new IllegalArgumentException("O motivo do desbloqueio não pode estar vazio.");
+            }
 
-        try {
-            var dao = new CardDAO(connection);
-            var card = dao.findEntityById(cardId)
-                    .orElseThrow(() -> new EntityNotFoundException("O cartão de ID %s não foi encontrado".formatted(cardId)));
+            try {
+                var dao = new CardDAO(connection);
+                var card = dao.findEntityById(cardId)
+                        .orElseThrow(() -> new EntityNotFoundException("O cartão de ID %s não foi encontrado".formatted(cardId)));
 
-            if (!card.isBlocked()) {
-                throw new RuntimeException("O cartão ID " + cardId + " não está bloqueado.");
-            }
+                if (!card.isBlocked()) {
+                    throw new CardNotBlockedException("O cartão ID %s não está bloqueado".formatted(cardId));
+                }
 
-            card.setBlocked(false);
-            card.setBlockReason(null);
-            dao.update(card);
-            connection.commit();
+                if (!dao.incrementVersion(cardId, card.getVersion())) {
+                    connection.rollback();
+                    throw concurrentModification(cardId);
+                }
+                new BlockDAO(connection).unblock(reason, cardId);
+                var events = new CardEventDAO(connection);
+                events.append(UNBLOCKED, cardId, null, reason);
+                events.flush();
+                connection.commit();
 
-            logger.info("Cartão ID {} desbloqueado com sucesso. Motivo: {}", cardId, reason);
-        } catch (SQLException ex) {
-            connection.rollback();
-            logger.error("Erro ao desbloquear cartão ID {}: {}", cardId, ex.getMessage(), ex);
-            throw new RuntimeException("Erro ao desbloquear cartão: " + ex.getMessage(), ex);
-        }
+                logger.info("Cartão ID {} desbloqueado com sucesso. Motivo: {}", cardId, reason);
+            } catch (SQLException ex) {
+                connection.rollback();
+                logger.error("Erro ao desbloquear cartão ID {}: {}", cardId, ex.getMessage(), ex);
+                throw new RuntimeException("Erro ao desbloquear cartão: " + ex.getMessage(), ex);
+            }
+        });
     }
 
-    public void moveToNextColumn(long cardId, List<BoardColumnInfoDTO> boardColumnsInfo) throws SQLException {
+    public void moveToNextColumn(final long cardId, final List<BoardColumnInfoDTO> boardColumnsInfo) throws SQLException {
         if (cardId <= 0) {
             throw new IllegalArgumentException("ID do cartão inválido.");
         }
@@ -99,61 +220,185 @@ public class CardService {
         var dao = new CardDAO(connection);
         var card = dao.findEntityById(cardId)
                 .orElseThrow(() -> new EntityNotFoundException("O cartão de ID %s não foi encontrado".formatted(cardId)));
+        requireInBoard(card, boardColumnsInfo);
+        moveToNextColumn(cardId, card.getBoardColumn().getId(), card.getVersion());
+    }
 
-        var currentColumnId = card.getBoardColumn().getId();
+    /**
+     * Move o card para a próxima coluna em um único UPDATE condicional, desde que ele ainda
+     * esteja na coluna {@code expectedColumnId} com a versão {@code expectedVersion}. Se outra
+     * operação alterou o card antes, lança {@link CardConcurrentModificationException} em vez de
+     * sobrescrever a alteração.
+     */
+    public void moveToNextColumn(final long cardId, final Long expectedColumnId, final int expectedVersion) throws SQLException {
+        MOVE_TO_NEXT_COLUMN_TIMER.run(() -> {
+            if (cardId <= 0) {
+                throw new IllegalArgumentException("ID do cartão inválido.");
+            }
+            if (expectedColumnId == null) {
+                throw new IllegalArgumentException("ID da coluna atual do cartão não pode ser nulo.");
+            }
 
-        boardColumnsInfo.sort((a, b) -> Integer.compare(a.order(), b.order()));
-        var currentIndex = -1;
+            try {
+                var dao = new CardDAO(connection);
+                if (!dao.moveToNextColumn(cardId, expectedColumnId, expectedVersion)) {
+                    connection.rollback();
+                    throw rejectedMove(dao, cardId, expectedColumnId, expectedVersion);
+                }
+                new BoardColumnDAO(connection).transferCardsAmountOfCard(expectedColumnId, cardId);
+                var events = new CardEventDAO(connection);
+                events.append(MOVED, cardId, expectedColumnId, null);
+                events.flush();
+                connection.commit();
 
-        for (int i = 0; i < boardColumnsInfo.size(); i++) {
-            if (boardColumnsInfo.get(i).id().equals(currentColumnId)) {
-                currentIndex = i;
-                break;
+                logger.info("Cartão ID {} movido para a próxima coluna a partir da coluna de ID {}", cardId, expectedColumnId);
+            } catch (SQLException ex) {
+                connection.rollback();
+                logger.error("Erro ao mover cartão ID {}: {}", cardId, ex.getMessage(), ex);
+                throw new RuntimeException("Erro ao mover cartão: " + ex.getMessage(), ex);
             }
-        }
+        });
+    }
 
-        if (currentIndex == -1 || currentIndex == boardColumnsInfo.size() - 1) {
-            throw new RuntimeException("O cartão já está na última coluna ou a coluna atual não foi encontrada.");
-        }
+    public void cancel(long cardId, Long cancelColumnId, List<BoardColumnInfoDTO> boardColumnsInfo) throws SQLException {
+        CANCEL_TIMER.run(() -> {
+            if (cardId <= 0) {
+                throw new IllegalArgumentException("ID do cartão inválido.");
+            }
+            if (cancelColumnId == null) {
+                throw new IllegalArgumentException("ID da coluna de cancelamento não pode ser nulo.");
+            }
+
+            try {
+                var dao = new CardDAO(connection);
+                var card = dao.findEntityById(cardId)
+                        .orElseThrow(() -> new EntityNotFoundException("O cartão de ID %s não foi encontrado".formatted(cardId)));
 
-        var nextColumnId = boardColumnsInfo.get(currentIndex + 1).id();
-        card.getBoardColumn().setId(nextColumnId);
+                var cancelColumn = boardColumnsInfo.stream()
+                        .filter(column -> column.id().equals(cancelColumnId))
+                        .findFirst()
+                        .orElseThrow(() -> new EntityNotFoundException("A coluna de cancelamento ID %s não foi encontrada".formatted(cancelColumnId)));
+                if (cancelColumn.kind() != CANCEL) {
+                    throw new IllegalArgumentException("A coluna ID %s não é a coluna de cancelamento".formatted(cancelColumnId));
+                }
+                requireInBoard(card, boardColumnsInfo);
+                if (card.getBoardColumn().getKind() == CANCEL) {
+                    throw new CardFinishedException("O cartão ID %s já está cancelado".formatted(cardId));
+                }
 
-        dao.update(card);
-        connection.commit();
+                if (!dao.moveToColumn(cardId, cancelColumnId, card.getBoardColumn().getId(), card.getVersion())) {
+                    connection.rollback();
+                    throw concurrentModification(cardId);
+                }
+                new BoardColumnDAO(connection).transferCardsAmount(card.getBoardColumn().getId(), cancelColumnId);
+                var events = new CardEventDAO(connection);
+                events.append(CANCELLED, cardId, card.getBoardColumn().getId(), null);
+                events.flush();
+                connection.commit();
 
-        logger.info("Cartão ID {} movido para a próxima coluna de ID {}", cardId, nextColumnId);
+                logger.info("Cartão ID {} movido para a coluna de cancelamento ID {}", cardId, cancelColumnId);
+            } catch (SQLException ex) {
+                connection.rollback();
+                logger.error("Erro ao cancelar cartão ID {}: {}", cardId, ex.getMessage(), ex);
+                throw new RuntimeException("Erro ao cancelar cartão: " + ex.getMessage(), ex);
+            }
+        });
     }
 
-    public void cancel(long cardId, Long cancelColumnId, List<BoardColumnInfoDTO> boardColumnsInfo) throws SQLException {
-        if (cardId <= 0) {
-            throw new IllegalArgumentException("ID do cartão inválido.");
-        }
-        if (cancelColumnId == null) {
-            throw new IllegalArgumentException("ID da coluna de cancelamento não pode ser nulo.");
-        }
+    /**
+     * Altera título e descrição do card. O índice de busca só é atualizado depois do commit.
+     */
+    public void update(final long cardId, final String title, final String description) throws SQLException {
+        UPDATE_TIMER.run(() -> {
+            if (title == null || title.trim().isEmpty()) {
+                throw new IllegalArgumentException("O título do cartão não pode estar vazio.");
+            }
 
-        try {
-            var dao = new CardDAO(connection);
-            var card = dao.findEntityById(cardId)
-                    .orElseThrow(() -> new EntityNotFoundException("O cartão de ID %s não foi encontrado".formatted(cardId)));
+            try {
+                var dao = new CardDAO(connection);
+                var card = dao.findEntityById(cardId)
+                        .orElseThrow(() -> new EntityNotFoundException("O cartão de ID %s não foi encontrado".formatted(cardId)));
+                card.setTitle(title);
+                card.setDescription(description);
+                if (!dao.update(card)) {
+                    throw new EntityNotFoundException("O cartão de ID %s não foi encontrado".formatted(cardId));
+                }
+                connection.commit();
+                CardSearchIndex.shared().reindex(textOf(card));
+                logger.info("Cartão ID {} atualizado", cardId);
+            } catch (SQLException ex) {
+                connection.rollback();
+                logger.error("Erro ao atualizar cartão ID {}: {}", cardId, ex.getMessage(), ex);
+                throw new RuntimeException("Erro ao atualizar cartão: " + ex.getMessage(), ex);
+            }
+        });
+    }
 
-            boolean columnExists = boardColumnsInfo.stream()
-                    .anyMatch(column -> column.id().equals(cancelColumnId));
+    public void delete(final long cardId) throws SQLException {
+        DELETE_TIMER.run(() -> {
+            if (cardId <= 0) {
+                throw new IllegalArgumentException("ID do cartão inválido.");
+            }
 
-            if (!columnExists) {
-                throw new RuntimeException("A coluna de cancelamento ID " + cancelColumnId + " não foi encontrada.");
+            try {
+                var dao = new CardDAO(connection);
+                var card = dao.findEntityById(cardId)
+                        .orElseThrow(() -> new EntityNotFoundException("O cartão de ID %s não foi encontrado".formatted(cardId)));
+                // o evento lê o board e a coluna do card, então é gravado antes da exclusão
+                var events = new CardEventDAO(connection);
+                events.append(DELETED, cardId, null, null);
+                events.flush();
+                dao.delete(cardId);
+                new BoardColumnDAO(connection).addCardsAmount(card.getBoardColumn().getId(), -1);
+                connection.commit();
+                CardSearchIndex.shared().remove(card.getBoardColumn().getId(), cardId);
+
+                logger.info("Cartão ID {} excluído da coluna ID {}", cardId, card.getBoardColumn().getId());
+            } catch (SQLException ex) {
+                connection.rollback();
+                logger.error("Erro ao excluir cartão ID {}: {}", cardId, ex.getMessage(), ex);
+                throw new RuntimeException("Erro ao excluir cartão: " + ex.getMessage(), ex);
             }
+        });
+    }
 
-            card.getBoardColumn().setId(cancelColumnId);
-            dao.update(card);
-            connection.commit();
+    private static CardTextDTO textOf(final CardEntity card) {
+        return new CardTextDTO(card.getId(), card.getBoardColumn().getId(), card.getTitle(), card.getDescription());
+    }
 
-            logger.info("Cartão ID {} movido para a coluna de cancelamento ID {}", cardId, cancelColumnId);
-        } catch (SQLException ex) {
-            connection.rollback();
-            logger.error("Erro ao cancelar cartão ID {}: {}", cardId, ex.getMessage(), ex);
-            throw new RuntimeException("Erro ao cancelar cartão: " + ex.getMessage(), ex);
+    /**
+     * Rejeita o card se a coluna em que ele está não for uma das colunas do board informado.
+     */
+    private static void requireInBoard(final CardEntity card, final List<BoardColumnInfoDTO> boardColumnsInfo) {
+        var currentColumnId = card.getBoardColumn().getId();
+        if (boardColumnsInfo.stream().noneMatch(column -> column.id().equals(currentColumnId))) {
+            throw new EntityNotFoundException("O cartão de ID %s não pertence ao board".formatted(card.getId()));
+        }
+    }
+
+    private static CardConcurrentModificationException concurrentModification(final long cardId) {
+        return new CardConcurrentModificationException(
+                "O cartão ID %s foi alterado por outra operação, tente novamente".formatted(cardId));
+    }
+
+    private RuntimeException rejectedMove(final CardDAO dao, final long cardId,
+                                          final Long expectedColumnId, final int expectedVersion) throws SQLException {
+        var optional = dao.findEntityById(cardId);
+        if (optional.isEmpty()) {
+            return new EntityNotFoundException("O cartão de ID %s não foi encontrado".formatted(cardId));
+        }
+        var card = optional.get();
+        if (!card.getBoardColumn().getId().equals(expectedColumnId) || card.getVersion() != expectedVersion) {
+            return new CardConcurrentModificationException(
+                    "O cartão ID %s foi movido por outra operação, tente novamente".formatted(cardId));
+        }
+        if (card.isBlocked()) {
+            return new CardBlockedException(
+                    "O cartão ID %s está bloqueado, é necessário desbloqueá-lo para mover".formatted(cardId));
+        }
+        if (card.getBoardColumn().getKind() == CANCEL) {
+            return new CardFinishedException("O cartão ID %s está cancelado".formatted(cardId));
         }
+        return new CardFinishedException("O cartão ID %s já foi finalizado".formatted(cardId));
     }
 }
@@ -0,0 +1,55 @@
+package br.com.dio.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static br.com.dio.persistence.config.ConnectionConfig.getConnection;
+
+/**
+ * Executa periodicamente, em uma thread daemon, a reconciliação do contador de cards das colunas.
+ */
+public class CardsAmountReconciliationJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(CardsAmountReconciliationJob.class);
+
+    private final long intervalMinutes;
+    private ScheduledExecutorService executor;
+
+    public CardsAmountReconciliationJob(final long intervalMinutes) {
+        this.intervalMinutes = intervalMinutes;
+    }
+
+    public synchronized void start() {
+        if (executor != null || intervalMinutes <= 0) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            var thread = new Thread(r, "cards-amount-reconciliation");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::run, intervalMinutes, intervalMinutes, TimeUnit.MINUTES);
+        logger.info("Reconciliação do contador de cards agendada a cada {} minutos", intervalMinutes);
+    }
+
+    public synchronized void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    private void run() {
+        try (var connection = getConnection()) {
+            new BoardColumnService(connection).reconcileCardsAmount();
+        } catch (Exception e) {
+            // a falha de uma execução não pode cancelar as próximas
+            logger.error("Falha na reconciliação do contador de cards: {}", e.getMessage(), e);
+        }
+    }
+
+}
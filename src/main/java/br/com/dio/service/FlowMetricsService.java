@@ -0,0 +1,73 @@
+package br.com.dio.service;
+
+import br.com.dio.dto.BoardFlowMetricsDTO;
+import br.com.dio.exception.EntityNotFoundException;
+import br.com.dio.metrics.FlowMetrics;
+import br.com.dio.metrics.OperationTimer;
+import br.com.dio.persistence.dao.BoardColumnDAO;
+import br.com.dio.persistence.dao.CardEventDAO;
+import lombok.AllArgsConstructor;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+
+import static br.com.dio.metrics.OperationMetrics.timer;
+
+/**
+ * Métricas de fluxo dos boards (WIP, entregas por dia, cycle/lead time e tempo bloqueado),
+ * calculadas a partir do log {@code CARD_EVENTS} que o {@link CardService} grava a cada
+ * alteração. A primeira consulta de um board percorre o log dele uma vez; as seguintes só
+ * aplicam os eventos novos, então as tabelas de cards nunca são varridas.
+ * <p>
+ * Só são aplicados os eventos até a marca do {@link br.com.dio.metrics.EventWatermark}, para
+ * que um evento de uma transação ainda aberta, com id menor que os já aplicados, não seja
+ * perdido quando ela confirmar. Os instantes vêm todos do relógio do banco.
+ */
+@AllArgsConstructor
+public class FlowMetricsService {
+
+    private static final int WATERMARK_PAGE_SIZE = 10_000;
+    private static final OperationTimer GET_BOARD_METRICS_TIMER = timer("FlowMetricsService.getBoardMetrics");
+
+    private final Connection connection;
+
+    public BoardFlowMetricsDTO getBoardMetrics(final long boardId) throws SQLException {
+        return GET_BOARD_METRICS_TIMER.record(() -> {
+            var flow = FlowMetrics.shared().get(boardId).orElse(null);
+            if (flow == null) {
+                var columns = new BoardColumnDAO(connection).findByBoardId(boardId);
+                if (columns.isEmpty()) {
+                    throw new EntityNotFoundException("O board de ID %s não foi encontrado".formatted(boardId));
+                }
+                flow = FlowMetrics.shared().register(boardId, columns);
+            }
+
+            var events = new CardEventDAO(connection);
+            var now = events.currentTimestamp();
+            var settledEventId = advanceWatermark(events, now);
+            synchronized (flow) {
+                events.streamByBoardIdAfter(boardId, flow.getLastEventId(), settledEventId, flow::apply);
+                return flow.snapshot(now);
+            }
+        });
+    }
+
+    private static long advanceWatermark(final CardEventDAO events, final OffsetDateTime now) throws SQLException {
+        var watermark = FlowMetrics.shared().getWatermark();
+        synchronized (watermark) {
+            while (true) {
+                var stamps = events.findStampsAfter(watermark.getSettledId(), WATERMARK_PAGE_SIZE);
+                for (var stamp : stamps) {
+                    if (!watermark.advance(stamp.id(), stamp.occurredAt(), now)) {
+                        return watermark.getSettledId();
+                    }
+                }
+                if (stamps.size() < WATERMARK_PAGE_SIZE) {
+                    return watermark.getSettledId();
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,148 @@
+package br.com.dio.service;
+
+import br.com.dio.persistence.config.ConnectionConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static br.com.dio.config.EnvironmentConfig.getEnv;
+import static java.util.Objects.isNull;
+
+/**
+ * Executa operações de serviço concorrentemente, uma thread por operação, entregando a cada uma
+ * uma conexão emprestada do pool. Operações do mesmo board ficam limitadas a
+ * {@code maxConcurrencyPerBoard} simultâneas, e o total de operações com conexão emprestada a
+ * {@code maxConcurrency}, por padrão o tamanho do pool: as excedentes esperam a vez sem pedir
+ * conexão, em vez de esperar (e estourar o timeout) dentro do pool.
+ * <p>
+ * Em runtimes com virtual threads (Java 21+) cada operação roda em uma virtual thread; no
+ * Java 17 usa um pool de threads de plataforma sob demanda, então as operações em espera
+ * ocupam uma thread cada.
+ */
+public class ServiceExecutor implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ServiceExecutor.class);
+
+    private final ConnectionSupplier connectionSupplier;
+    private final int maxConcurrencyPerBoard;
+    private final Semaphore permits;
+    private final ExecutorService executor;
+    private final ConcurrentHashMap<Long, Semaphore> boardPermits = new ConcurrentHashMap<>();
+
+    public ServiceExecutor() {
+        this(ConnectionConfig::getConnection,
+                Integer.parseInt(getEnv("SERVICE_MAX_CONCURRENCY", getEnv("DB_POOL_MAX_SIZE", "10"))),
+                Integer.parseInt(getEnv("SERVICE_MAX_CONCURRENCY_PER_BOARD", "4")));
+    }
+
+    public ServiceExecutor(final ConnectionSupplier connectionSupplier, final int maxConcurrency, final int maxConcurrencyPerBoard) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("A concorrência máxima deve ser maior que zero.");
+        }
+        if (maxConcurrencyPerBoard <= 0) {
+            throw new IllegalArgumentException("A concorrência máxima por board deve ser maior que zero.");
+        }
+        this.connectionSupplier = connectionSupplier;
+        this.maxConcurrencyPerBoard = maxConcurrencyPerBoard;
+        this.permits = new Semaphore(maxConcurrency);
+        this.executor = newThreadPerTaskExecutor("service-executor");
+    }
+
+    /**
+     * Agenda uma operação que não pertence a um board específico.
+     */
+    public <T> CompletableFuture<T> submit(final ServiceCall<T> call) {
+        return submit(null, call);
+    }
+
+    /**
+     * Agenda uma operação do board {@code boardId}. A conexão entregue à operação é devolvida ao
+     * pool quando ela termina; commit e rollback continuam a cargo dos serviços. A vaga do board
+     * é obtida antes da vaga geral, para que operações de um board saturado não ocupem vagas
+     * que outros boards poderiam usar.
+     */
+    public <T> CompletableFuture<T> submit(final Long boardId, final ServiceCall<T> call) {
+        return CompletableFuture.supplyAsync(() -> {
+            var board = isNull(boardId) ? null : boardPermits.computeIfAbsent(boardId, id -> new Semaphore(maxConcurrencyPerBoard));
+            try {
+                if (board != null) {
+                    board.acquire();
+                }
+                try {
+                    permits.acquire();
+                    try (var connection = connectionSupplier.get()) {
+                        return call.call(connection);
+                    } finally {
+                        permits.release();
+                    }
+                } finally {
+                    if (board != null) {
+                        board.release();
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            } catch (SQLException e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                logger.warn("Operações ainda em execução após 30s, interrompendo");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Executor de uma thread por tarefa: virtual threads quando o runtime oferece (Java 21+),
+     * senão um pool sob demanda de threads daemon chamadas {@code threadName-N}.
+     */
+    public static ExecutorService newThreadPerTaskExecutor(final String threadName) {
+        try {
+            var factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            var counter = new AtomicInteger();
+            return Executors.newCachedThreadPool(r -> {
+                var thread = new Thread(r, threadName + "-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    @FunctionalInterface
+    public interface ConnectionSupplier {
+
+        Connection get() throws SQLException;
+
+    }
+
+    @FunctionalInterface
+    public interface ServiceCall<T> {
+
+        T call(Connection connection) throws SQLException;
+
+    }
+
+}
@@ -0,0 +1,367 @@
+package br.com.dio.snapshot;
+
+import br.com.dio.dto.BoardColumnViewDTO;
+import br.com.dio.dto.BoardViewDTO;
+import br.com.dio.dto.CardSummaryDTO;
+import br.com.dio.persistence.entity.BoardColumnKindEnum;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.RandomAccess;
+
+/**
+ * Foto imutável de um board com todos os seus cards, em estrutura de arrays: cada atributo
+ * dos cards fica em um array próprio ({@code long[]} de IDs, textos em {@code String[]} com
+ * as repetições compartilhadas e o bloqueio em um {@link BitSet}) e os cards de cada coluna
+ * ocupam uma faixa contínua dos arrays, delimitada por {@link #columnStart(int)} e
+ * {@link #columnEnd(int)}. O tipo da coluna é guardado pelo ordinal.
+ * <p>
+ * Comparado ao grafo {@code BoardEntity} → {@code BoardColumnEntity} → {@code CardEntity},
+ * não há um objeto por card nem IDs em {@code Long}; as visões ({@link #toView()}) leem os
+ * arrays sob demanda.
+ */
+public final class BoardSnapshot {
+
+    private static final BoardColumnKindEnum[] KINDS = BoardColumnKindEnum.values();
+
+    private final long id;
+    private final String name;
+    private final long[] columnIds;
+    private final String[] columnNames;
+    private final byte[] columnKinds;
+    private final int[] columnStarts;
+    private final int[] columnEnds;
+    private final long[] cardIds;
+    private final String[] titles;
+    private final String[] descriptions;
+    private final BitSet blocked;
+    private final int initialColumn;
+    private final int cancelColumn;
+
+    private BoardSnapshot(final Builder builder) {
+        var columns = builder.columnsAmount;
+        var cards = builder.cardsAmount;
+        this.id = builder.id;
+        this.name = builder.name;
+        this.columnIds = Arrays.copyOf(builder.columnIds, columns);
+        this.columnNames = Arrays.copyOf(builder.columnNames, columns);
+        this.columnKinds = Arrays.copyOf(builder.columnKinds, columns);
+        this.columnStarts = Arrays.copyOf(builder.columnStarts, columns);
+        this.columnEnds = Arrays.copyOf(builder.columnEnds, columns);
+        this.cardIds = builder.cardIds.length == cards ? builder.cardIds : Arrays.copyOf(builder.cardIds, cards);
+        this.titles = builder.titles.length == cards ? builder.titles : Arrays.copyOf(builder.titles, cards);
+        this.descriptions = builder.descriptions.length == cards ? builder.descriptions : Arrays.copyOf(builder.descriptions, cards);
+        this.blocked = builder.blocked;
+        this.initialColumn = indexOfKind(BoardColumnKindEnum.INITIAL);
+        this.cancelColumn = indexOfKind(BoardColumnKindEnum.CANCEL);
+    }
+
+    public static Builder builder(final long id, final String name) {
+        return new Builder(id, name);
+    }
+
+    public long id() {
+        return id;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int columnsAmount() {
+        return columnIds.length;
+    }
+
+    public int cardsAmount() {
+        return cardIds.length;
+    }
+
+    public long columnId(final int column) {
+        return columnIds[column];
+    }
+
+    public String columnName(final int column) {
+        return columnNames[column];
+    }
+
+    public BoardColumnKindEnum columnKind(final int column) {
+        return KINDS[columnKinds[column]];
+    }
+
+    public int columnCardsAmount(final int column) {
+        return columnEnds[column] - columnStarts[column];
+    }
+
+    /**
+     * Posição do primeiro card da coluna nos arrays de cards.
+     */
+    public int columnStart(final int column) {
+        return columnStarts[column];
+    }
+
+    /**
+     * Posição seguinte à do último card da coluna nos arrays de cards.
+     */
+    public int columnEnd(final int column) {
+        return columnEnds[column];
+    }
+
+    /**
+     * Índice da coluna com o ID informado, ou {@code -1}. Os boards têm poucas colunas, então
+     * a busca é linear.
+     */
+    public int indexOfColumn(final long columnId) {
+        for (int i = 0; i < columnIds.length; i++) {
+            if (columnIds[i] == columnId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Índice da coluna inicial, ou {@code -1} se o board não tiver uma.
+     */
+    public int initialColumn() {
+        return initialColumn;
+    }
+
+    /**
+     * Índice da coluna de cancelamento, ou {@code -1} se o board não tiver uma.
+     */
+    public int cancelColumn() {
+        return cancelColumn;
+    }
+
+    public long cardId(final int position) {
+        return cardIds[position];
+    }
+
+    public String cardTitle(final int position) {
+        return titles[position];
+    }
+
+    public String cardDescription(final int position) {
+        return descriptions[position];
+    }
+
+    public boolean isCardBlocked(final int position) {
+        return blocked.get(position);
+    }
+
+    /**
+     * Posição do card nos arrays, ou {@code -1}. Dentro de cada coluna os cards estão em ordem
+     * de ID, então é uma busca binária por coluna.
+     */
+    public int indexOfCard(final long cardId) {
+        for (int column = 0; column < columnIds.length; column++) {
+            var index = Arrays.binarySearch(cardIds, columnStarts[column], columnEnds[column], cardId);
+            if (index >= 0) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Índice da coluna do card na posição informada.
+     */
+    public int columnOfCard(final int position) {
+        for (int column = 0; column < columnIds.length; column++) {
+            if (position >= columnStarts[column] && position < columnEnds[column]) {
+                return column;
+            }
+        }
+        throw new IndexOutOfBoundsException(position);
+    }
+
+    public BoardViewDTO toView() {
+        var columns = new BoardColumnViewDTO[columnIds.length];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = toColumnView(i);
+        }
+        return new BoardViewDTO(id, name, List.of(columns));
+    }
+
+    public Optional<BoardColumnViewDTO> toColumnView(final long columnId) {
+        var column = indexOfColumn(columnId);
+        return column < 0 ? Optional.empty() : Optional.of(toColumnView(column));
+    }
+
+    private BoardColumnViewDTO toColumnView(final int column) {
+        return new BoardColumnViewDTO(columnIds[column], columnNames[column], columnKind(column),
+                columnCardsAmount(column), new CardsView(columnStarts[column], columnEnds[column]));
+    }
+
+    private int indexOfKind(final BoardColumnKindEnum kind) {
+        for (int i = 0; i < columnKinds.length; i++) {
+            if (columnKinds[i] == kind.ordinal()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Lista dos cards de uma coluna lida direto dos arrays: cada {@link CardSummaryDTO} só é
+     * criado quando o elemento é acessado.
+     */
+    private final class CardsView extends AbstractList<CardSummaryDTO> implements RandomAccess {
+
+        private final int start;
+        private final int end;
+
+        private CardsView(final int start, final int end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public CardSummaryDTO get(final int index) {
+            if (index < 0 || index >= end - start) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            var position = start + index;
+            return new CardSummaryDTO(cardIds[position], titles[position], descriptions[position], blocked.get(position));
+        }
+
+        @Override
+        public int size() {
+            return end - start;
+        }
+
+    }
+
+    /**
+     * Monta a foto a partir das colunas, na ordem do board, e dos cards agrupados por coluna
+     * (em qualquer ordem de coluna) e em ordem de ID dentro de cada grupo. Textos repetidos são
+     * compartilhados por uma tabela local ao builder.
+     */
+    public static final class Builder {
+
+        private static final int INITIAL_COLUMNS = 8;
+        private static final int INITIAL_CARDS = 64;
+
+        private final long id;
+        private final String name;
+        private final Map<String, String> strings = new HashMap<>();
+        private long[] columnIds = new long[INITIAL_COLUMNS];
+        private String[] columnNames = new String[INITIAL_COLUMNS];
+        private byte[] columnKinds = new byte[INITIAL_COLUMNS];
+        private int[] columnStarts = new int[INITIAL_COLUMNS];
+        private int[] columnEnds = new int[INITIAL_COLUMNS];
+        private int columnsAmount;
+        private long[] cardIds = new long[INITIAL_CARDS];
+        private String[] titles = new String[INITIAL_CARDS];
+        private String[] descriptions = new String[INITIAL_CARDS];
+        private final BitSet blocked = new BitSet();
+        private int cardsAmount;
+        private int currentColumn = -1;
+        private boolean built;
+
+        private Builder(final long id, final String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        public Builder addColumn(final long columnId, final String columnName, final BoardColumnKindEnum kind) {
+            if (cardsAmount > 0) {
+                throw new IllegalStateException("As colunas devem ser informadas antes dos cards");
+            }
+            if (columnsAmount == columnIds.length) {
+                var capacity = columnsAmount * 2;
+                columnIds = Arrays.copyOf(columnIds, capacity);
+                columnNames = Arrays.copyOf(columnNames, capacity);
+                columnKinds = Arrays.copyOf(columnKinds, capacity);
+                columnStarts = Arrays.copyOf(columnStarts, capacity);
+                columnEnds = Arrays.copyOf(columnEnds, capacity);
+            }
+            columnIds[columnsAmount] = columnId;
+            columnNames[columnsAmount] = intern(columnName);
+            columnKinds[columnsAmount] = (byte) kind.ordinal();
+            columnsAmount++;
+            return this;
+        }
+
+        /**
+         * Reserva espaço para {@code cards} cards, evitando as cópias de crescimento quando o
+         * total já é conhecido (por exemplo, pela soma dos contadores das colunas).
+         */
+        public Builder expectCards(final int cards) {
+            ensureCardCapacity(cards);
+            return this;
+        }
+
+        public Builder addCard(final long columnId, final long cardId, final String title,
+                               final String description, final boolean cardBlocked) {
+            if (currentColumn < 0 || columnIds[currentColumn] != columnId) {
+                startColumn(columnId);
+            } else if (cardIds[cardsAmount - 1] >= cardId) {
+                throw new IllegalArgumentException("Os cards da coluna %s não estão em ordem de ID".formatted(columnId));
+            }
+            ensureCardCapacity(cardsAmount + 1);
+            cardIds[cardsAmount] = cardId;
+            titles[cardsAmount] = intern(title);
+            descriptions[cardsAmount] = intern(description);
+            if (cardBlocked) {
+                blocked.set(cardsAmount);
+            }
+            cardsAmount++;
+            columnEnds[currentColumn] = cardsAmount;
+            return this;
+        }
+
+        public BoardSnapshot build() {
+            if (built) {
+                throw new IllegalStateException("O builder já foi usado");
+            }
+            built = true;
+            strings.clear();
+            return new BoardSnapshot(this);
+        }
+
+        private void startColumn(final long columnId) {
+            var column = -1;
+            for (int i = 0; i < columnsAmount; i++) {
+                if (columnIds[i] == columnId) {
+                    column = i;
+                    break;
+                }
+            }
+            if (column < 0) {
+                throw new IllegalArgumentException("A coluna %s não pertence ao board %s".formatted(columnId, id));
+            }
+            if (columnEnds[column] > 0) {
+                throw new IllegalArgumentException("Os cards da coluna %s não estão agrupados".formatted(columnId));
+            }
+            columnStarts[column] = cardsAmount;
+            columnEnds[column] = cardsAmount;
+            currentColumn = column;
+        }
+
+        private void ensureCardCapacity(final int capacity) {
+            if (capacity <= cardIds.length) {
+                return;
+            }
+            var newCapacity = Math.max(capacity, cardIds.length + (cardIds.length >> 1));
+            cardIds = Arrays.copyOf(cardIds, newCapacity);
+            titles = Arrays.copyOf(titles, newCapacity);
+            descriptions = Arrays.copyOf(descriptions, newCapacity);
+        }
+
+        private String intern(final String value) {
+            if (value == null) {
+                return null;
+            }
+            var shared = strings.putIfAbsent(value, value);
+            return shared == null ? value : shared;
+        }
+
+    }
+
+}
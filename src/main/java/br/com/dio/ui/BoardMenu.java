@@ -7,6 +7,7 @@ import br.com.dio.persistence.entity.CardEntity;
 import br.com.dio.service.BoardColumnQueryService;
 import br.com.dio.service.BoardQueryService;
 import br.com.dio.service.CardQueryService;
+import br.com.dio.service.CardSearchService;
 import br.com.dio.service.CardService;
 import lombok.AllArgsConstructor;
 
@@ -14,6 +15,7 @@ import java.sql.SQLException;
 import java.util.Scanner;
 
 import static br.com.dio.persistence.config.ConnectionConfig.getConnection;
+import static br.com.dio.persistence.config.ConnectionConfig.getReadConnection;
 
 @AllArgsConstructor
 public class BoardMenu {
@@ -26,7 +28,7 @@ public class BoardMenu {
         try {
             System.out.printf("Bem vindo ao board %s, selecione a operação desejada\n", entity.getId());
             var option = -1;
-            while (option != 9) {
+            while (option != 10) {
                 System.out.println("1 - Criar um card");
                 System.out.println("2 - Mover um card");
                 System.out.println("3 - Bloquear um card");
@@ -35,8 +37,9 @@ public class BoardMenu {
                 System.out.println("6 - Ver board");
                 System.out.println("7 - Ver coluna com cards");
                 System.out.println("8 - Ver card");
-                System.out.println("9 - Voltar para o menu anterior um card");
-                System.out.println("10 - Sair");
+                System.out.println("9 - Buscar cards");
+                System.out.println("10 - Voltar para o menu anterior um card");
+                System.out.println("11 - Sair");
                 option = scanner.nextInt();
                 switch (option) {
                     case 1 -> createCard();
@@ -47,8 +50,9 @@ public class BoardMenu {
                     case 6 -> showBoard();
                     case 7 -> showColumn();
                     case 8 -> showCard();
-                    case 9 -> System.out.println("Voltando para o menu anterior");
-                    case 10 -> System.exit(0);
+                    case 9 -> searchCards();
+                    case 10 -> System.out.println("Voltando para o menu anterior");
+                    case 11 -> System.exit(0);
                     default -> System.out.println("Opção inválida, informe uma opção do menu");
                 }
             }
@@ -125,7 +129,7 @@ public class BoardMenu {
     }
 
     private void showBoard() throws SQLException {
-        try(var connection = getConnection()){
+        try(var connection = getReadConnection()){
             var optional = new BoardQueryService(connection).showBoardDetails(entity.getId());
             optional.ifPresent(b -> {
                 System.out.printf("Board [%s,%s]\n", b.id(), b.name());
@@ -144,20 +148,41 @@ public class BoardMenu {
             entity.getBoardColumns().forEach(c -> System.out.printf("%s - %s [%s]\n", c.getId(), c.getName(), c.getKind()));
             selectedColumnId = scanner.nextLong();
         }
+        try(var connection = getReadConnection()){
+            var queryService = new BoardColumnQueryService(connection);
+            var column = queryService.findById(selectedColumnId);
+            if (column.isEmpty()){
+                return;
+            }
+            System.out.printf("Coluna %s tipo %s\n", column.get().getName(), column.get().getKind());
+            var cards = queryService.findCards(selectedColumnId);
+            while (cards.hasNext()){
+                var ca = cards.next();
+                System.out.printf("Card %s - %s\nDescrição: %s\n", ca.getId(), ca.getTitle(), ca.getDescription());
+            }
+        }
+    }
+
+    private void searchCards() throws SQLException {
+        System.out.println("Informe os termos da busca (termine um termo com * para buscar por prefixo)");
+        var query = scanner.next();
         try(var connection = getConnection()){
-            var column = new BoardColumnQueryService(connection).findById(selectedColumnId);
-            column.ifPresent(co -> {
-                System.out.printf("Coluna %s tipo %s\n", co.getName(), co.getKind());
-                co.getCards().forEach(ca -> System.out.printf("Card %s - %s\nDescrição: %s",
-                        ca.getId(), ca.getTitle(), ca.getDescription()));
-            });
+            var cards = new CardSearchService(connection).search(entity.getId(), query);
+            if (cards.isEmpty()){
+                System.out.println("Nenhum card encontrado");
+                return;
+            }
+            cards.forEach(c -> System.out.printf("Card %s - %s [coluna %s]\nDescrição: %s\n",
+                    c.id(), c.title(), c.columnName(), c.description()));
+        } catch (RuntimeException ex){
+            System.out.println(ex.getMessage());
         }
     }
 
     private void showCard() throws SQLException {
         System.out.println("Informe o id do card que deseja visualizar");
         var selectedCardId = scanner.nextLong();
-        try(var connection  = getConnection()){
+        try(var connection  = getReadConnection()){
             new CardQueryService(connection).findById(selectedCardId)
                     .ifPresentOrElse(
                             c -> {
@@ -1,17 +1,22 @@
 package br.com.dio.ui;
 
+import br.com.dio.metrics.OperationMetrics;
+import br.com.dio.persistence.cache.BoardStructureCache;
 import br.com.dio.persistence.entity.BoardColumnEntity;
 import br.com.dio.persistence.entity.BoardColumnKindEnum;
 import br.com.dio.persistence.entity.BoardEntity;
+import br.com.dio.persistence.trace.JdbcTracer;
 import br.com.dio.service.BoardQueryService;
 import br.com.dio.service.BoardService;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.Scanner;
 
 import static br.com.dio.persistence.config.ConnectionConfig.getConnection;
+import static br.com.dio.persistence.config.ConnectionConfig.getReadConnection;
 import static br.com.dio.persistence.entity.BoardColumnKindEnum.CANCEL;
 import static br.com.dio.persistence.entity.BoardColumnKindEnum.FINAL;
 import static br.com.dio.persistence.entity.BoardColumnKindEnum.INITIAL;
@@ -28,13 +33,15 @@ public class MainMenu {
             System.out.println("1 - Criar um novo board");
             System.out.println("2 - Selecionar um board existente");
             System.out.println("3 - Excluir um board");
-            System.out.println("4 - Sair");
+            System.out.println("4 - Ver métricas de desempenho");
+            System.out.println("5 - Sair");
             option = scanner.nextInt();
             switch (option){
                 case 1 -> createBoard();
                 case 2 -> selectBoard();
                 case 3 -> deleteBoard();
-                case 4 -> System.exit(0);
+                case 4 -> showOperationMetrics();
+                case 5 -> System.exit(0);
                 default -> System.out.println("Opção inválida, informe uma opção do menu");
             }
         }
@@ -83,14 +90,15 @@ public class MainMenu {
     private void selectBoard() throws SQLException {
         System.out.println("Informe o id do board que deseja selecionar");
         var id = scanner.nextLong();
-        try(var connection = getConnection()){
+        Optional<BoardEntity> optional;
+        try(var connection = getReadConnection()){
             var queryService = new BoardQueryService(connection);
-            var optional = queryService.findById(id);
-            optional.ifPresentOrElse(
-                    b -> new BoardMenu(b).execute(),
-                    () -> System.out.printf("Não foi encontrado um board com id %s\n", id)
-            );
+            optional = queryService.findById(id);
         }
+        optional.ifPresentOrElse(
+                b -> new BoardMenu(b).execute(),
+                () -> System.out.printf("Não foi encontrado um board com id %s\n", id)
+        );
     }
 
     private void deleteBoard() throws SQLException {
@@ -106,6 +114,27 @@ public class MainMenu {
         }
     }
 
+    private void showOperationMetrics() {
+        var operations = OperationMetrics.snapshot();
+        if (operations.isEmpty()) {
+            System.out.println("Nenhuma operação executada até o momento");
+            return;
+        }
+        System.out.printf("%-45s %8s %6s %10s %10s %10s %10s%n", "Operação", "Chamadas", "Erros", "Média ms", "p50 ms", "p99 ms", "Máx ms");
+        operations.forEach(o -> System.out.printf("%-45s %8d %6d %10.3f %10.3f %10.3f %10.3f%n",
+                o.operation(), o.count(), o.errors(), o.averageMillis(), o.p50Millis(), o.p99Millis(), o.maxMillis()));
+        var cache = BoardStructureCache.shared().getStats();
+        System.out.printf("%nCache de boards: %d hits, %d misses (%.1f%% de acerto), %d despejos, %d invalidações, %d/%d entradas%n",
+                cache.hits(), cache.misses(), cache.hitRatio() * 100, cache.evictions(), cache.invalidations(), cache.size(), cache.maxSize());
+        var roundTrips = JdbcTracer.snapshot();
+        if (roundTrips.isEmpty()) {
+            return;
+        }
+        System.out.printf("%n%-45s %8s %10s %10s %8s%n", "Operação", "Execuções", "Idas/exec", "Máx idas", "N+1");
+        roundTrips.forEach(r -> System.out.printf("%-45s %8d %10.1f %10d %8d%n",
+                r.operation(), r.executions(), r.averageRoundTrips(), r.maxRoundTrips(), r.nPlusOneSuspects()));
+    }
+
     private BoardColumnEntity createColumn(final String name, final BoardColumnKindEnum kind, final int order){
         var boardColumn = new BoardColumnEntity();
         boardColumn.setName(name);
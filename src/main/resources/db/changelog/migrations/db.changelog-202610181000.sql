@@ -0,0 +1,7 @@
+--liquibase formatted sql
+--changeset junior:202610181000
+--comment: add version column to cards for optimistic locking
+
+ALTER TABLE CARDS ADD COLUMN version INT NOT NULL DEFAULT 0;
+
+--rollback ALTER TABLE CARDS DROP COLUMN version;
@@ -0,0 +1,12 @@
+--liquibase formatted sql
+--changeset junior:202610181100
+--comment: add denormalized cards_amount counter to boards_columns
+
+ALTER TABLE BOARDS_COLUMNS ADD COLUMN cards_amount INT NOT NULL DEFAULT 0;
+
+UPDATE BOARDS_COLUMNS bc
+   SET cards_amount = (SELECT COUNT(c.id)
+                         FROM CARDS c
+                        WHERE c.board_column_id = bc.id);
+
+--rollback ALTER TABLE BOARDS_COLUMNS DROP COLUMN cards_amount;
@@ -0,0 +1,7 @@
+--liquibase formatted sql
+--changeset junior:202610181200
+--comment: covering index for open block lookup and block count per card
+
+CREATE INDEX idx_blocks_card_id_unblocked_at ON BLOCKS (card_id, unblocked_at);
+
+--rollback DROP INDEX idx_blocks_card_id_unblocked_at ON BLOCKS;
@@ -0,0 +1,9 @@
+--liquibase formatted sql
+--changeset junior:202610181300
+--comment: indexes for column card scans ordered by id and column lookup by board and kind
+
+CREATE INDEX idx_cards_board_column_id_id ON CARDS (board_column_id, id);
+CREATE INDEX idx_boards_columns_board_id_kind ON BOARDS_COLUMNS (board_id, kind);
+
+--rollback DROP INDEX idx_boards_columns_board_id_kind ON BOARDS_COLUMNS;
+--rollback DROP INDEX idx_cards_board_column_id_id ON CARDS;
@@ -0,0 +1,11 @@
+--liquibase formatted sql
+--changeset junior:202610181400
+--comment: schema fingerprint used to skip liquibase on startup when nothing is pending
+
+CREATE TABLE SCHEMA_FINGERPRINT(
+    id INT PRIMARY KEY,
+    checksum VARCHAR(64) NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+) ENGINE=InnoDB;
+
+--rollback DROP TABLE SCHEMA_FINGERPRINT
@@ -0,0 +1,35 @@
+--liquibase formatted sql
+--changeset junior:202610181500
+--comment: append-only card events log, backfilled with a BACKFILLED event for the existing cards and a BLOCKED event for their open blocks
+
+CREATE TABLE CARD_EVENTS(
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    card_id BIGINT NOT NULL,
+    board_id BIGINT NOT NULL,
+    event_type VARCHAR(10) NOT NULL,
+    previous_column_id BIGINT NULL,
+    column_id BIGINT NOT NULL,
+    reason VARCHAR(255) NULL,
+    occurred_at TIMESTAMP NOT NULL,
+    INDEX idx_card_events_card_id_id (card_id, id),
+    INDEX idx_card_events_board_id_id (board_id, id)
+) ENGINE=InnoDB;
+
+INSERT INTO CARD_EVENTS (card_id, board_id, event_type, column_id, occurred_at)
+SELECT c.id, bc.board_id, 'BACKFILLED', c.board_column_id, CURRENT_TIMESTAMP
+  FROM CARDS c
+ INNER JOIN BOARDS_COLUMNS bc
+    ON bc.id = c.board_column_id
+ ORDER BY c.id;
+
+INSERT INTO CARD_EVENTS (card_id, board_id, event_type, column_id, reason, occurred_at)
+SELECT c.id, bc.board_id, 'BLOCKED', c.board_column_id, b.block_reason, b.blocked_at
+  FROM BLOCKS b
+ INNER JOIN CARDS c
+    ON c.id = b.card_id
+ INNER JOIN BOARDS_COLUMNS bc
+    ON bc.id = c.board_column_id
+ WHERE b.unblocked_at IS NULL
+ ORDER BY b.id;
+
+--rollback DROP TABLE CARD_EVENTS
@@ -0,0 +1,74 @@
+package br.com.dio.http;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JsonReaderTest {
+
+    @Test
+    void readsFlatObjectValuesAsText() {
+        var values = JsonReader.readObject("""
+                { "name": "Board", "amount": 42, "active": true, "parent": null }
+                """);
+        var expected = new HashMap<String, String>();
+        expected.put("name", "Board");
+        expected.put("amount", "42");
+        expected.put("active", "true");
+        expected.put("parent", null);
+        assertEquals(expected, values);
+    }
+
+    @Test
+    void blankBodyIsEmptyObject() {
+        assertTrue(JsonReader.readObject(null).isEmpty());
+        assertTrue(JsonReader.readObject("  ").isEmpty());
+        assertTrue(JsonReader.readObject("{}").isEmpty());
+    }
+
+    @Test
+    void decodesEscapes() {
+        var values = JsonReader.readObject("{\"text\": \"a\\\"b\\\\c\\/d\\n\\t\\u00e7\\u00C3\"}");
+        assertEquals(Map.of("text", "a\"b\\c/d\n\tçÃ"), values);
+    }
+
+    @Test
+    void rejectsContentAfterObject() {
+        assertThrows(IllegalArgumentException.class, () -> JsonReader.readObject("{\"a\": 1} {\"b\": 2}"));
+        assertThrows(IllegalArgumentException.class, () -> JsonReader.readObject("{\"a\": 1}x"));
+    }
+
+    @Test
+    void rejectsTrailingBackslash() {
+        assertThrows(IllegalArgumentException.class, () -> JsonReader.readObject("{\"a\": \"b\\"));
+    }
+
+    @Test
+    void rejectsTruncatedUnicodeEscape() {
+        assertThrows(IllegalArgumentException.class, () -> JsonReader.readObject("{\"a\": \"\\u00"));
+    }
+
+    @Test
+    void rejectsNonHexUnicodeEscape() {
+        assertThrows(IllegalArgumentException.class, () -> JsonReader.readObject("{\"a\": \"\\u00zz\"}"));
+    }
+
+    @Test
+    void rejectsUnknownEscape() {
+        assertThrows(IllegalArgumentException.class, () -> JsonReader.readObject("{\"a\": \"\\x\"}"));
+    }
+
+    @Test
+    void rejectsUnterminatedTextAndNestedValues() {
+        assertThrows(IllegalArgumentException.class, () -> JsonReader.readObject("{\"a\": \"b"));
+        assertThrows(IllegalArgumentException.class, () -> JsonReader.readObject("{\"a\": {\"b\": 1}}"));
+        assertThrows(IllegalArgumentException.class, () -> JsonReader.readObject("{\"a\": [1]}"));
+        assertThrows(IllegalArgumentException.class, () -> JsonReader.readObject("{\"a\": 1"));
+    }
+
+}
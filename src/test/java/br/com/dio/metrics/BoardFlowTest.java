@@ -0,0 +1,169 @@
+package br.com.dio.metrics;
+
+import br.com.dio.dto.CardEventDTO;
+import br.com.dio.dto.ColumnWipDTO;
+import br.com.dio.dto.DailyThroughputDTO;
+import br.com.dio.persistence.entity.BoardColumnEntity;
+import br.com.dio.persistence.entity.BoardColumnKindEnum;
+import br.com.dio.persistence.entity.CardEventTypeEnum;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static br.com.dio.persistence.entity.BoardColumnKindEnum.CANCEL;
+import static br.com.dio.persistence.entity.BoardColumnKindEnum.FINAL;
+import static br.com.dio.persistence.entity.BoardColumnKindEnum.INITIAL;
+import static br.com.dio.persistence.entity.BoardColumnKindEnum.PENDING;
+import static br.com.dio.persistence.entity.CardEventTypeEnum.BACKFILLED;
+import static br.com.dio.persistence.entity.CardEventTypeEnum.BLOCKED;
+import static br.com.dio.persistence.entity.CardEventTypeEnum.CANCELLED;
+import static br.com.dio.persistence.entity.CardEventTypeEnum.CREATED;
+import static br.com.dio.persistence.entity.CardEventTypeEnum.DELETED;
+import static br.com.dio.persistence.entity.CardEventTypeEnum.MOVED;
+import static br.com.dio.persistence.entity.CardEventTypeEnum.UNBLOCKED;
+import static java.time.ZoneOffset.UTC;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BoardFlowTest {
+
+    private static final long BOARD_ID = 1;
+    private static final long TODO = 10;
+    private static final long DOING = 20;
+    private static final long DONE = 30;
+    private static final long CANCELED = 40;
+    private static final OffsetDateTime START = OffsetDateTime.of(2024, 3, 1, 8, 0, 0, 0, UTC);
+
+    private final BoardFlow flow = new BoardFlow(BOARD_ID, List.of(
+            column(TODO, "A fazer", INITIAL),
+            column(DOING, "Fazendo", PENDING),
+            column(DONE, "Feito", FINAL),
+            column(CANCELED, "Cancelado", CANCEL)));
+    private long nextEventId = 1;
+
+    private static BoardColumnEntity column(final long id, final String name, final BoardColumnKindEnum kind) {
+        var column = new BoardColumnEntity();
+        column.setId(id);
+        column.setName(name);
+        column.setKind(kind);
+        return column;
+    }
+
+    private void apply(final long cardId, final CardEventTypeEnum type, final Long previousColumnId,
+                       final long columnId, final long secondsAfterStart) {
+        flow.apply(new CardEventDTO(nextEventId++, cardId, BOARD_ID, type, previousColumnId, columnId, null,
+                START.plusSeconds(secondsAfterStart)));
+    }
+
+    private static List<Integer> wip(final List<ColumnWipDTO> columns) {
+        return columns.stream().map(ColumnWipDTO::cardsAmount).toList();
+    }
+
+    @Test
+    void tracksWipPerColumn() {
+        apply(1, CREATED, null, TODO, 0);
+        apply(2, CREATED, null, TODO, 0);
+        apply(3, CREATED, null, TODO, 0);
+        apply(1, MOVED, TODO, DOING, 10);
+        apply(2, CANCELLED, TODO, CANCELED, 20);
+        apply(3, DELETED, null, TODO, 30);
+
+        var metrics = flow.snapshot(START.plusSeconds(60));
+        assertEquals(List.of(0, 1, 0, 1), wip(metrics.wip()));
+        assertEquals(6, flow.getLastEventId());
+    }
+
+    @Test
+    void measuresLeadAndCycleTime() {
+        apply(1, CREATED, null, TODO, 0);
+        apply(1, MOVED, TODO, DOING, 100);
+        apply(1, MOVED, DOING, DONE, 400);
+
+        var metrics = flow.snapshot(START.plusSeconds(500));
+        assertEquals(1, metrics.leadTime().count());
+        assertEquals(400, metrics.leadTime().maxSeconds());
+        assertEquals(1, metrics.cycleTime().count());
+        assertEquals(300, metrics.cycleTime().maxSeconds());
+    }
+
+    @Test
+    void cardCreatedOutsideInitialColumnStartsAtCreation() {
+        apply(1, CREATED, null, DOING, 0);
+        apply(1, MOVED, DOING, DONE, 250);
+
+        var metrics = flow.snapshot(START.plusSeconds(300));
+        assertEquals(250, metrics.leadTime().maxSeconds());
+        assertEquals(250, metrics.cycleTime().maxSeconds());
+    }
+
+    @Test
+    void backfilledCardsHaveNoLeadTime() {
+        apply(1, BACKFILLED, null, TODO, 0);
+        apply(2, BACKFILLED, null, DOING, 0);
+        apply(1, MOVED, TODO, DOING, 100);
+        apply(1, MOVED, DOING, DONE, 160);
+        apply(2, MOVED, DOING, DONE, 200);
+
+        var metrics = flow.snapshot(START.plusSeconds(300));
+        assertEquals(0, metrics.leadTime().count());
+        assertEquals(1, metrics.cycleTime().count());
+        assertEquals(60, metrics.cycleTime().maxSeconds());
+        assertEquals(2, metrics.throughput().get(BoardFlow.THROUGHPUT_DAYS - 1).finishedCards());
+    }
+
+    @Test
+    void countsFinishedCardsPerDayInsideTheWindow() {
+        apply(1, CREATED, null, TODO, 0);
+        apply(2, CREATED, null, TODO, 0);
+        apply(3, CREATED, null, TODO, 0);
+        apply(1, MOVED, TODO, DONE, 60);
+        apply(2, MOVED, TODO, DONE, 86_400);
+        apply(3, MOVED, TODO, DONE, 86_400 + 60);
+
+        var throughput = flow.snapshot(START.plusDays(1)).throughput();
+        assertEquals(BoardFlow.THROUGHPUT_DAYS, throughput.size());
+        assertEquals(new DailyThroughputDTO(START.toLocalDate(), 1), throughput.get(BoardFlow.THROUGHPUT_DAYS - 2));
+        assertEquals(new DailyThroughputDTO(START.toLocalDate().plusDays(1), 2), throughput.get(BoardFlow.THROUGHPUT_DAYS - 1));
+
+        var later = flow.snapshot(START.plusDays(BoardFlow.THROUGHPUT_DAYS + 5)).throughput();
+        assertEquals(0, later.stream().mapToInt(DailyThroughputDTO::finishedCards).sum());
+    }
+
+    @Test
+    void throughputDayDoesNotDependOnTheOffsetOfNow() {
+        apply(1, CREATED, null, TODO, 0);
+        apply(1, MOVED, TODO, DONE, 60);
+
+        var now = START.plusHours(1);
+        var inUtc = flow.snapshot(now);
+        var inOtherOffset = flow.snapshot(now.withOffsetSameInstant(ZoneOffset.ofHours(-10)));
+        assertEquals(inUtc, inOtherOffset);
+    }
+
+    @Test
+    void accumulatesOpenAndClosedBlockedTime() {
+        apply(1, CREATED, null, TODO, 0);
+        apply(2, CREATED, null, TODO, 0);
+        apply(1, BLOCKED, null, TODO, 10);
+        apply(1, BLOCKED, null, TODO, 20);
+        apply(2, BLOCKED, null, TODO, 30);
+        apply(2, UNBLOCKED, null, TODO, 70);
+
+        var metrics = flow.snapshot(START.plusSeconds(100));
+        assertEquals(1, metrics.blockedCards());
+        assertEquals(40 + 90, metrics.blockedSeconds());
+    }
+
+    @Test
+    void leavingTheBoardClosesTheBlock() {
+        apply(1, CREATED, null, TODO, 0);
+        apply(1, BLOCKED, null, TODO, 10);
+        apply(1, CANCELLED, TODO, CANCELED, 40);
+
+        var metrics = flow.snapshot(START.plusSeconds(1_000));
+        assertEquals(0, metrics.blockedCards());
+        assertEquals(30, metrics.blockedSeconds());
+    }
+
+}
@@ -0,0 +1,57 @@
+package br.com.dio.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import static java.time.ZoneOffset.UTC;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventWatermarkTest {
+
+    private static final OffsetDateTime NOW = OffsetDateTime.of(2024, 3, 1, 12, 0, 0, 0, UTC);
+
+    private final EventWatermark watermark = new EventWatermark(Duration.ofMinutes(5));
+
+    @Test
+    void advancesThroughContiguousIds() {
+        assertTrue(watermark.advance(1, NOW, NOW));
+        assertTrue(watermark.advance(2, NOW, NOW));
+        assertTrue(watermark.advance(3, NOW, NOW));
+        assertEquals(3, watermark.getSettledId());
+    }
+
+    @Test
+    void stopsAtRecentGap() {
+        watermark.advance(1, NOW, NOW);
+        assertFalse(watermark.advance(3, NOW.minusMinutes(1), NOW));
+        assertEquals(1, watermark.getSettledId());
+    }
+
+    @Test
+    void passesGapOnceTheNextEventIsOlderThanTheTimeout() {
+        watermark.advance(1, NOW, NOW);
+        assertTrue(watermark.advance(3, NOW.minusMinutes(6), NOW));
+        assertEquals(3, watermark.getSettledId());
+    }
+
+    @Test
+    void comparesInstantsRegardlessOfOffset() {
+        watermark.advance(1, NOW, NOW);
+        var recentInOtherOffset = NOW.minusMinutes(1).atZoneSameInstant(ZoneOffset.ofHours(-3)).toOffsetDateTime();
+        assertFalse(watermark.advance(3, recentInOtherOffset, NOW));
+    }
+
+    @Test
+    void ignoresIdsAlreadySettled() {
+        watermark.advance(1, NOW, NOW);
+        watermark.advance(2, NOW, NOW);
+        assertTrue(watermark.advance(1, NOW, NOW));
+        assertEquals(2, watermark.getSettledId());
+    }
+
+}
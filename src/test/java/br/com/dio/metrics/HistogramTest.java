@@ -0,0 +1,81 @@
+package br.com.dio.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HistogramTest {
+
+    @Test
+    void emptyHistogramReportsZeros() {
+        var histogram = new Histogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getMean());
+        assertEquals(0, histogram.getValueAtQuantile(0.95));
+    }
+
+    @Test
+    void tracksCountSumMaxAndMean() {
+        var histogram = new Histogram();
+        histogram.record(10);
+        histogram.record(20);
+        histogram.record(60);
+        assertEquals(3, histogram.getCount());
+        assertEquals(90, histogram.getSum());
+        assertEquals(60, histogram.getMax());
+        assertEquals(30.0, histogram.getMean());
+    }
+
+    @Test
+    void quantilesRoundUpToTheBucketAndNeverExceedMax() {
+        var histogram = new Histogram();
+        for (long value = 1; value <= 100; value++) {
+            histogram.record(value);
+        }
+        assertEquals(1, histogram.getValueAtQuantile(0));
+        assertEquals(50, histogram.getValueAtQuantile(0.50));
+        assertEquals(95, histogram.getValueAtQuantile(0.95));
+        assertEquals(100, histogram.getValueAtQuantile(1));
+    }
+
+    @Test
+    void largeValuesStayWithinRelativeError() {
+        var histogram = new Histogram();
+        histogram.record(1_000_000);
+        histogram.record(3_000_000);
+        var p50 = histogram.getValueAtQuantile(0.50);
+        assertTrue(p50 >= 1_000_000 && p50 <= 1_000_000 * 1.04, "p50 = " + p50);
+        assertEquals(3_000_000, histogram.getValueAtQuantile(1));
+    }
+
+    @Test
+    void negativeValuesCountAsZero() {
+        var histogram = new Histogram();
+        histogram.record(-5);
+        assertEquals(1, histogram.getCount());
+        assertEquals(0, histogram.getSum());
+        assertEquals(1, histogram.getCountAtOrBelow(0));
+    }
+
+    @Test
+    void countsValuesAtOrBelow() {
+        var histogram = new Histogram();
+        for (long value = 0; value < 32; value++) {
+            histogram.record(value);
+        }
+        assertEquals(11, histogram.getCountAtOrBelow(10));
+        assertEquals(32, histogram.getCountAtOrBelow(1_000));
+    }
+
+    @Test
+    void everyValueFitsInsideItsBucket() {
+        for (var value : new long[]{0, 31, 32, 63, 64, 65, 1_000, 1L << 40, Long.MAX_VALUE}) {
+            var bucket = Histogram.bucketOf(value);
+            assertTrue(Histogram.upperBoundOf(bucket) >= value, "valor " + value);
+            assertTrue(bucket == 0 || Histogram.upperBoundOf(bucket - 1) < value, "valor " + value);
+        }
+    }
+
+}
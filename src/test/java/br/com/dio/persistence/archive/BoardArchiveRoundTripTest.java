@@ -0,0 +1,115 @@
+package br.com.dio.persistence.archive;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static br.com.dio.persistence.entity.BoardColumnKindEnum.FINAL;
+import static br.com.dio.persistence.entity.BoardColumnKindEnum.INITIAL;
+import static java.time.ZoneOffset.UTC;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BoardArchiveRoundTripTest {
+
+    @TempDir
+    Path dir;
+
+    private static List<BoardArchiveRecord> readAll(final Path path) throws IOException {
+        List<BoardArchiveRecord> records = new ArrayList<>();
+        try (var reader = BoardArchiveReader.open(path)) {
+            BoardArchiveRecord record;
+            while ((record = reader.next()) != null) {
+                records.add(record);
+            }
+            assertNull(reader.next());
+        }
+        return records;
+    }
+
+    @Test
+    void readsBackEveryRecordInOrder() throws IOException {
+        var path = dir.resolve("board.kbrd");
+        var blockedAt = OffsetDateTime.of(2024, 3, 1, 10, 0, 0, 0, UTC);
+        try (var writer = BoardArchiveWriter.create(path)) {
+            writer.writeBoard("Projeto ação");
+            writer.writeColumn(1, "Inicial", 0, INITIAL);
+            writer.writeColumn(2, "Concluído", 1, FINAL);
+            writer.writeCard(10, 1, "Deploy", null);
+            writer.writeBlock(blockedAt, "aguardando", null, null);
+            writer.writeCard(11, 2, "Revisar", "descrição");
+            writer.finish();
+            assertEquals(2, writer.getColumns());
+            assertEquals(2, writer.getCards());
+            assertEquals(1, writer.getBlocks());
+        }
+
+        assertEquals(List.of(
+                new BoardArchiveRecord.Board("Projeto ação"),
+                new BoardArchiveRecord.Column(1, "Inicial", 0, INITIAL),
+                new BoardArchiveRecord.Column(2, "Concluído", 1, FINAL),
+                new BoardArchiveRecord.Card(10, 1, "Deploy", null),
+                new BoardArchiveRecord.Block(blockedAt, "aguardando", null, null),
+                new BoardArchiveRecord.Card(11, 2, "Revisar", "descrição")
+        ), readAll(path));
+    }
+
+    @Test
+    void readsExportLargerThanTheBuffer() throws IOException {
+        var path = dir.resolve("large.kbrd");
+        var description = "x".repeat(1000);
+        var amount = 500;
+        try (var writer = BoardArchiveWriter.create(path)) {
+            writer.writeBoard("Grande");
+            writer.writeColumn(1, "Inicial", 0, INITIAL);
+            for (long id = 1; id <= amount; id++) {
+                writer.writeCard(id, 1, "Card " + id, description);
+            }
+            writer.finish();
+        }
+        assertTrue(Files.size(path) > BoardArchiveFormat.BUFFER_SIZE);
+
+        var records = readAll(path);
+        assertEquals(amount + 2, records.size());
+        assertEquals(new BoardArchiveRecord.Card(amount, 1, "Card " + amount, description), records.get(records.size() - 1));
+    }
+
+    @Test
+    void rejectsExportClosedWithoutFinish() throws IOException {
+        var path = dir.resolve("partial.kbrd");
+        var description = "x".repeat(1000);
+        try (var writer = BoardArchiveWriter.create(path)) {
+            writer.writeBoard("Incompleto");
+            for (long id = 1; id <= 100; id++) {
+                writer.writeCard(id, 1, "Card " + id, description);
+            }
+        }
+
+        try (var reader = BoardArchiveReader.open(path)) {
+            var ex = assertThrows(EOFException.class, () -> {
+                while (reader.next() != null) {
+                    // consome até o fim do arquivo
+                }
+            });
+            assertTrue(ex.getMessage().contains("terminou antes do registro final"));
+        }
+    }
+
+    @Test
+    void rejectsFileThatIsNotAnExport() throws IOException {
+        var path = dir.resolve("other.txt");
+        Files.writeString(path, "não é um export");
+        var ex = assertThrows(IOException.class, () -> BoardArchiveReader.open(path));
+        assertEquals("O arquivo informado não é um export de board", ex.getMessage());
+    }
+
+}
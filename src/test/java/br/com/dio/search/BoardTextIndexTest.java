@@ -0,0 +1,102 @@
+package br.com.dio.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BoardTextIndexTest {
+
+    private final BoardTextIndex index = new BoardTextIndex();
+
+    private void add(final long cardId, final String text) {
+        index.add(cardId, Tokenizer.terms(text));
+    }
+
+    private long[] search(final String query, final int limit) {
+        return index.search(Tokenizer.query(query), limit);
+    }
+
+    @Test
+    void returnsMatchesFromMostRecent() {
+        add(1, "deploy da api");
+        add(2, "revisar deploy");
+        add(3, "outra coisa");
+        add(4, "deploy do front");
+        assertArrayEquals(new long[]{4, 2, 1}, search("deploy", 10));
+    }
+
+    @Test
+    void requiresAllTerms() {
+        add(1, "deploy da api");
+        add(2, "deploy do front");
+        add(3, "api de pagamentos");
+        assertArrayEquals(new long[]{1}, search("api deploy", 10));
+        assertArrayEquals(new long[0], search("api inexistente", 10));
+    }
+
+    @Test
+    void stopsAtLimit() {
+        for (long id = 1; id <= 20; id++) {
+            add(id, "tarefa");
+        }
+        assertArrayEquals(new long[]{20, 19, 18}, search("tarefa", 3));
+        assertArrayEquals(new long[0], search("tarefa", 0));
+    }
+
+    @Test
+    void prefixMergesListsInDescendingOrderWithoutDuplicates() {
+        add(1, "relatorio");
+        add(2, "relato");
+        add(3, "relatorio relato");
+        add(4, "reuniao");
+        add(5, "relatar");
+        assertArrayEquals(new long[]{5, 3, 2, 1}, search("relat*", 10));
+    }
+
+    @Test
+    void prefixLimitCountsDistinctCards() {
+        add(1, "relato relatorio");
+        add(2, "relato relatorio");
+        add(3, "relato relatorio");
+        assertArrayEquals(new long[]{3, 2}, search("relat*", 2));
+    }
+
+    @Test
+    void prefixRangeDoesNotLeakIntoNeighbourTerms() {
+        add(1, "rel");
+        add(2, "relato");
+        add(3, "rem");
+        add(4, "re");
+        assertArrayEquals(new long[]{2, 1}, search("rel*", 10));
+    }
+
+    @Test
+    void combinesPrefixAndExactTerms() {
+        add(1, "relatorio mensal");
+        add(2, "relato semanal");
+        add(3, "relatorio semanal");
+        assertArrayEquals(new long[]{3, 2}, search("relat* semanal", 10));
+    }
+
+    @Test
+    void replaceDropsOldTerms() {
+        add(1, "titulo antigo");
+        index.replace(1, Tokenizer.terms("titulo novo"));
+        assertArrayEquals(new long[0], search("antigo", 10));
+        assertArrayEquals(new long[]{1}, search("novo", 10));
+    }
+
+    @Test
+    void removeDropsCardAndEmptyTerms() {
+        add(1, "unico");
+        add(2, "compartilhado");
+        add(3, "compartilhado");
+        index.remove(1);
+        index.remove(2);
+        assertArrayEquals(new long[0], search("unico", 10));
+        assertArrayEquals(new long[]{3}, search("compartilhado", 10));
+        assertEquals(1, index.termsAmount());
+    }
+
+}
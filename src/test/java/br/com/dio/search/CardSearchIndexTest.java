@@ -0,0 +1,55 @@
+package br.com.dio.search;
+
+import br.com.dio.dto.CardTextDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+class CardSearchIndexTest {
+
+    private final CardSearchIndex index = new CardSearchIndex();
+
+    @Test
+    void scopesSearchToTheBoardOfTheColumn() {
+        index.registerColumns(Map.of(10L, 1L, 20L, 2L));
+        index.index(new CardTextDTO(1, 10, "Deploy", "api"));
+        index.index(new CardTextDTO(2, 20, "Deploy", "front"));
+        assertArrayEquals(new long[]{1}, index.search(1, "deploy", 10));
+        assertArrayEquals(new long[]{2}, index.search(2, "deploy", 10));
+    }
+
+    @Test
+    void ignoresCardsOfUnknownColumns() {
+        index.index(new CardTextDTO(1, 10, "Deploy", "api"));
+        assertArrayEquals(new long[0], index.search(1, "deploy", 10));
+    }
+
+    @Test
+    void searchesTitleAndDescription() {
+        index.registerColumn(10, 1);
+        index.index(new CardTextDTO(1, 10, "Deploy", "revisar pagamentos"));
+        assertArrayEquals(new long[]{1}, index.search(1, "deploy pagamentos", 10));
+    }
+
+    @Test
+    void reindexAndRemoveFollowTheCard() {
+        index.registerColumn(10, 1);
+        index.index(new CardTextDTO(1, 10, "Antigo", null));
+        index.reindex(new CardTextDTO(1, 10, "Novo", null));
+        assertArrayEquals(new long[0], index.search(1, "antigo", 10));
+        assertArrayEquals(new long[]{1}, index.search(1, "novo", 10));
+        index.remove(10, 1);
+        assertArrayEquals(new long[0], index.search(1, "novo", 10));
+    }
+
+    @Test
+    void removeBoardDropsItsCards() {
+        index.registerColumn(10, 1);
+        index.index(new CardTextDTO(1, 10, "Deploy", null));
+        index.removeBoard(1);
+        assertArrayEquals(new long[0], index.search(1, "deploy", 10));
+    }
+
+}
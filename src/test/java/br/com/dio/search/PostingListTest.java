@@ -0,0 +1,80 @@
+package br.com.dio.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PostingListTest {
+
+    @Test
+    void appendsIncreasingIdsAndGrows() {
+        var list = new PostingList();
+        for (long id = 1; id <= 100; id++) {
+            list.add(id);
+        }
+        assertEquals(100, list.size());
+        assertEquals(1, list.get(0));
+        assertEquals(100, list.get(99));
+    }
+
+    @Test
+    void insertsOutOfOrderIdsSorted() {
+        var list = new PostingList();
+        list.add(10);
+        list.add(30);
+        list.add(20);
+        list.add(5);
+        assertArrayEquals(new long[]{5, 10, 20, 30}, list.toArray());
+    }
+
+    @Test
+    void ignoresDuplicates() {
+        var list = new PostingList();
+        list.add(10);
+        list.add(20);
+        list.add(10);
+        list.add(20);
+        assertArrayEquals(new long[]{10, 20}, list.toArray());
+    }
+
+    @Test
+    void removesFromAnyPosition() {
+        var list = new PostingList();
+        for (long id : new long[]{1, 2, 3, 4, 5}) {
+            list.add(id);
+        }
+        assertTrue(list.remove(1));
+        assertTrue(list.remove(3));
+        assertTrue(list.remove(5));
+        assertFalse(list.remove(3));
+        assertArrayEquals(new long[]{2, 4}, list.toArray());
+        assertTrue(list.contains(4));
+        assertFalse(list.contains(5));
+    }
+
+    @Test
+    void becomesEmptyAfterRemovingEverything() {
+        var list = new PostingList();
+        list.add(7);
+        list.remove(7);
+        assertTrue(list.isEmpty());
+        list.trimToSize();
+        list.add(8);
+        assertArrayEquals(new long[]{8}, list.toArray());
+    }
+
+    @Test
+    void keepsWorkingAfterTrim() {
+        var list = new PostingList();
+        list.add(1);
+        list.add(2);
+        list.trimToSize();
+        list.add(4);
+        list.add(3);
+        assertArrayEquals(new long[]{1, 2, 3, 4}, list.toArray());
+    }
+
+}
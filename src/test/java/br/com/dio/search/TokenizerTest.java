@@ -0,0 +1,53 @@
+package br.com.dio.search;
+
+import br.com.dio.search.Tokenizer.QueryTerm;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenizerTest {
+
+    @Test
+    void splitsOnNonAlphanumericAndLowercases() {
+        assertEquals(List.of("corrigir", "bug", "42", "no", "login"),
+                List.copyOf(Tokenizer.terms("Corrigir bug #42 no LOGIN!")));
+    }
+
+    @Test
+    void removesAccents() {
+        assertEquals(Set.of("relatorio", "mensal", "acao"), Tokenizer.terms("Relatório mensal: ação"));
+    }
+
+    @Test
+    void dropsRepeatedTerms() {
+        assertEquals(List.of("deploy", "hoje"), List.copyOf(Tokenizer.terms("deploy Deploy hoje DEPLOY")));
+    }
+
+    @Test
+    void truncatesLongTerms() {
+        var term = Tokenizer.terms("a".repeat(Tokenizer.MAX_TERM_LENGTH + 10)).iterator().next();
+        assertEquals(Tokenizer.MAX_TERM_LENGTH, term.length());
+    }
+
+    @Test
+    void nullTextHasNoTerms() {
+        assertTrue(Tokenizer.terms(null).isEmpty());
+        assertTrue(Tokenizer.query(null).isEmpty());
+    }
+
+    @Test
+    void marksTermsFollowedByAsteriskAsPrefix() {
+        assertEquals(List.of(new QueryTerm("relat", true), new QueryTerm("mensal", false)),
+                Tokenizer.query("Relat* mensal"));
+    }
+
+    @Test
+    void asteriskSeparatedFromTermIsNotPrefix() {
+        assertEquals(List.of(new QueryTerm("relat", false)), Tokenizer.query("relat *"));
+    }
+
+}